@@ -0,0 +1,35 @@
+#!/usr/bin/env bash
+# 기동 시간과 첫 요청 지연을 측정합니다. (docs/fast-startup.md 의 표를 만든 스크립트)
+# 사용: scripts/measure-startup.sh <이름> <실행 명령...>
+#   예) scripts/measure-startup.sh bootRun ./gradlew bootRun -q
+#       scripts/measure-startup.sh fast scripts/start-fast.sh
+# 서버는 8080 포트로 떠야 하며, 측정 후 종료합니다.
+set -uo pipefail
+
+NAME="$1"; shift
+URL="${URL:-http://localhost:8080/api/v1/health}"
+LOG="$(mktemp)"
+
+start=$(date +%s%N)
+"$@" > "$LOG" 2>&1 &
+pid=$!
+
+# 기동 완료 로그를 기다린 뒤, 첫 요청(DispatcherServlet 초기화와 요청 경로의 클래스 로딩 포함)과 두 번째 요청의 지연을 잽니다.
+until grep -q 'Started BackendApplication in' "$LOG"; do
+  if ! kill -0 "$pid" 2>/dev/null; then
+    echo "$NAME: 기동 실패 (로그: $LOG)" >&2
+    exit 1
+  fi
+  sleep 0.05
+done
+ready=$(date +%s%N)
+
+first=$(curl -s -o /dev/null -w '%{time_total}' "$URL")
+second=$(curl -s -o /dev/null -w '%{time_total}' "$URL")
+started=$(grep -o 'Started BackendApplication in [0-9.]* seconds' "$LOG" | grep -o '[0-9.]*' | head -n 1)
+
+pkill -P "$pid" 2>/dev/null; kill "$pid" 2>/dev/null; wait "$pid" 2>/dev/null
+
+awk -v n="$NAME" -v s="${started:-?}" -v w="$(( (ready - start) / 1000000 ))" -v f="$first" -v t="$second" \
+  'BEGIN { printf "%s\tStarted in %ss\tprocess→ready %dms\tfirst request %.0fms\tsecond request %.0fms\n", n, s, w, f * 1000, t * 1000 }'
+rm -f "$LOG"
@@ -0,0 +1,22 @@
+#!/usr/bin/env bash
+# 빠른 기동 런처: Spring AOT 처리 결과 + CDS 아카이브로 실행합니다.
+# 준비: ./gradlew fastStartup   (build/fast-startup 에 jar, lib/, app.jsa 생성)
+# 실행: scripts/start-fast.sh [--server.port=8081 ...]
+#
+# - AOT는 빌드 시점의 'fast' 프로필로 Bean 구성을 고정합니다. 프로퍼티만 바꾸는 프로필(prod 등)은
+#   SPRING_PROFILES_ACTIVE=fast,prod 처럼 추가할 수 있지만, Bean 조건(@ConditionalOnProperty)은 바뀌지 않습니다.
+# - CDS 아카이브는 만든 JDK와 jar 경로가 같아야 사용됩니다. 다르면 JVM이 경고 후 아카이브 없이 기동합니다.
+set -euo pipefail
+
+APP_DIR="${APP_DIR:-$(cd "$(dirname "$0")/.." && pwd)/build/fast-startup}"
+JAVA="${JAVA_HOME:+$JAVA_HOME/bin/}java"
+APP_JAR="$(find "$APP_DIR" -maxdepth 1 -name '*.jar' | head -n 1)"
+
+if [[ -z "$APP_JAR" || ! -f "$APP_DIR/app.jsa" ]]; then
+  echo "빠른 기동 산출물이 없습니다. 먼저 ./gradlew fastStartup 을 실행하세요. ($APP_DIR)" >&2
+  exit 1
+fi
+
+# shellcheck disable=SC2086
+exec "$JAVA" -XX:SharedArchiveFile="$APP_DIR/app.jsa" -Dspring.aot.enabled=true ${JAVA_OPTS:-} \
+  -jar "$APP_JAR" --spring.profiles.active="${SPRING_PROFILES_ACTIVE:-fast}" "$@"
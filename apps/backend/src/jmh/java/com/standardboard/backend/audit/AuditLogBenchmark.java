@@ -0,0 +1,69 @@
+package com.standardboard.backend.audit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * RingBufferAuditLog.record 벤치마크 (요청 스레드가 감사 이벤트 한 건에 쓰는 비용)
+ *
+ * 실제 세그먼트 기록 스레드를 함께 돌리고, 버퍼가 가득 차면 바로 버리는(drop) 정책으로
+ * 생산자 쪽 비용만 잽니다. 버린 건수는 audit.events{outcome=dropped}로 확인합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AuditLogBenchmark {
+
+    @Param({"drop", "block"})
+    public String fullPolicy;
+
+    private Path directory;
+    private SimpleMeterRegistry meterRegistry;
+    private RingBufferAuditLog auditLog;
+
+    @Setup
+    public void setUp() throws Exception {
+        directory = Files.createTempDirectory("audit-bench");
+        meterRegistry = new SimpleMeterRegistry();
+        auditLog = new RingBufferAuditLog(directory.toString(), 8192, fullPolicy, 5, 512,
+                64L * 1024 * 1024, 4, 1000, meterRegistry);
+        auditLog.start();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        auditLog.close();
+        double published = meterRegistry.get("audit.events").tag("outcome", "published").counter().count();
+        double dropped = meterRegistry.get("audit.events").tag("outcome", "dropped").counter().count();
+        System.out.printf("%n[audit] published=%.0f dropped=%.0f%n", published, dropped);
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public void record() {
+        auditLog.record(AuditEventType.LOGIN_SUCCESS, AuditReason.NONE, 42L, "bench@test.com");
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void record_4threads() {
+        auditLog.record(AuditEventType.LOGIN_SUCCESS, AuditReason.NONE, 42L, "bench@test.com");
+    }
+}
@@ -0,0 +1,92 @@
+package com.standardboard.backend.auth.jwt;
+
+import com.standardboard.backend.domain.user.Role;
+import com.standardboard.backend.domain.user.User;
+import com.standardboard.backend.service.auth.CustomUserDetailsService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter.doFilterInternal 벤치마크
+ *
+ * 사용자 조회는 DB 없이 고정된 User를 돌려주도록 대체하여, 필터 자체 비용(헤더 파싱, JWT 검증,
+ * 인증 객체 생성)만 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    @Param({"VALID", "NONE", "INVALID_SIGNATURE"})
+    public String tokenState;
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private final FilterChain filterChain = (req, res) -> {
+    };
+
+    @Setup
+    public void setUp() {
+        JwtTokenProvider tokenProvider = JwtBenchmarkSupport.newProvider();
+        User user = User.builder()
+                .email(JwtBenchmarkSupport.EMAIL)
+                .password("encoded")
+                .nickname("bench")
+                .role(Role.USER)
+                .build();
+        filter = new JwtAuthenticationFilter(tokenProvider, new FixedUserDetailsService(user), JwtBenchmarkSupport.NO_AUDIT);
+
+        String token = tokenProvider.generateToken(JwtBenchmarkSupport.EMAIL, Role.USER);
+        request = new MockHttpServletRequest("GET", "/api/v1/boards/1/trending");
+        switch (tokenState) {
+            case "VALID" -> request.addHeader(JwtAuthenticationFilter.HEADER_STRING, JwtAuthenticationFilter.TOKEN_PREFIX + token);
+            case "INVALID_SIGNATURE" -> request.addHeader(JwtAuthenticationFilter.HEADER_STRING,
+                    JwtAuthenticationFilter.TOKEN_PREFIX + JwtBenchmarkSupport.tamper(token));
+            default -> {
+            }
+        }
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public Object doFilterInternal() throws Exception {
+        try {
+            filter.doFilterInternal(request, response, filterChain);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    /**
+     * DB 조회 대신 고정된 사용자를 반환하는 UserDetailsService
+     */
+    private static final class FixedUserDetailsService extends CustomUserDetailsService {
+        private final User user;
+
+        FixedUserDetailsService(User user) {
+            super(null, new SimpleMeterRegistry());
+            this.user = user;
+        }
+
+        @Override
+        public UserDetails loadUserByUsername(String email) {
+            return user;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.standardboard.backend.auth.jwt;
+
+import com.standardboard.backend.audit.AuditLog;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * JWT 벤치마크 공통 설정
+ */
+final class JwtBenchmarkSupport {
+
+    // application.properties 의 app.jwt.* 값과 동일하게 맞춥니다.
+    static final String SECRET_KEY = "asdfasdfasdfasdfqwwe12312f1312easdfafasdfasdfasrfasdf123123adsfasdf123";
+    static final long EXPIRATION_IN_MS = 3_600_000L;
+
+    static final String EMAIL = "bench@test.com";
+
+    // 감사 로그 기록 비용은 AuditLogBenchmark에서 따로 측정합니다.
+    static final AuditLog NO_AUDIT = (type, reason, userId, subject) -> {
+    };
+
+    private JwtBenchmarkSupport() {
+    }
+
+    static JwtTokenProvider newProvider() {
+        // 지표 기록 비용까지 포함해 측정합니다.
+        return new JwtTokenProvider(SECRET_KEY, EXPIRATION_IN_MS, NO_AUDIT, new SimpleMeterRegistry());
+    }
+
+    // 서명 마지막 글자를 바꿔 위변조된 토큰을 만듭니다.
+    static String tamper(String token) {
+        char last = token.charAt(token.length() - 1);
+        return token.substring(0, token.length() - 1) + (last == 'A' ? 'B' : 'A');
+    }
+}
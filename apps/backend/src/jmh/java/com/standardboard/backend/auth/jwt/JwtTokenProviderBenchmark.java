@@ -0,0 +1,57 @@
+package com.standardboard.backend.auth.jwt;
+
+import com.standardboard.backend.domain.user.Role;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtTokenProvider 벤치마크
+ *
+ * 인증이 필요한 모든 요청은 validateToken + getClaimsFromToken 을 거치므로(현재 파싱 2회),
+ * 이 두 값의 합이 요청당 JWT 비용입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider tokenProvider;
+    private String validToken;
+    private String tamperedToken;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = JwtBenchmarkSupport.newProvider();
+        validToken = tokenProvider.generateToken(JwtBenchmarkSupport.EMAIL, Role.USER);
+        tamperedToken = JwtBenchmarkSupport.tamper(validToken);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenProvider.generateToken(JwtBenchmarkSupport.EMAIL, Role.USER);
+    }
+
+    @Benchmark
+    public Claims getClaimsFromToken() {
+        return tokenProvider.getClaimsFromToken(validToken);
+    }
+
+    @Benchmark
+    public boolean validateToken_valid() {
+        return tokenProvider.validateToken(validToken);
+    }
+
+    // 실패 경로: 예외 생성 비용 포함 (로그 출력은 logback 설정으로 제외)
+    @Benchmark
+    public boolean validateToken_invalidSignature() {
+        return tokenProvider.validateToken(tamperedToken);
+    }
+}
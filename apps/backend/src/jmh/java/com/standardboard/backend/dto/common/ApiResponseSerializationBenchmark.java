@@ -0,0 +1,57 @@
+package com.standardboard.backend.dto.common;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.standardboard.backend.domain.user.Role;
+import com.standardboard.backend.dto.auth.LoginResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 응답(ApiResponse&lt;LoginResponse&gt;) Jackson 직렬화 벤치마크
+ *
+ * ObjectMapper는 Spring MVC와 같은 기본 설정(Jackson2ObjectMapperBuilder)으로 만듭니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ApiResponseSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private ObjectWriter typedWriter;
+    private ApiResponse<LoginResponse> response;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        typedWriter = objectMapper.writerFor(new TypeReference<ApiResponse<LoginResponse>>() {
+        });
+        response = ApiResponse.success(LoginResponse.builder()
+                .userId(1L)
+                .email("bench@test.com")
+                .nickname("bench")
+                .role(Role.USER)
+                .build());
+    }
+
+    // MVC 메시지 컨버터와 같은 경로: 런타임 타입으로 serializer 조회
+    @Benchmark
+    public byte[] writeValueAsBytes() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    // 제네릭 타입을 미리 지정한 ObjectWriter 재사용
+    @Benchmark
+    public byte[] typedWriter() throws Exception {
+        return typedWriter.writeValueAsBytes(response);
+    }
+}
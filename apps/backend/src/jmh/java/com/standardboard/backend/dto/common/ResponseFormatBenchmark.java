@@ -0,0 +1,106 @@
+package com.standardboard.backend.dto.common;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.standardboard.backend.domain.user.Role;
+import com.standardboard.backend.dto.auth.LoginResponse;
+import com.standardboard.backend.dto.trending.TrendingPostResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 응답 형식(JSON / CBOR / Smile)별 직렬화, 역직렬화, gzip 비용 벤치마크
+ *
+ * 대상은 로그인 응답(ApiResponse&lt;LoginResponse&gt;), 인기글 20개 목록, presence WebSocket 프레임입니다.
+ * 매퍼는 HttpMessageConverterConfig와 같이 Jackson2ObjectMapperBuilder에 팩토리만 바꿔 만듭니다.
+ * 형식별 크기(원본 / gzip)는 시간으로 나타나지 않으므로 Setup에서 한 번 출력합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResponseFormatBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    @Param({"login", "trending", "presence"})
+    public String payload;
+
+    private ObjectMapper mapper;
+    private Object value;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        mapper = switch (format) {
+            case "json" -> Jackson2ObjectMapperBuilder.json().build();
+            case "cbor" -> Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()).build();
+            case "smile" -> Jackson2ObjectMapperBuilder.json().factory(new SmileFactory()).build();
+            default -> throw new IllegalArgumentException(format);
+        };
+        value = switch (payload) {
+            case "login" -> ApiResponse.success(LoginResponse.builder()
+                    .userId(1L)
+                    .email("bench@test.com")
+                    .nickname("bench")
+                    .role(Role.USER)
+                    .build());
+            case "trending" -> ApiResponse.success(IntStream.rangeClosed(1, 20)
+                    .mapToObj(rank -> TrendingPostResponse.builder()
+                            .rank(rank)
+                            .postId(10_000L + rank * 37L)
+                            .score(1_000.0 / rank + rank * 0.123)
+                            .build())
+                    .toList());
+            case "presence" -> new PresenceFrame("viewers", 12_345L, 17);
+            default -> throw new IllegalArgumentException(payload);
+        };
+        encoded = mapper.writeValueAsBytes(value);
+        System.out.printf("%n[size] %s/%s raw=%d gzip=%d%n", format, payload, encoded.length, gzip(encoded).length);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return mapper.writeValueAsBytes(value);
+    }
+
+    // Tomcat 응답 압축(GZIPOutputStream 기본 레벨)까지 포함한 비용
+    @Benchmark
+    public byte[] serializeGzip() throws IOException {
+        return gzip(mapper.writeValueAsBytes(value));
+    }
+
+    // 클라이언트 쪽 디코딩 비용 (트리로 읽기)
+    @Benchmark
+    public Object deserialize() throws IOException {
+        return mapper.readTree(encoded);
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+
+    // PresenceWebSocketHandler.PresenceMessage와 같은 모양
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record PresenceFrame(String type, Long postId, int count) {
+    }
+}
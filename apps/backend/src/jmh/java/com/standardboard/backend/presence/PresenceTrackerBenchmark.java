@@ -0,0 +1,62 @@
+package com.standardboard.backend.presence;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PresenceTracker 벤치마크 (WebSocket 메시지 스레드가 하트비트 한 건에 쓰는 비용, 집계 주기 한 번의 비용)
+ *
+ * 접속자 수만큼 미리 채운 상태에서 무작위 사용자의 하트비트(접속 + 게시글 열람)를 반영합니다.
+ * 게시글은 사용자 5명당 1개로 둡니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PresenceTrackerBenchmark {
+
+    @Param({"10000", "100000"})
+    public int users;
+
+    private PresenceTracker tracker;
+    private int posts;
+
+    @Setup
+    public void setUp() {
+        tracker = new PresenceTracker(45, users * 2, users * 2);
+        posts = Math.max(1, users / 5);
+        for (long userId = 1; userId <= users; userId++) {
+            tracker.heartbeat(userId, 1 + userId % posts, 0);
+        }
+        tracker.tick(0);
+    }
+
+    @Benchmark
+    public boolean heartbeat() {
+        long userId = 1 + ThreadLocalRandom.current().nextInt(users);
+        return tracker.heartbeat(userId, 1 + userId % posts, 1);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean heartbeat_4threads() {
+        long userId = 1 + ThreadLocalRandom.current().nextInt(users);
+        return tracker.heartbeat(userId, 1 + userId % posts, 1);
+    }
+
+    // 만료 대상이 없는 주기: 전체 스트라이프를 훑는 비용 (게시글 열람 수 변화 없음)
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public PresenceChanges tick() {
+        return tracker.tick(1);
+    }
+}
@@ -0,0 +1,125 @@
+package com.standardboard.backend.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 측정 결과 요약과 임계값 판정
+ *
+ * 요약표는 콘솔과 reportDir/summary.txt 에, 시나리오별 전체 분포는 reportDir/&lt;scenario&gt;.hgrm 에 기록합니다.
+ * (.hgrm 은 HdrHistogram 플로터로 그래프를 그릴 수 있는 형식입니다)
+ */
+final class LatencyReport {
+
+    private static final double NANOS_PER_MS = 1_000_000.0;
+
+    private final LoadTestConfig config;
+    private final Map<Scenario, ScenarioStats> stats;
+    private final Duration duration;
+    private final List<String> violations = new ArrayList<>();
+
+    LatencyReport(LoadTestConfig config, Map<Scenario, ScenarioStats> stats, Duration duration) {
+        this.config = config;
+        this.stats = stats;
+        this.duration = duration;
+        evaluate();
+    }
+
+    boolean passed() {
+        return violations.isEmpty();
+    }
+
+    void write(PrintStream console) throws IOException {
+        String summary = summary();
+        console.print(summary);
+
+        Path dir = config.reportDir();
+        Files.createDirectories(dir);
+        Files.writeString(dir.resolve("summary.txt"), summary, StandardCharsets.UTF_8);
+        for (Map.Entry<Scenario, ScenarioStats> entry : stats.entrySet()) {
+            if (entry.getValue().getCount() == 0) {
+                continue;
+            }
+            try (PrintStream out = new PrintStream(Files.newOutputStream(dir.resolve(entry.getKey().getKey() + ".hgrm")), false, StandardCharsets.UTF_8)) {
+                entry.getValue().getResponseTime().outputPercentileDistribution(out, NANOS_PER_MS);
+            }
+        }
+        console.println("리포트: " + dir.toAbsolutePath());
+    }
+
+    private void evaluate() {
+        long total = 0;
+        long errors = 0;
+        for (Map.Entry<Scenario, ScenarioStats> entry : stats.entrySet()) {
+            ScenarioStats scenarioStats = entry.getValue();
+            total += scenarioStats.getCount();
+            errors += scenarioStats.getErrors();
+            if (scenarioStats.getCount() == 0) {
+                continue;
+            }
+            double p99 = percentileMs(scenarioStats.getResponseTime(), 99.0);
+            double threshold = config.p99ThresholdsMs().get(entry.getKey());
+            if (p99 > threshold) {
+                violations.add(String.format(Locale.ROOT, "%s p99 %.1fms > %.1fms", entry.getKey().getKey(), p99, threshold));
+            }
+        }
+        double errorRate = (total == 0) ? 1.0 : (double) errors / total;
+        if (errorRate > config.maxErrorRate()) {
+            violations.add(String.format(Locale.ROOT, "오류율 %.2f%% > %.2f%% (%d/%d)",
+                    errorRate * 100, config.maxErrorRate() * 100, errors, total));
+        }
+    }
+
+    private String summary() {
+        StringBuilder sb = new StringBuilder();
+        double seconds = duration.toMillis() / 1000.0;
+        sb.append(String.format(Locale.ROOT, "목표 %d req/s, 워커 %d, 측정 %.0fs (지연 단위 ms, coordinated omission 보정)%n",
+                config.rate(), config.workers(), seconds));
+        sb.append(String.format(Locale.ROOT, "%-10s %8s %7s %8s %9s %9s %9s %9s %12s %9s%n",
+                "scenario", "count", "errors", "req/s", "p50", "p99", "p99.9", "max", "p99(uncorr)", "p99 limit"));
+
+        Histogram all = new Histogram(3);
+        long totalCount = 0;
+        long totalErrors = 0;
+        for (Map.Entry<Scenario, ScenarioStats> entry : stats.entrySet()) {
+            ScenarioStats s = entry.getValue();
+            if (s.getCount() == 0) {
+                continue;
+            }
+            all.add(s.getResponseTime());
+            totalCount += s.getCount();
+            totalErrors += s.getErrors();
+            sb.append(row(entry.getKey().getKey(), s.getResponseTime(), s.getErrors(), seconds,
+                    String.format(Locale.ROOT, "%12.1f", percentileMs(s.getServiceTime(), 99.0)),
+                    String.format(Locale.ROOT, "%9.0f", config.p99ThresholdsMs().get(entry.getKey()))));
+        }
+        if (totalCount > 0) {
+            sb.append(row("TOTAL", all, totalErrors, seconds, String.format("%12s", "-"), String.format("%9s", "-")));
+        }
+
+        sb.append(passed() ? "결과: PASS" : "결과: FAIL").append(System.lineSeparator());
+        violations.forEach(v -> sb.append("  - ").append(v).append(System.lineSeparator()));
+        return sb.toString();
+    }
+
+    private static String row(String name, Histogram h, long errors, double seconds, String uncorrected, String limit) {
+        return String.format(Locale.ROOT, "%-10s %8d %7d %8.1f %9.1f %9.1f %9.1f %9.1f %s %s%n",
+                name, h.getTotalCount(), errors, h.getTotalCount() / seconds,
+                percentileMs(h, 50.0), percentileMs(h, 99.0), percentileMs(h, 99.9), h.getMaxValue() / NANOS_PER_MS,
+                uncorrected, limit);
+    }
+
+    private static double percentileMs(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / NANOS_PER_MS;
+    }
+}
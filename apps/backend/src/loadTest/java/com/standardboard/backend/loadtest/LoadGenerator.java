@@ -0,0 +1,197 @@
+package com.standardboard.backend.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 가상 스레드 기반 고정 비율(open model) 부하 발생기
+ *
+ * 워커(가상 스레드)마다 "예정된 발사 시각"을 일정 간격으로 미리 정해 두고, 지연은 예정 시각부터 잽니다.
+ * 서버가 느려져 요청이 밀리면, 밀린 시간만큼 이후 요청들의 지연에 반영됩니다.
+ * (요청을 보내지 못한 시간을 측정에서 빠뜨리는 coordinated omission 보정)
+ */
+final class LoadGenerator {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final String PASSWORD = "loadtest-pw1!";
+    private static final String JSON = "application/json";
+
+    private final LoadTestConfig config;
+    private final String baseUrl;
+    private final HttpClient client;
+    private final Scenario[] weightedScenarios;
+    private final AtomicLong signupSequence = new AtomicLong();
+    private final String runId = UUID.randomUUID().toString().substring(0, 8);
+
+    private List<String> emails = List.of();
+    private List<String> tokens = List.of();
+
+    LoadGenerator(LoadTestConfig config, String baseUrl) {
+        this.config = config;
+        this.baseUrl = baseUrl;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        this.weightedScenarios = weightedScenarios(config.mix());
+    }
+
+    /**
+     * 로그인, 인증 GET에 사용할 사용자를 미리 가입시키고 토큰을 발급받습니다.
+     */
+    void prepareUsers() throws Exception {
+        List<String> newEmails = new ArrayList<>();
+        List<String> newTokens = new ArrayList<>();
+        for (int i = 0; i < config.users(); i++) {
+            String email = "lt-" + runId + "-u" + i + "@loadtest.com";
+            HttpResponse<String> signup = client.send(signupRequest(email, "lt" + runId + "u" + i), HttpResponse.BodyHandlers.ofString());
+            if (signup.statusCode() != Scenario.SIGNUP.getExpectedStatus()) {
+                throw new IllegalStateException("사용자 준비 실패 (signup " + signup.statusCode() + "): " + signup.body());
+            }
+            HttpResponse<String> login = client.send(loginRequest(email), HttpResponse.BodyHandlers.ofString());
+            String token = accessToken(login);
+            if (login.statusCode() != Scenario.LOGIN.getExpectedStatus() || token == null) {
+                throw new IllegalStateException("사용자 준비 실패 (login " + login.statusCode() + "): " + login.body());
+            }
+            newEmails.add(email);
+            newTokens.add(token);
+        }
+        this.emails = List.copyOf(newEmails);
+        this.tokens = List.copyOf(newTokens);
+    }
+
+    /**
+     * 지정한 시간 동안 설정된 비율로 요청을 보내고 시나리오별 결과를 반환합니다.
+     */
+    Map<Scenario, ScenarioStats> run(Duration duration) throws Exception {
+        int workers = config.workers();
+        long intervalNanos = TimeUnit.SECONDS.toNanos(workers) / config.rate();
+        long startNanos = System.nanoTime();
+        long endNanos = startNanos + duration.toNanos();
+
+        List<Future<Map<Scenario, ScenarioStats>>> futures = new ArrayList<>(workers);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int w = 0; w < workers; w++) {
+                // 워커들의 발사 시각을 간격 안에서 고르게 엇갈리게 배치
+                long firstStart = startNanos + (intervalNanos * w) / workers;
+                futures.add(executor.submit(() -> runWorker(firstStart, endNanos, intervalNanos)));
+            }
+        }
+
+        Map<Scenario, ScenarioStats> merged = newStatsMap();
+        for (Future<Map<Scenario, ScenarioStats>> future : futures) {
+            future.get().forEach((scenario, stats) -> merged.get(scenario).add(stats));
+        }
+        return merged;
+    }
+
+    private Map<Scenario, ScenarioStats> runWorker(long firstStart, long endNanos, long intervalNanos) {
+        Map<Scenario, ScenarioStats> stats = newStatsMap();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (long intendedStart = firstStart; intendedStart < endNanos; intendedStart += intervalNanos) {
+            long waitNanos = intendedStart - System.nanoTime();
+            if (waitNanos > 0) {
+                LockSupport.parkNanos(waitNanos);
+            }
+            Scenario scenario = weightedScenarios[random.nextInt(weightedScenarios.length)];
+            int user = random.nextInt(tokens.size());
+
+            long actualStart = System.nanoTime();
+            boolean success;
+            try {
+                HttpResponse<Void> response = client.send(request(scenario, user), HttpResponse.BodyHandlers.discarding());
+                success = response.statusCode() == scenario.getExpectedStatus();
+            } catch (Exception e) {
+                if (e instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                success = false;
+            }
+            stats.get(scenario).record(intendedStart, actualStart, System.nanoTime(), success);
+        }
+        return stats;
+    }
+
+    private HttpRequest request(Scenario scenario, int user) {
+        String token = tokens.get(user);
+        return switch (scenario) {
+            case SIGNUP -> {
+                long sequence = signupSequence.incrementAndGet();
+                yield signupRequest("lt-" + runId + "-s" + sequence + "@loadtest.com", "lt" + runId + "s" + sequence);
+            }
+            case LOGIN -> loginRequest(emails.get(user));
+            case ME_HEADER -> get("/api/v1/users/me").header("Authorization", "Bearer " + token).build();
+            case ME_COOKIE -> get("/api/v1/users/me").header("Cookie", "accessToken=" + token).build();
+            case TRENDING -> get("/api/v1/boards/1/trending").header("Authorization", "Bearer " + token).build();
+            case HEALTH -> get("/api/v1/health").build();
+        };
+    }
+
+    private HttpRequest signupRequest(String email, String nickname) {
+        String body = "{\"email\":\"" + email + "\",\"password\":\"" + PASSWORD + "\",\"nickname\":\"" + nickname + "\"}";
+        return post("/api/v1/auth/signup", body);
+    }
+
+    private HttpRequest loginRequest(String email) {
+        return post("/api/v1/auth/login", "{\"email\":\"" + email + "\",\"password\":\"" + PASSWORD + "\"}");
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(REQUEST_TIMEOUT).GET();
+    }
+
+    private HttpRequest post(String path, String json) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", JSON)
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    // Set-Cookie: accessToken=...; Path=/; ... 에서 토큰 값만 꺼냅니다.
+    private static String accessToken(HttpResponse<?> response) {
+        for (String cookie : response.headers().allValues("Set-Cookie")) {
+            if (cookie.startsWith("accessToken=")) {
+                int end = cookie.indexOf(';');
+                return cookie.substring("accessToken=".length(), end < 0 ? cookie.length() : end);
+            }
+        }
+        return null;
+    }
+
+    private static Map<Scenario, ScenarioStats> newStatsMap() {
+        Map<Scenario, ScenarioStats> stats = new EnumMap<>(Scenario.class);
+        for (Scenario scenario : Scenario.values()) {
+            stats.put(scenario, new ScenarioStats());
+        }
+        return stats;
+    }
+
+    // 가중치만큼 시나리오를 반복해 넣은 배열 (무작위 인덱스로 뽑으면 가중치 비율이 됩니다)
+    private static Scenario[] weightedScenarios(Map<Scenario, Integer> mix) {
+        List<Scenario> weighted = new ArrayList<>();
+        mix.forEach((scenario, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                weighted.add(scenario);
+            }
+        });
+        return weighted.toArray(Scenario[]::new);
+    }
+}
@@ -0,0 +1,93 @@
+package com.standardboard.backend.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * 부하 테스트 설정
+ *
+ * 클래스패스의 loadtest.properties 를 읽고, 같은 키의 시스템 프로퍼티(-Ploadtest.* → Gradle이 전달)로 덮어씁니다.
+ */
+public record LoadTestConfig(
+        String baseUrl,
+        String profiles,
+        int rate,
+        int workers,
+        int warmupSeconds,
+        int durationSeconds,
+        int users,
+        Map<Scenario, Integer> mix,
+        Map<Scenario, Double> p99ThresholdsMs,
+        double maxErrorRate,
+        Path reportDir) {
+
+    private static final String RESOURCE = "loadtest.properties";
+    private static final String PREFIX = "loadtest.";
+
+    public static LoadTestConfig load() {
+        Properties properties = new Properties();
+        try (InputStream in = LoadTestConfig.class.getClassLoader().getResourceAsStream(RESOURCE)) {
+            if (in == null) {
+                throw new IllegalStateException(RESOURCE + " 파일을 찾을 수 없습니다.");
+            }
+            properties.load(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        System.getProperties().forEach((key, value) -> {
+            if (key.toString().startsWith(PREFIX)) {
+                properties.setProperty(key.toString(), value.toString());
+            }
+        });
+
+        Map<Scenario, Integer> mix = new EnumMap<>(Scenario.class);
+        Map<Scenario, Double> thresholds = new EnumMap<>(Scenario.class);
+        for (Scenario scenario : Scenario.values()) {
+            mix.put(scenario, intValue(properties, "mix." + scenario.getKey(), 0));
+            thresholds.put(scenario, doubleValue(properties, "threshold." + scenario.getKey() + ".p99-ms", Double.MAX_VALUE));
+        }
+
+        LoadTestConfig config = new LoadTestConfig(
+                stringValue(properties, "base-url"),
+                stringValue(properties, "profiles"),
+                intValue(properties, "rate", 40),
+                intValue(properties, "workers", 100),
+                intValue(properties, "warmup-seconds", 10),
+                intValue(properties, "duration-seconds", 30),
+                intValue(properties, "users", 20),
+                mix,
+                thresholds,
+                doubleValue(properties, "threshold.error-rate", 0.01),
+                Path.of(stringValue(properties, "report-dir").isEmpty() ? "build/reports/loadtest" : stringValue(properties, "report-dir")));
+        config.validate();
+        return config;
+    }
+
+    private void validate() {
+        if (rate <= 0 || workers <= 0 || durationSeconds <= 0 || users <= 0) {
+            throw new IllegalArgumentException("rate, workers, duration-seconds, users 는 1 이상이어야 합니다.");
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("loadtest.mix.* 가중치의 합이 0 입니다.");
+        }
+    }
+
+    private static String stringValue(Properties properties, String key) {
+        return properties.getProperty(PREFIX + key, "").trim();
+    }
+
+    private static int intValue(Properties properties, String key, int defaultValue) {
+        String value = stringValue(properties, key);
+        return value.isEmpty() ? defaultValue : Integer.parseInt(value);
+    }
+
+    private static double doubleValue(Properties properties, String key, double defaultValue) {
+        String value = stringValue(properties, key);
+        return value.isEmpty() ? defaultValue : Double.parseDouble(value);
+    }
+}
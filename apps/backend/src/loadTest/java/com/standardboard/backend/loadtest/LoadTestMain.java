@@ -0,0 +1,74 @@
+package com.standardboard.backend.loadtest;
+
+import com.standardboard.backend.BackendApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * End-to-End HTTP 부하 테스트 진입점 (./gradlew loadTest)
+ *
+ * 1. loadtest.base-url 이 비어 있으면 애플리케이션을 랜덤 포트로 띄웁니다.
+ * 2. 사용자를 미리 가입/로그인시켜 토큰을 확보합니다.
+ * 3. 워밍업 후 설정된 비율과 시나리오 비율로 측정합니다.
+ * 4. 결과를 출력하고, 임계값을 넘으면 종료 코드 1로 끝나 Gradle 태스크를 실패시킵니다.
+ */
+public final class LoadTestMain {
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.load();
+
+        ConfigurableApplicationContext context = null;
+        String baseUrl = config.baseUrl();
+        if (baseUrl.isEmpty()) {
+            context = startEmbeddedServer(config);
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            baseUrl = "http://localhost:" + port;
+        }
+
+        boolean passed;
+        try {
+            System.out.println("대상: " + baseUrl);
+            LoadGenerator generator = new LoadGenerator(config, baseUrl);
+            generator.prepareUsers();
+
+            if (config.warmupSeconds() > 0) {
+                System.out.println("워밍업 " + config.warmupSeconds() + "s ...");
+                generator.run(Duration.ofSeconds(config.warmupSeconds()));
+            }
+
+            System.out.println("측정 " + config.durationSeconds() + "s ...");
+            Duration duration = Duration.ofSeconds(config.durationSeconds());
+            Map<Scenario, ScenarioStats> stats = generator.run(duration);
+
+            LatencyReport report = new LatencyReport(config, stats, duration);
+            report.write(System.out);
+            passed = report.passed();
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+        System.exit(passed ? 0 : 1);
+    }
+
+    // 측정을 왜곡하는 SQL/요청 로그는 끄고, 운영과 같은 코드 경로로 띄웁니다.
+    // (application.properties 보다 우선하도록 커맨드라인 인자로 전달)
+    private static ConfigurableApplicationContext startEmbeddedServer(LoadTestConfig config) {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(BackendApplication.class);
+        if (!config.profiles().isEmpty()) {
+            builder.profiles(config.profiles().split(","));
+        }
+        return builder.run(
+                "--server.port=0",
+                "--spring.jpa.show-sql=false",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN");
+    }
+}
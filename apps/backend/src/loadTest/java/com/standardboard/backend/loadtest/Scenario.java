@@ -0,0 +1,31 @@
+package com.standardboard.backend.loadtest;
+
+/**
+ * 부하 테스트 시나리오
+ *
+ * 각 시나리오는 설정 키(loadtest.mix.*, loadtest.threshold.*)와 기대 HTTP 상태 코드를 가집니다.
+ */
+public enum Scenario {
+    SIGNUP("signup", 201),
+    LOGIN("login", 200),
+    ME_HEADER("me-header", 200),   // GET /api/v1/users/me + Authorization: Bearer
+    ME_COOKIE("me-cookie", 200),   // GET /api/v1/users/me + accessToken 쿠키
+    TRENDING("trending", 200),     // GET /api/v1/boards/{id}/trending + Authorization: Bearer
+    HEALTH("health", 200);
+
+    private final String key;
+    private final int expectedStatus;
+
+    Scenario(String key, int expectedStatus) {
+        this.key = key;
+        this.expectedStatus = expectedStatus;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public int getExpectedStatus() {
+        return expectedStatus;
+    }
+}
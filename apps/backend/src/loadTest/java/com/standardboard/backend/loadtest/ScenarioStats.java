@@ -0,0 +1,48 @@
+package com.standardboard.backend.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * 시나리오별 측정 결과 (워커마다 하나씩 만들고 측정이 끝나면 합칩니다)
+ *
+ * - responseTime: 예정된 발사 시각부터 응답까지 (coordinated omission 보정)
+ * - serviceTime: 실제 요청을 보낸 시각부터 응답까지 (보정 전, 비교용)
+ */
+final class ScenarioStats {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Histogram responseTime = new Histogram(SIGNIFICANT_DIGITS);
+    private final Histogram serviceTime = new Histogram(SIGNIFICANT_DIGITS);
+    private long errors;
+
+    void record(long intendedStartNanos, long actualStartNanos, long endNanos, boolean success) {
+        responseTime.recordValue(endNanos - intendedStartNanos);
+        serviceTime.recordValue(endNanos - actualStartNanos);
+        if (!success) {
+            errors++;
+        }
+    }
+
+    void add(ScenarioStats other) {
+        responseTime.add(other.responseTime);
+        serviceTime.add(other.serviceTime);
+        errors += other.errors;
+    }
+
+    Histogram getResponseTime() {
+        return responseTime;
+    }
+
+    Histogram getServiceTime() {
+        return serviceTime;
+    }
+
+    long getCount() {
+        return responseTime.getTotalCount();
+    }
+
+    long getErrors() {
+        return errors;
+    }
+}
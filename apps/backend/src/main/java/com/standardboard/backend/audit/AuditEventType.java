@@ -0,0 +1,33 @@
+package com.standardboard.backend.audit;
+
+/**
+ * 감사 이벤트 종류 (세그먼트 파일에는 code 1바이트로 기록)
+ *
+ * code 0은 "기록 없음"(세그먼트의 빈 영역)을 뜻하므로 사용하지 않습니다.
+ * 새 종류는 끝에 추가하고 기존 code는 바꾸지 않습니다.
+ */
+public enum AuditEventType {
+    LOGIN_SUCCESS(1),
+    LOGIN_FAILURE(2),
+    SIGNUP(3),
+    TOKEN_REJECTED(4);
+
+    private final byte code;
+
+    AuditEventType(int code) {
+        this.code = (byte) code;
+    }
+
+    byte code() {
+        return code;
+    }
+
+    static AuditEventType fromCode(byte code) {
+        for (AuditEventType type : values()) {
+            if (type.code == code) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 감사 이벤트 코드: " + code);
+    }
+}
@@ -0,0 +1,17 @@
+package com.standardboard.backend.audit;
+
+/**
+ * 보안 감사 로그 (로그인 성공/실패, 회원가입, 토큰 거부)
+ *
+ * 호출한 요청 스레드에서는 메모리에 기록만 하고 바로 돌아옵니다. (파일 쓰기는 별도 스레드)
+ * 요청 처리 중에 호출하면 클라이언트 IP를 함께 기록합니다.
+ */
+public interface AuditLog {
+
+    /**
+     * 감사 이벤트를 기록합니다.
+     * @param userId 사용자 ID (알 수 없으면 null)
+     * @param subject 이메일 등 사용자 식별 문자열 (알 수 없으면 null)
+     */
+    void record(AuditEventType type, AuditReason reason, Long userId, String subject);
+}
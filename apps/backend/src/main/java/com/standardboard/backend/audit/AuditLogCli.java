@@ -0,0 +1,76 @@
+package com.standardboard.backend.audit;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * 감사 로그 조회 CLI
+ *
+ * <pre>
+ * ./gradlew auditLog -Paudit.args="--user a@b.com --from 2026-10-01 --to 2026-10-20T12:00:00Z"
+ *
+ * 옵션: --dir 디렉터리 (기본 ./data/audit), --user 이메일, --user-id ID,
+ *       --from / --to ISO-8601 시각 또는 날짜 (날짜는 시스템 시간대 자정, to는 제외)
+ * </pre>
+ * 결과는 한 줄에 한 건씩 탭으로 구분해 출력합니다. (시각, 종류, 사유, 사용자 ID, IP, 이메일)
+ */
+public final class AuditLogCli {
+
+    private AuditLogCli() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path directory = Path.of("data", "audit");
+        String subject = null;
+        Long userId = null;
+        Instant from = null;
+        Instant to = null;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String option = args[i];
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("값이 없는 옵션: " + option);
+                }
+                String value = args[++i];
+                switch (option) {
+                    case "--dir" -> directory = Path.of(value);
+                    case "--user" -> subject = value;
+                    case "--user-id" -> userId = Long.parseLong(value);
+                    case "--from" -> from = parseInstant(value);
+                    case "--to" -> to = parseInstant(value);
+                    default -> throw new IllegalArgumentException("알 수 없는 옵션: " + option);
+                }
+            }
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            System.err.println(e.getMessage());
+            System.err.println("사용법: AuditLogCli [--dir 디렉터리] [--user 이메일] [--user-id ID] [--from 시각] [--to 시각]");
+            System.exit(2);
+            return;
+        }
+
+        List<AuditRecord> records = AuditLogReader.query(directory, new AuditQuery(subject, userId, from, to));
+        print(records, System.out);
+        System.err.printf("%d건 (%s)%n", records.size(), directory.toAbsolutePath());
+    }
+
+    static void print(List<AuditRecord> records, PrintStream out) {
+        for (AuditRecord record : records) {
+            out.printf("%s\t%s\t%s\t%d\t%s\t%s%n",
+                    record.timestamp(), record.type(), record.reason(), record.userId(),
+                    record.address() != null ? record.address() : "-", record.subject());
+        }
+    }
+
+    private static Instant parseInstant(String value) {
+        if (value.length() == 10) {
+            return LocalDate.parse(value).atStartOfDay(ZoneId.systemDefault()).toInstant();
+        }
+        return Instant.parse(value);
+    }
+}
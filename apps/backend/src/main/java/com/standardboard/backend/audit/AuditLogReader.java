@@ -0,0 +1,95 @@
+package com.standardboard.backend.audit;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 감사 로그 세그먼트 조회기
+ *
+ * 세그먼트를 읽기 전용으로 매핑해 레코드를 순서대로 훑습니다. 시각, 사용자 ID, 이메일 비교는
+ * 매핑된 바이트에서 바로 하고, 조건에 맞는 레코드만 객체로 디코딩합니다.
+ * 기록 중인 세그먼트도 읽을 수 있습니다. (아직 쓰지 않은 영역의 timestamp 0에서 멈춤)
+ */
+public final class AuditLogReader {
+
+    // 세그먼트 생성 시각보다 조금 이른 이벤트도 들어갈 수 있으므로(버퍼 대기), 건너뛰기 판단에 여유를 둡니다.
+    private static final long SEGMENT_START_SLACK_MILLIS = 60_000;
+
+    private AuditLogReader() {
+    }
+
+    /**
+     * 조건에 맞는 레코드를 시각 순으로 반환합니다.
+     */
+    public static List<AuditRecord> query(Path directory, AuditQuery query) throws IOException {
+        byte[] subject = (query.subject() != null) ? AuditRecord.encodeSubject(query.subject()) : null;
+        long from = (query.from() != null) ? query.from().toEpochMilli() : Long.MIN_VALUE;
+        long to = (query.to() != null) ? query.to().toEpochMilli() : Long.MAX_VALUE;
+
+        List<AuditRecord> result = new ArrayList<>();
+        for (Path segment : listSegments(directory)) {
+            // 이름 순(= 생성 시각 순)이므로, 조회 끝 이후에 만들어진 세그먼트는 읽지 않습니다.
+            if (segmentStartMillis(segment) - SEGMENT_START_SLACK_MILLIS >= to) {
+                break;
+            }
+            scan(segment, subject, query.userId(), from, to, result);
+        }
+        result.sort(Comparator.comparing(AuditRecord::timestamp));
+        return result;
+    }
+
+    /**
+     * 디렉터리의 세그먼트 파일을 생성 시각 순으로 반환합니다.
+     */
+    static List<Path> listSegments(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(AuditLogReader::isSegment).sorted().toList();
+        }
+    }
+
+    private static void scan(Path segment, byte[] subject, Long userId, long from, long to,
+                             List<AuditRecord> result) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            AuditRecord.checkHeader(buffer);
+            int end = buffer.limit() - AuditRecord.SIZE;
+            for (int offset = AuditRecord.SIZE; offset <= end; offset += AuditRecord.SIZE) {
+                long timestamp = AuditRecord.timestampAt(buffer, offset);
+                if (timestamp == 0) {
+                    break;
+                }
+                if (timestamp < from || timestamp >= to
+                        || (userId != null && AuditRecord.userIdAt(buffer, offset) != userId)
+                        || (subject != null && !AuditRecord.subjectEquals(buffer, offset, subject))) {
+                    continue;
+                }
+                result.add(AuditRecord.decode(buffer, offset));
+            }
+        }
+    }
+
+    private static boolean isSegment(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(AuditSegmentWriter.PREFIX) && name.endsWith(AuditSegmentWriter.SUFFIX);
+    }
+
+    private static long segmentStartMillis(Path segment) {
+        String name = segment.getFileName().toString();
+        try {
+            return Long.parseLong(name.substring(AuditSegmentWriter.PREFIX.length(), AuditSegmentWriter.PREFIX.length() + 13));
+        } catch (RuntimeException e) {
+            return Long.MIN_VALUE;
+        }
+    }
+}
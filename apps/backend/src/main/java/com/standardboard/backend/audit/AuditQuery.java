@@ -0,0 +1,18 @@
+package com.standardboard.backend.audit;
+
+import java.time.Instant;
+
+/**
+ * 감사 로그 조회 조건 (null인 조건은 적용하지 않음)
+ *
+ * @param subject 이메일 등 사용자 식별 문자열 (정확히 일치)
+ * @param userId  사용자 ID
+ * @param from    시작 시각 (포함)
+ * @param to      종료 시각 (제외)
+ */
+public record AuditQuery(String subject, Long userId, Instant from, Instant to) {
+
+    public static AuditQuery all() {
+        return new AuditQuery(null, null, null, null);
+    }
+}
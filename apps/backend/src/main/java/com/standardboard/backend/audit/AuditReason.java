@@ -0,0 +1,40 @@
+package com.standardboard.backend.audit;
+
+/**
+ * 감사 이벤트의 세부 사유 (실패 원인 등, 세그먼트 파일에는 code 1바이트로 기록)
+ *
+ * 새 사유는 끝에 추가하고 기존 code는 바꾸지 않습니다.
+ */
+public enum AuditReason {
+    NONE(0),
+    // 로그인 실패
+    USER_NOT_FOUND(1),
+    BAD_PASSWORD(2),
+    // 토큰 거부 (JwtTokenProvider 검증 결과)
+    TOKEN_SIGNATURE(10),
+    TOKEN_MALFORMED(11),
+    TOKEN_EXPIRED(12),
+    TOKEN_UNSUPPORTED(13),
+    TOKEN_EMPTY(14),
+    // 토큰은 유효하지만 사용자 조회 등 인증 설정에 실패 (탈퇴한 사용자 등)
+    TOKEN_USER_REJECTED(15);
+
+    private final byte code;
+
+    AuditReason(int code) {
+        this.code = (byte) code;
+    }
+
+    byte code() {
+        return code;
+    }
+
+    static AuditReason fromCode(byte code) {
+        for (AuditReason reason : values()) {
+            if (reason.code == code) {
+                return reason;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 감사 사유 코드: " + code);
+    }
+}
@@ -0,0 +1,162 @@
+package com.standardboard.backend.audit;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * 감사 이벤트 한 건과 고정 길이(128바이트) 바이너리 형식
+ *
+ * <pre>
+ * offset size 필드
+ *      0    8 timestamp   (epoch millis, big-endian, 0이면 빈 슬롯)
+ *      8    8 userId      (알 수 없으면 0)
+ *     16    1 type        (AuditEventType code)
+ *     17    1 reason      (AuditReason code)
+ *     18    1 addressLen  (0, 4=IPv4, 16=IPv6)
+ *     19    1 subjectLen  (0~92)
+ *     20   16 address     (클라이언트 IP)
+ *     36   92 subject     (이메일 등 UTF-8, 92바이트를 넘으면 문자 경계에서 잘라 냄)
+ * </pre>
+ *
+ * 세그먼트 파일의 첫 128바이트는 헤더입니다. (magic "SBAUDIT1", version, recordSize, 생성 시각)
+ *
+ * @param userId   사용자 ID (알 수 없으면 0)
+ * @param address  클라이언트 IP (알 수 없으면 null)
+ * @param subject  이메일 등 사용자 식별 문자열 (알 수 없으면 빈 문자열)
+ */
+public record AuditRecord(Instant timestamp, AuditEventType type, AuditReason reason,
+                          long userId, String address, String subject) {
+
+    public static final int SIZE = 128;
+    static final int MAX_SUBJECT_BYTES = 92;
+
+    static final long MAGIC = 0x5342415544495431L; // "SBAUDIT1"
+    static final short VERSION = 1;
+
+    private static final int TIMESTAMP = 0;
+    private static final int USER_ID = 8;
+    private static final int TYPE = 16;
+    private static final int REASON = 17;
+    private static final int ADDRESS_LEN = 18;
+    private static final int SUBJECT_LEN = 19;
+    private static final int ADDRESS = 20;
+    private static final int SUBJECT = 36;
+
+    private static final VarHandle LONG = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    /**
+     * 슬롯(dst[offset, offset + SIZE))에 이벤트 한 건을 씁니다. 이전 내용은 모두 덮어씁니다.
+     * @param address 4 또는 16바이트 IP, 없으면 null
+     * @param subject encodeSubject()로 만든 UTF-8 바이트
+     */
+    static void encode(byte[] dst, int offset, long timestampMillis, AuditEventType type, AuditReason reason,
+                       long userId, byte[] address, byte[] subject) {
+        LONG.set(dst, offset + TIMESTAMP, timestampMillis);
+        LONG.set(dst, offset + USER_ID, userId);
+        dst[offset + TYPE] = type.code();
+        dst[offset + REASON] = reason.code();
+        int addressLen = (address == null) ? 0 : address.length;
+        dst[offset + ADDRESS_LEN] = (byte) addressLen;
+        dst[offset + SUBJECT_LEN] = (byte) subject.length;
+        if (addressLen > 0) {
+            System.arraycopy(address, 0, dst, offset + ADDRESS, addressLen);
+        }
+        Arrays.fill(dst, offset + ADDRESS + addressLen, offset + SUBJECT, (byte) 0);
+        System.arraycopy(subject, 0, dst, offset + SUBJECT, subject.length);
+        Arrays.fill(dst, offset + SUBJECT + subject.length, offset + SIZE, (byte) 0);
+    }
+
+    /**
+     * 문자열을 UTF-8로 바꾸고, 최대 길이를 넘으면 문자 경계에서 잘라 냅니다.
+     * (조회할 때도 같은 함수로 바꿔 비교하므로 잘린 값끼리 일치합니다)
+     */
+    static byte[] encodeSubject(String subject) {
+        if (subject == null || subject.isEmpty()) {
+            return new byte[0];
+        }
+        byte[] bytes = subject.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length <= MAX_SUBJECT_BYTES) {
+            return bytes;
+        }
+        int length = MAX_SUBJECT_BYTES;
+        // UTF-8 연속 바이트(10xxxxxx)에서 자르지 않도록 문자 시작 위치까지 물러납니다.
+        while (length > 0 && (bytes[length] & 0xC0) == 0x80) {
+            length--;
+        }
+        return Arrays.copyOf(bytes, length);
+    }
+
+    static long timestampAt(ByteBuffer buffer, int offset) {
+        return buffer.getLong(offset + TIMESTAMP);
+    }
+
+    static long userIdAt(ByteBuffer buffer, int offset) {
+        return buffer.getLong(offset + USER_ID);
+    }
+
+    static boolean subjectEquals(ByteBuffer buffer, int offset, byte[] subject) {
+        if ((buffer.get(offset + SUBJECT_LEN) & 0xFF) != subject.length) {
+            return false;
+        }
+        for (int i = 0; i < subject.length; i++) {
+            if (buffer.get(offset + SUBJECT + i) != subject[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static AuditRecord decode(ByteBuffer buffer, int offset) {
+        int addressLen = buffer.get(offset + ADDRESS_LEN) & 0xFF;
+        int subjectLen = buffer.get(offset + SUBJECT_LEN) & 0xFF;
+        byte[] subject = new byte[subjectLen];
+        buffer.get(offset + SUBJECT, subject);
+        return new AuditRecord(
+                Instant.ofEpochMilli(buffer.getLong(offset + TIMESTAMP)),
+                AuditEventType.fromCode(buffer.get(offset + TYPE)),
+                AuditReason.fromCode(buffer.get(offset + REASON)),
+                buffer.getLong(offset + USER_ID),
+                decodeAddress(buffer, offset + ADDRESS, addressLen),
+                new String(subject, StandardCharsets.UTF_8));
+    }
+
+    static void writeHeader(ByteBuffer buffer, long createdAtMillis) {
+        buffer.putLong(0, MAGIC);
+        buffer.putShort(8, VERSION);
+        buffer.putShort(10, (short) SIZE);
+        buffer.putLong(16, createdAtMillis);
+    }
+
+    /**
+     * 세그먼트 헤더를 검증합니다.
+     * @throws IllegalStateException 형식이 다른 파일인 경우
+     */
+    static void checkHeader(ByteBuffer buffer) {
+        if (buffer.limit() < SIZE || buffer.getLong(0) != MAGIC) {
+            throw new IllegalStateException("감사 로그 세그먼트가 아닙니다.");
+        }
+        if (buffer.getShort(8) != VERSION || buffer.getShort(10) != SIZE) {
+            throw new IllegalStateException("지원하지 않는 감사 로그 버전입니다: " + buffer.getShort(8));
+        }
+    }
+
+    private static String decodeAddress(ByteBuffer buffer, int offset, int length) {
+        if (length != 4 && length != 16) {
+            return null;
+        }
+        byte[] address = new byte[length];
+        buffer.get(offset, address);
+        try {
+            return InetAddress.getByAddress(address).getHostAddress();
+        } catch (UnknownHostException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.standardboard.backend.audit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 감사 이벤트용 다중 생산자 / 단일 소비자 링 버퍼 (락 없음)
+ *
+ * 슬롯은 고정 길이(AuditRecord.SIZE) 바이트 배열 하나에 미리 할당해 두고, 생산자는 그 자리에 직접 인코딩합니다.
+ * 이벤트마다 객체를 만들지 않으므로 로그인 경로에서 GC 압력이 늘지 않습니다.
+ * - 생산자: cursor를 CAS로 하나씩 선점 → 슬롯에 쓰기 → published[슬롯]에 시퀀스 번호를 release 쓰기
+ * - 소비자: consumed부터 published가 이어지는 데까지 한 번에 읽고, 다 쓴 뒤 consumed를 release 쓰기
+ * 선점하려는 시퀀스가 consumed + capacity에 닿으면 가득 찬 것이므로 선점하지 않습니다. (정책은 호출자가 결정)
+ */
+final class AuditRingBuffer {
+
+    /**
+     * 소비자가 슬롯 바이트를 그대로 넘겨받는 대상 (연속 구간 단위, 버퍼 끝에서 돌아가면 두 번 호출)
+     */
+    @FunctionalInterface
+    interface Sink {
+        void write(byte[] source, int offset, int length);
+    }
+
+    private final int capacity;
+    private final int mask;
+    private final byte[] slots;
+    private final AtomicLongArray published;
+    // 다음에 선점할 시퀀스
+    private final AtomicLong cursor = new AtomicLong();
+    // 소비자가 다음에 읽을 시퀀스 (이보다 작은 슬롯은 재사용 가능)
+    private final AtomicLong consumed = new AtomicLong();
+
+    AuditRingBuffer(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("링 버퍼 크기는 2의 거듭제곱이어야 합니다: " + capacity);
+        }
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.slots = new byte[capacity * AuditRecord.SIZE];
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            published.set(i, -1);
+        }
+    }
+
+    /**
+     * 슬롯 하나를 선점합니다.
+     * @return 선점한 시퀀스, 가득 찼으면 -1
+     */
+    long tryClaim() {
+        while (true) {
+            long sequence = cursor.get();
+            if (sequence - consumed.get() >= capacity) {
+                return -1;
+            }
+            if (cursor.compareAndSet(sequence, sequence + 1)) {
+                return sequence;
+            }
+        }
+    }
+
+    byte[] slots() {
+        return slots;
+    }
+
+    int offset(long sequence) {
+        return (int) (sequence & mask) * AuditRecord.SIZE;
+    }
+
+    /**
+     * 선점한 슬롯에 쓰기를 마쳤음을 알립니다. (이 시점 이후 소비자가 읽음)
+     */
+    void publish(long sequence) {
+        published.lazySet((int) (sequence & mask), sequence);
+    }
+
+    /**
+     * 게시된 이벤트를 최대 maxBatch건까지 순서대로 sink에 넘기고 슬롯을 반납합니다. (소비자 스레드 전용)
+     * 앞선 시퀀스가 아직 쓰는 중이면 그 앞까지만 넘깁니다.
+     * @return 넘긴 건수
+     */
+    int drain(Sink sink, int maxBatch) {
+        long start = consumed.get();
+        long end = start;
+        while (end - start < maxBatch && published.get((int) (end & mask)) == end) {
+            end++;
+        }
+        int count = (int) (end - start);
+        if (count == 0) {
+            return 0;
+        }
+        int first = (int) (start & mask);
+        int firstCount = Math.min(count, capacity - first);
+        sink.write(slots, first * AuditRecord.SIZE, firstCount * AuditRecord.SIZE);
+        if (firstCount < count) {
+            sink.write(slots, 0, (count - firstCount) * AuditRecord.SIZE);
+        }
+        consumed.lazySet(end);
+        return count;
+    }
+
+    /**
+     * 선점되었지만 아직 소비되지 않은 이벤트 수 (쓰는 중 포함)
+     */
+    long size() {
+        return Math.max(0, cursor.get() - consumed.get());
+    }
+
+    long claimed() {
+        return cursor.get();
+    }
+
+    long consumed() {
+        return consumed.get();
+    }
+
+    int capacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,124 @@
+package com.standardboard.backend.audit;
+
+import lombok.extern.log4j.Log4j2;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 감사 로그 세그먼트 파일 기록기 (소비자 스레드 전용)
+ *
+ * 세그먼트는 고정 크기 파일을 통째로 메모리 매핑(MappedByteBuffer)하고 레코드를 이어 붙입니다.
+ * 쓰기는 페이지 캐시에 바로 반영되므로 프로세스가 죽어도 남고, 디스크 동기화(force)는 주기적으로만 합니다.
+ * 가득 차면 새 세그먼트를 엽니다. 아직 쓰지 않은 영역은 0으로 채워져 있어 읽는 쪽은 timestamp 0에서 멈춥니다.
+ *
+ * 파일 이름: audit-{생성 시각 millis 13자리}-{임의 8자리}.seg
+ * (기동할 때마다 새 세그먼트로 시작하므로, 같은 디렉터리를 쓰는 프로세스끼리 파일이 겹치지 않습니다)
+ */
+@Log4j2
+final class AuditSegmentWriter implements Closeable {
+
+    static final String PREFIX = "audit-";
+    static final String SUFFIX = ".seg";
+
+    private final Path directory;
+    private final long segmentBytes;
+    private final int maxSegments;
+
+    private FileChannel channel;
+    private MappedByteBuffer mapped;
+    private Path current;
+    private boolean dirty;
+
+    /**
+     * @param segmentBytes 세그먼트 크기 (레코드 크기의 배수로 내림)
+     * @param maxSegments 보관할 최대 세그먼트 수 (0이면 삭제하지 않음)
+     */
+    AuditSegmentWriter(Path directory, long segmentBytes, int maxSegments) throws IOException {
+        this.directory = directory;
+        this.segmentBytes = Math.max(2, segmentBytes / AuditRecord.SIZE) * AuditRecord.SIZE;
+        this.maxSegments = maxSegments;
+        Files.createDirectories(directory);
+    }
+
+    /**
+     * 레코드 바이트(레코드 크기의 배수)를 이어 씁니다. 세그먼트가 차면 다음 세그먼트로 넘어갑니다.
+     */
+    void append(byte[] source, int offset, int length) throws IOException {
+        while (length > 0) {
+            if (mapped == null || !mapped.hasRemaining()) {
+                roll();
+            }
+            int chunk = Math.min(length, mapped.remaining());
+            mapped.put(source, offset, chunk);
+            offset += chunk;
+            length -= chunk;
+            dirty = true;
+        }
+    }
+
+    /**
+     * 마지막 동기화 이후 쓴 내용을 디스크에 내립니다.
+     */
+    void force() {
+        if (dirty && mapped != null) {
+            mapped.force();
+            dirty = false;
+        }
+    }
+
+    Path currentSegment() {
+        return current;
+    }
+
+    @Override
+    public void close() throws IOException {
+        closeCurrent();
+    }
+
+    private void roll() throws IOException {
+        closeCurrent();
+        long now = System.currentTimeMillis();
+        Path path = directory.resolve(String.format("%s%013d-%08x%s",
+                PREFIX, now, ThreadLocalRandom.current().nextInt(), SUFFIX));
+        channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+        AuditRecord.writeHeader(mapped, now);
+        mapped.position(AuditRecord.SIZE);
+        current = path;
+        dirty = true;
+        log.info("감사 로그 세그먼트 시작: {}", path);
+        deleteOldSegments();
+    }
+
+    private void closeCurrent() throws IOException {
+        if (channel == null) {
+            return;
+        }
+        force();
+        // 매핑은 GC될 때 해제됩니다. (채널을 닫아도 이미 쓴 내용은 파일에 남음)
+        channel.close();
+        channel = null;
+        mapped = null;
+    }
+
+    private void deleteOldSegments() throws IOException {
+        if (maxSegments <= 0) {
+            return;
+        }
+        List<Path> segments = AuditLogReader.listSegments(directory);
+        for (int i = 0; i < segments.size() - maxSegments; i++) {
+            if (!segments.get(i).equals(current)) {
+                Files.deleteIfExists(segments.get(i));
+                log.info("감사 로그 세그먼트 삭제 (보관 개수 {} 초과): {}", maxSegments, segments.get(i));
+            }
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package com.standardboard.backend.audit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 링 버퍼 + 메모리 매핑 세그먼트 파일 기반 감사 로그
+ *
+ * 로그인 경로에서 DB INSERT나 파일 I/O를 하지 않도록, 요청 스레드는 AuditRingBuffer의 슬롯에 고정 길이 레코드를
+ * 인코딩하고 끝냅니다. audit-writer 스레드 하나가 버퍼를 모아(batch-size) AuditSegmentWriter로 이어 씁니다.
+ *
+ * 버퍼가 가득 찼을 때 (full-policy)
+ * - block(기본): block-timeout-ms까지 기다렸다가 그래도 자리가 없으면 버리고 dropped로 셉니다.
+ *   기록 누락을 줄이되, 디스크가 멈춰도 로그인 지연이 이 시간을 넘지 않습니다.
+ * - drop: 기다리지 않고 바로 버리고 dropped로 셉니다.
+ * audit_events_total{outcome="dropped"}가 0보다 크면 buffer-size를 늘리거나 디스크 상태를 확인합니다.
+ *
+ * 지표: audit.events (outcome=published|dropped), audit.events.written, audit.write.failures,
+ *       audit.buffer.used, audit.write.batch
+ */
+@Log4j2
+@Component
+public class RingBufferAuditLog implements AuditLog {
+
+    // 버퍼가 비었을 때 소비자가 쉬는 시간 (감사 로그는 수 ms 지연이 문제되지 않음)
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final int BLOCK_SPINS = 100;
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    /**
+     * 버퍼가 가득 찼을 때의 처리 방식
+     */
+    public enum FullPolicy {
+        DROP, BLOCK
+    }
+
+    private final AuditRingBuffer buffer;
+    private final AuditSegmentWriter writer;
+    private final FullPolicy fullPolicy;
+    private final long blockTimeoutNanos;
+    private final int batchSize;
+    private final long forceIntervalNanos;
+    private final Thread consumer;
+
+    private final Counter publishedCounter;
+    private final Counter droppedCounter;
+    private final Counter writtenCounter;
+    private final Counter writeFailureCounter;
+    private final Timer batchTimer;
+
+    private volatile boolean running = true;
+    private long lastForceNanos = System.nanoTime();
+    private boolean writeFailing;
+
+    public RingBufferAuditLog(@Value("${app.audit.dir:./data/audit}") String directory,
+                              @Value("${app.audit.buffer-size:8192}") int bufferSize,
+                              @Value("${app.audit.full-policy:block}") String fullPolicy,
+                              @Value("${app.audit.block-timeout-ms:5}") long blockTimeoutMs,
+                              @Value("${app.audit.batch-size:512}") int batchSize,
+                              @Value("${app.audit.segment-size-bytes:16777216}") long segmentSizeBytes,
+                              @Value("${app.audit.max-segments:0}") int maxSegments,
+                              @Value("${app.audit.force-interval-ms:1000}") long forceIntervalMs,
+                              MeterRegistry meterRegistry) throws IOException {
+        this.buffer = new AuditRingBuffer(bufferSize);
+        this.writer = new AuditSegmentWriter(Path.of(directory).toAbsolutePath().normalize(), segmentSizeBytes, maxSegments);
+        this.fullPolicy = FullPolicy.valueOf(fullPolicy.toUpperCase(Locale.ROOT));
+        this.blockTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(blockTimeoutMs);
+        this.batchSize = batchSize;
+        this.forceIntervalNanos = TimeUnit.MILLISECONDS.toNanos(forceIntervalMs);
+        this.consumer = new Thread(this::consume, "audit-writer");
+        this.consumer.setDaemon(true);
+
+        this.publishedCounter = eventCounter(meterRegistry, "published");
+        this.droppedCounter = eventCounter(meterRegistry, "dropped");
+        this.writtenCounter = Counter.builder("audit.events.written")
+                .description("세그먼트 파일에 기록된 감사 이벤트 수")
+                .register(meterRegistry);
+        this.writeFailureCounter = Counter.builder("audit.write.failures")
+                .description("파일 쓰기 실패로 잃은 감사 이벤트 수")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("audit.write.batch")
+                .description("감사 이벤트 한 묶음을 세그먼트에 쓰는 시간")
+                .register(meterRegistry);
+        Gauge.builder("audit.buffer.used", buffer, AuditRingBuffer::size)
+                .description("링 버퍼에서 기록을 기다리는 감사 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        consumer.start();
+    }
+
+    @Override
+    public void record(AuditEventType type, AuditReason reason, Long userId, String subject) {
+        long sequence = claim();
+        if (sequence < 0) {
+            droppedCounter.increment();
+            return;
+        }
+        AuditRecord.encode(buffer.slots(), buffer.offset(sequence), System.currentTimeMillis(),
+                type, reason, (userId != null) ? userId : 0, clientAddress(), AuditRecord.encodeSubject(subject));
+        buffer.publish(sequence);
+        publishedCounter.increment();
+    }
+
+    /**
+     * 지금까지 기록된 이벤트가 모두 파일에 쓰일 때까지 기다립니다. (테스트, 종료 시)
+     * @return 시간 안에 끝나면 true
+     */
+    boolean awaitWritten(Duration timeout) {
+        long target = buffer.claimed();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (buffer.consumed() < target) {
+            if (System.nanoTime() - deadline >= 0) {
+                return false;
+            }
+            LockSupport.parkNanos(BLOCK_PARK_NANOS);
+        }
+        return true;
+    }
+
+    Path currentSegment() {
+        return writer.currentSegment();
+    }
+
+    @PreDestroy
+    void close() throws IOException, InterruptedException {
+        running = false;
+        LockSupport.unpark(consumer);
+        consumer.join(TimeUnit.SECONDS.toMillis(5));
+        if (consumer.isAlive()) {
+            log.warn("감사 로그 기록 스레드가 종료되지 않았습니다. (남은 이벤트 {}건)", buffer.size());
+            return;
+        }
+        writer.close();
+    }
+
+    private long claim() {
+        long sequence = buffer.tryClaim();
+        if (sequence >= 0 || fullPolicy == FullPolicy.DROP) {
+            return sequence;
+        }
+        // 소비자가 쉬는 중(IDLE_PARK)일 수 있으므로 깨우고 기다립니다.
+        LockSupport.unpark(consumer);
+        long deadline = System.nanoTime() + blockTimeoutNanos;
+        for (int spins = 0; sequence < 0 && System.nanoTime() - deadline < 0; spins++) {
+            if (spins < BLOCK_SPINS) {
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(BLOCK_PARK_NANOS);
+            }
+            sequence = buffer.tryClaim();
+        }
+        return sequence;
+    }
+
+    private void consume() {
+        while (true) {
+            boolean stopping = !running;
+            int drained = buffer.drain(this::writeBatch, batchSize);
+            forceIfDue();
+            if (drained > 0) {
+                continue;
+            }
+            if (stopping && buffer.size() == 0) {
+                break;
+            }
+            LockSupport.parkNanos(IDLE_PARK_NANOS);
+        }
+        writer.force();
+    }
+
+    private void writeBatch(byte[] source, int offset, int length) {
+        int records = length / AuditRecord.SIZE;
+        long start = System.nanoTime();
+        try {
+            writer.append(source, offset, length);
+            writtenCounter.increment(records);
+            if (writeFailing) {
+                writeFailing = false;
+                log.info("감사 로그 기록이 복구되었습니다.");
+            }
+        } catch (IOException | RuntimeException e) {
+            // 쓰기에 실패해도 버퍼는 비워야 요청 스레드가 막히지 않습니다. 실패가 시작될 때만 로그를 남깁니다.
+            writeFailureCounter.increment(records);
+            if (!writeFailing) {
+                writeFailing = true;
+                log.error("감사 로그를 기록하지 못했습니다. (복구될 때까지 실패는 audit.write.failures로만 집계)", e);
+            }
+        } finally {
+            batchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void forceIfDue() {
+        long now = System.nanoTime();
+        if (now - lastForceNanos >= forceIntervalNanos) {
+            try {
+                writer.force();
+            } catch (RuntimeException e) {
+                log.warn("감사 로그 세그먼트 동기화 실패", e);
+            }
+            lastForceNanos = now;
+        }
+    }
+
+    // 요청 처리 중이면 클라이언트 IP (IP 문자열만 변환하고 DNS 조회는 하지 않음)
+    private static byte[] clientAddress() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return null;
+        }
+        String remote = attributes.getRequest().getRemoteAddr();
+        if (remote == null || !isIpLiteral(remote)) {
+            return null;
+        }
+        try {
+            return InetAddress.getByName(remote).getAddress();
+        } catch (UnknownHostException e) {
+            return null;
+        }
+    }
+
+    private static boolean isIpLiteral(String address) {
+        if (address.indexOf(':') >= 0) {
+            return true;
+        }
+        for (int i = 0; i < address.length(); i++) {
+            char c = address.charAt(i);
+            if (c != '.' && (c < '0' || c > '9')) {
+                return false;
+            }
+        }
+        return !address.isEmpty();
+    }
+
+    private static Counter eventCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("audit.events")
+                .description("감사 이벤트 기록 결과별 건수")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
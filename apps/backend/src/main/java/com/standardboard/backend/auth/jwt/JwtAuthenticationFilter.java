@@ -1,9 +1,13 @@
 package com.standardboard.backend.auth.jwt;
 
+import com.standardboard.backend.audit.AuditEventType;
+import com.standardboard.backend.audit.AuditLog;
+import com.standardboard.backend.audit.AuditReason;
 import com.standardboard.backend.service.auth.CustomUserDetailsService;
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -14,13 +18,16 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 /**
  * JWT 인증을 담당하는 필터
  *
  * 모든 HTTP 요청마다 JWT 토큰을 검증하고, 유효하면 SecurityContext에 인증 정보를 설정합니다.
+ * 유효한 토큰으로 인증을 설정하지 못한 경우(탈퇴한 사용자 등)는 감사 로그에 TOKEN_REJECTED로 기록합니다.
  */
 @Log4j2
 @RequiredArgsConstructor
@@ -28,21 +35,27 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
     private final CustomUserDetailsService userDetailsService;
+    private final AuditLog auditLog;
+
+    private final LogRateLimiter failureLogLimiter = new LogRateLimiter(10, TimeUnit.SECONDS);
 
     public static final String TOKEN_PREFIX = "Bearer ";
     public static final String HEADER_STRING = "Authorization";
+    // 로그인 시 발급하는 HttpOnly 쿠키 이름 (브라우저 클라이언트는 헤더 대신 이 쿠키로 인증)
+    public static final String ACCESS_TOKEN_COOKIE = "accessToken";
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
+        String userEmail = null;
         try {
             String jwt = getJwtFromRequest(request);
 
             if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
                 // 1. 토큰에서 이메일(사용자 식별자) 추출
                 Claims claims = tokenProvider.getClaimsFromToken(jwt);
-                String userEmail = claims.getSubject();
+                userEmail = claims.getSubject();
 
                 // 2. 이메일로 UserDetails 로드
                 UserDetails userDetails = userDetailsService.loadUserByUsername(userEmail);
@@ -57,18 +70,26 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             }
         } catch (Exception ex) {
+            auditLog.record(AuditEventType.TOKEN_REJECTED, AuditReason.TOKEN_USER_REJECTED, null, userEmail);
             // 토큰 만료 등 예외 발생 시 로그 기록. (인증 실패는 403 Forbidden 대신 401 Unauthorized 처리 필요 - 추후 구현)
-            log.error("Security Context에서 사용자 인증을 설정할 수 없습니다.", ex);
+            // 탈퇴한 사용자의 토큰처럼 클라이언트가 반복해서 일으킬 수 있으므로 빈도를 제한합니다.
+            long suppressed = failureLogLimiter.tryAcquire();
+            if (suppressed >= 0) {
+                log.error("Security Context에서 사용자 인증을 설정할 수 없습니다. (직전 로그 이후 생략 {}건)", suppressed, ex);
+            }
         }
 
         filterChain.doFilter(request, response);
     }
 
-    private String getJwtFromRequest(HttpServletRequest request) {
+    // Authorization 헤더를 우선 사용하고, 없으면 accessToken 쿠키를 사용합니다. (ConditionalRequestFilter도 사용)
+    // 쿠키로 인증하는 쓰기 요청은 SecurityConfig의 CSRF 검사를 거칩니다. (docs/authentication.md)
+    public static String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader(HEADER_STRING);
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(TOKEN_PREFIX)) {
             return bearerToken.substring(TOKEN_PREFIX.length());
         }
-        return null;
+        Cookie cookie = WebUtils.getCookie(request, ACCESS_TOKEN_COOKIE);
+        return (cookie != null) ? cookie.getValue() : null;
     }
 }
\ No newline at end of file
@@ -1,9 +1,14 @@
 package com.standardboard.backend.auth.jwt;
 
+import com.standardboard.backend.audit.AuditEventType;
+import com.standardboard.backend.audit.AuditLog;
+import com.standardboard.backend.audit.AuditReason;
 import com.standardboard.backend.domain.user.Role;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -11,18 +16,33 @@ import io.jsonwebtoken.security.SignatureException;
 
 import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * JWT 토큰 생성, 유효성 검증을 담당하는 유틸리티 클래스 (Provider)
  * Spring Security의 주요 인증 필터에 의해 사용됩니다.
+ *
+ * 지표: auth.jwt.validation (outcome=valid|signature|expired|malformed|unsupported|empty)
+ *   검증 시간과 결과별 건수(타이머 count)를 함께 기록합니다.
+ * 감사 로그: 검증에 실패한 토큰은 TOKEN_REJECTED로 기록합니다. (만료 토큰은 subject 포함)
  */
 @Log4j2
 @Component
 public class JwtTokenProvider {
 
+    // 실패 로그는 결과 종류별로 10초에 한 번만 남깁니다.
+    private static final long FAILURE_LOG_INTERVAL_SECONDS = 10;
+
     // 불변성을 위해 final로 선언합니다.
     private final SecretKey secretKey;
     private final long expirationTime; // 밀리초 단위
+    private final AuditLog auditLog;
+
+    // 결과별 타이머와 로그 제한기는 미리 만들어 두어 검증마다 레지스트리를 조회하지 않습니다.
+    private final Map<ValidationOutcome, Timer> validationTimers = new EnumMap<>(ValidationOutcome.class);
+    private final Map<ValidationOutcome, LogRateLimiter> failureLogLimiters = new EnumMap<>(ValidationOutcome.class);
 
     /**
      * Best Practice 해설:
@@ -30,12 +50,25 @@ public class JwtTokenProvider {
      * 2. 즉시 초기화: 주입받은 Base64 문자열을 생성자 내에서 즉시 SecretKey 객체로 변환하여 final 필드를 초기화
      */
     public JwtTokenProvider(@Value("${app.jwt.secret-key}") String secretKeyString,
-                            @Value("${app.jwt.expiration-in-ms}") long expirationTime) {
+                            @Value("${app.jwt.expiration-in-ms}") long expirationTime,
+                            AuditLog auditLog,
+                            MeterRegistry meterRegistry) {
 
         // Base64 문자열을 디코딩하여 HMAC-SHA 알고리즘에 사용할 SecretKey 객체로 변환
         byte[] keyBytes = Decoders.BASE64.decode(secretKeyString);
         this.secretKey = Keys.hmacShaKeyFor(keyBytes);
         this.expirationTime = expirationTime;
+        this.auditLog = auditLog;
+
+        for (ValidationOutcome outcome : ValidationOutcome.values()) {
+            validationTimers.put(outcome, Timer.builder("auth.jwt.validation")
+                    .description("JWT 파싱 및 서명 검증 시간")
+                    .tag("outcome", outcome.tag)
+                    .register(meterRegistry));
+            if (outcome != ValidationOutcome.VALID) {
+                failureLogLimiters.put(outcome, new LogRateLimiter(FAILURE_LOG_INTERVAL_SECONDS, TimeUnit.SECONDS));
+            }
+        }
     }
 
     /**
@@ -75,21 +108,57 @@ public class JwtTokenProvider {
      * @return 유효하면 true, 아니면 false
      */
     public boolean validateToken(String token) {
+        long start = System.nanoTime();
+        ValidationOutcome outcome;
+        String subject = null;
         try {
             getClaimsFromToken(token);
-            return true;
+            outcome = ValidationOutcome.VALID;
         } catch (SignatureException ex) {
-            log.error("Invalid JWT signature"); // 서명 불일치 (위변조)
+            outcome = ValidationOutcome.SIGNATURE; // 서명 불일치 (위변조)
         } catch (MalformedJwtException ex) {
-            log.error("Invalid JWT token"); // JWT 형식 오류
+            outcome = ValidationOutcome.MALFORMED; // JWT 형식 오류
         } catch (ExpiredJwtException ex) {
-            log.error("Expired JWT token"); // 토큰 만료
+            outcome = ValidationOutcome.EXPIRED; // 토큰 만료
+            subject = ex.getClaims().getSubject(); // 서명은 검증된 뒤 만료가 판정되므로 subject를 신뢰할 수 있음
         } catch (UnsupportedJwtException ex) {
-            log.error("Unsupported JWT token"); // 지원하지 않는 형식의 토큰
+            outcome = ValidationOutcome.UNSUPPORTED; // 지원하지 않는 형식의 토큰
         } catch (IllegalArgumentException ex) {
-            log.error("JWT claims string is empty."); // 클레임 문자열이 비어있음
+            outcome = ValidationOutcome.EMPTY; // 클레임 문자열이 비어있음
+        }
+        validationTimers.get(outcome).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        if (outcome == ValidationOutcome.VALID) {
+            return true;
+        }
+        auditLog.record(AuditEventType.TOKEN_REJECTED, outcome.auditReason, null, subject);
+        long suppressed = failureLogLimiters.get(outcome).tryAcquire();
+        if (suppressed >= 0) {
+            log.warn("{} (직전 로그 이후 생략된 같은 실패 {}건)", outcome.message, suppressed);
         }
         return false;
     }
 
+    /**
+     * 토큰 검증 결과 (지표 태그, 로그 메시지, 감사 로그 사유)
+     */
+    private enum ValidationOutcome {
+        VALID("valid", null, AuditReason.NONE),
+        SIGNATURE("signature", "Invalid JWT signature", AuditReason.TOKEN_SIGNATURE),
+        MALFORMED("malformed", "Invalid JWT token", AuditReason.TOKEN_MALFORMED),
+        EXPIRED("expired", "Expired JWT token", AuditReason.TOKEN_EXPIRED),
+        UNSUPPORTED("unsupported", "Unsupported JWT token", AuditReason.TOKEN_UNSUPPORTED),
+        EMPTY("empty", "JWT claims string is empty.", AuditReason.TOKEN_EMPTY);
+
+        private final String tag;
+        private final String message;
+        private final AuditReason auditReason;
+
+        ValidationOutcome(String tag, String message, AuditReason auditReason) {
+            this.tag = tag;
+            this.message = message;
+            this.auditReason = auditReason;
+        }
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,37 @@
+package com.standardboard.backend.auth.jwt;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로그 출력 빈도 제한기
+ *
+ * 위조/만료 토큰처럼 클라이언트가 얼마든지 만들어낼 수 있는 실패를 매번 기록하면
+ * 로그 I/O 자체가 부하가 되므로, 주기마다 한 번만 기록하고 그 사이 생략한 건수를 함께 남깁니다.
+ * (건수 자체는 Micrometer 지표로 빠짐없이 집계합니다)
+ */
+final class LogRateLimiter {
+
+    private final long intervalNanos;
+    private final AtomicLong nextAllowedNanos;
+    private final AtomicLong suppressed = new AtomicLong();
+
+    LogRateLimiter(long interval, TimeUnit unit) {
+        this.intervalNanos = unit.toNanos(interval);
+        this.nextAllowedNanos = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * 이번 이벤트를 기록해도 되는지 확인합니다.
+     * @return 기록해도 되면 직전 기록 이후 생략된 건수(0 이상), 생략해야 하면 -1
+     */
+    long tryAcquire() {
+        long now = System.nanoTime();
+        long next = nextAllowedNanos.get();
+        if (now - next < 0 || !nextAllowedNanos.compareAndSet(next, now + intervalNanos)) {
+            suppressed.incrementAndGet();
+            return -1;
+        }
+        return suppressed.getAndSet(0);
+    }
+}
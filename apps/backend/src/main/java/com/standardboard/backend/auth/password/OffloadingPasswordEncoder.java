@@ -0,0 +1,83 @@
+package com.standardboard.backend.auth.password;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * BCrypt 같은 CPU 집약적 해싱을 전용 스레드 풀로 넘기는 PasswordEncoder 래퍼
+ *
+ * 가상 스레드 모드에서는 요청 스레드 수에 제한이 없으므로, 로그인이 몰리면 BCrypt가
+ * 가상 스레드의 캐리어(플랫폼 스레드)를 모두 점유해 다른 가벼운 요청까지 지연됩니다.
+ * 해싱을 크기가 고정된 풀에서만 수행하면 동시에 도는 BCrypt 수가 제한되고,
+ * 호출한 가상 스레드는 결과를 기다리는 동안 캐리어를 반납합니다.
+ * (플랫폼 스레드 모드에서도 동일하게 동시 해싱 수를 제한하는 효과가 있습니다.)
+ *
+ * 지표: auth.password.hash (operation=encode|matches) - 해싱 자체 시간,
+ *       auth.password.queue - 풀에서 차례를 기다린 시간, auth.password.queue.size / auth.password.active
+ */
+public class OffloadingPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final PasswordHashExecutor executor;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer queueTimer;
+
+    public OffloadingPasswordEncoder(PasswordEncoder delegate, PasswordHashExecutor executor, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.executor = executor;
+
+        this.encodeTimer = hashTimer(meterRegistry, "encode");
+        this.matchesTimer = hashTimer(meterRegistry, "matches");
+        this.queueTimer = Timer.builder("auth.password.queue")
+                .description("해싱 풀에서 차례를 기다린 시간")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.queue.size", executor, PasswordHashExecutor::getQueueSize)
+                .description("해싱 대기 중인 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.active", executor, PasswordHashExecutor::getActiveCount)
+                .description("해싱 중인 스레드 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        long submitted = System.nanoTime();
+        return executor.call(() -> timed(submitted, encodeTimer, () -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        long submitted = System.nanoTime();
+        return executor.call(() -> timed(submitted, matchesTimer, () -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    // 풀 스레드에서 실행: 대기 시간과 해싱 시간을 나눠 기록
+    private <T> T timed(long submitted, Timer hashTimer, Supplier<T> hashing) {
+        long start = System.nanoTime();
+        queueTimer.record(start - submitted, TimeUnit.NANOSECONDS);
+        try {
+            return hashing.get();
+        } finally {
+            hashTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static Timer hashTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("auth.password.hash")
+                .description("비밀번호 해싱(BCrypt) 시간")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,74 @@
+package com.standardboard.backend.auth.password;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비밀번호 해싱 전용 고정 크기 스레드 풀
+ *
+ * java.util.concurrent.Executor 를 구현하지 않는 래퍼로 두어, Bean으로 등록해도
+ * Spring Boot의 기본 applicationTaskExecutor(@Async, MVC 비동기 처리)를 대체하지 않도록 합니다.
+ * 큐가 가득 차면 호출 스레드에서 직접 수행합니다. (CallerRunsPolicy)
+ */
+public class PasswordHashExecutor {
+
+    private final ThreadPoolExecutor executor;
+
+    public PasswordHashExecutor(int threads, int queueCapacity) {
+        this.executor = new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * 작업을 풀에서 실행하고 결과를 기다립니다.
+     * 가상 스레드에서 호출하면 기다리는 동안 캐리어 스레드를 반납합니다.
+     */
+    public <T> T call(Callable<T> task) {
+        Future<T> future = executor.submit(task);
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 해싱 중 인터럽트되었습니다.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("비밀번호 해싱에 실패했습니다.", cause);
+        }
+    }
+
+    public int getPoolSize() {
+        return executor.getMaximumPoolSize();
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    public int getQueueCapacity() {
+        return executor.getQueue().size() + executor.getQueue().remainingCapacity();
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,292 @@
+package com.standardboard.backend.conditional;
+
+import com.standardboard.backend.auth.jwt.JwtAuthenticationFilter;
+import com.standardboard.backend.auth.jwt.JwtTokenProvider;
+import com.standardboard.backend.monitoring.sql.SqlStatementStats;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.time.Clock;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 조건부 GET(If-None-Match) 처리 필터
+ *
+ * 게시판 인기글 목록과 내 정보 조회에 ResourceVersions의 버전으로 만든 ETag를 붙이고,
+ * 요청의 If-None-Match가 현재 ETag와 같으면 인증 필터의 사용자 조회, 컨트롤러, 직렬화를 모두 건너뛰고 304로 응답합니다.
+ * Spring Security 필터 체인 안에서 JwtAuthenticationFilter 바로 앞에 둡니다. (SecurityConfig)
+ * - 인기글(공개 API): 토큰 없이 판단합니다. 점수는 시간에 따라 감쇠하므로 max-staleness-seconds 구간 번호를 ETag에 섞어,
+ *   순서는 바뀌는 즉시 반영하고 점수는 최대 그 시간만큼만 이전 값을 유지합니다.
+ * - 내 정보: 토큰의 서명과 만료만 확인해 이메일을 얻습니다. (사용자 조회 없음) 토큰이 유효하지 않으면 판단하지 않고 넘깁니다.
+ * - ETag는 2xx 응답에만 붙이고, Cache-Control: private, no-cache 로 클라이언트가 매번 재검증하게 합니다.
+ * 지표: conditional.requests (resource, outcome=not_modified|modified|unconditional),
+ *       conditional.saved.time / conditional.saved.statements / conditional.saved.bytes (resource)
+ *       - 304마다 최근 전체 응답(200)의 평균 비용을 더한 추정치
+ */
+public class ConditionalRequestFilter extends OncePerRequestFilter {
+
+    static final String USER_ME_PATH = "/api/v1/users/me";
+    private static final Pattern TRENDING_PATH = Pattern.compile("/api/v1/boards/(\\d{1,18})/trending");
+    private static final String CACHE_CONTROL = "private, no-cache";
+
+    private final ResourceVersions resourceVersions;
+    private final JwtTokenProvider tokenProvider;
+    private final long maxStalenessSeconds;
+    private final Clock clock;
+    private final Map<ResourceKey.Type, ResourceMeters> meters = new EnumMap<>(ResourceKey.Type.class);
+
+    public ConditionalRequestFilter(ResourceVersions resourceVersions, JwtTokenProvider tokenProvider,
+                                    long maxStalenessSeconds, MeterRegistry meterRegistry) {
+        if (maxStalenessSeconds <= 0) {
+            throw new IllegalArgumentException("app.conditional.trending-max-staleness-seconds는 양수여야 합니다.");
+        }
+        this.resourceVersions = resourceVersions;
+        this.tokenProvider = tokenProvider;
+        this.maxStalenessSeconds = maxStalenessSeconds;
+        this.clock = Clock.systemUTC();
+        for (ResourceKey.Type type : ResourceKey.Type.values()) {
+            meters.put(type, new ResourceMeters(meterRegistry, type.name().toLowerCase(Locale.ROOT)));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        ResourceKey key = resolve(request, path);
+        if (key == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // 조회 전에 버전을 읽습니다. 조회 중 커밋된 변경은 다음 요청에서 ETag가 달라집니다.
+        String etag = resourceVersions.etag(key, representation(request, key));
+        ResourceMeters resourceMeters = meters.get(key.type());
+        boolean conditional = request.getHeader(HttpHeaders.IF_NONE_MATCH) != null;
+        if (conditional && new ServletWebRequest(request).checkNotModified(etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            writeHeaders(response, etag);
+            resourceMeters.notModified();
+            return;
+        }
+
+        long start = System.nanoTime();
+        SqlStatementStats stats = SqlStatementStats.current();
+        int statementsBefore = (stats != null) ? stats.getStatements() : 0;
+        EtagResponse etagResponse = new EtagResponse(response, etag);
+        filterChain.doFilter(request, etagResponse);
+        if (response.getStatus() == HttpServletResponse.SC_OK) {
+            int statements = (stats != null) ? stats.getStatements() - statementsBefore : 0;
+            resourceMeters.served(conditional, System.nanoTime() - start, statements, etagResponse.contentLength);
+        }
+    }
+
+    private ResourceKey resolve(HttpServletRequest request, String path) {
+        if (USER_ME_PATH.equals(path)) {
+            String email = tokenSubject(request);
+            return (email != null) ? ResourceKey.user(email) : null;
+        }
+        Matcher matcher = TRENDING_PATH.matcher(path);
+        if (matcher.matches()) {
+            return ResourceKey.board(Long.parseLong(matcher.group(1)));
+        }
+        return null;
+    }
+
+    // 서명과 만료만 확인합니다. 실패 시 감사 로그, 지표는 뒤의 JwtAuthenticationFilter가 평소대로 남깁니다.
+    private String tokenSubject(HttpServletRequest request) {
+        String jwt = JwtAuthenticationFilter.getJwtFromRequest(request);
+        if (!StringUtils.hasText(jwt)) {
+            return null;
+        }
+        try {
+            return tokenProvider.getClaimsFromToken(jwt).getSubject();
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    // 같은 자원이라도 응답 형식(Accept), 쿼리(size 등)가 다르면 다른 ETag를 씁니다.
+    private String representation(HttpServletRequest request, ResourceKey key) {
+        StringBuilder representation = new StringBuilder();
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept != null) {
+            representation.append(accept);
+        }
+        representation.append('|');
+        if (request.getQueryString() != null) {
+            representation.append(request.getQueryString());
+        }
+        if (key.type() == ResourceKey.Type.BOARD) {
+            representation.append('|').append(clock.instant().getEpochSecond() / maxStalenessSeconds);
+        }
+        return representation.toString();
+    }
+
+    private static void writeHeaders(HttpServletResponse response, String etag) {
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+    }
+
+    /**
+     * 본문을 쓰기 시작할 때 상태가 2xx이면 ETag를 붙이고, 본문 크기(Content-Length)를 기록하는 래퍼
+     * (sendError로 끝나는 오류 응답은 본문 스트림을 거치지 않으므로 ETag가 붙지 않습니다)
+     */
+    private static final class EtagResponse extends HttpServletResponseWrapper {
+        private final String etag;
+        private long contentLength = -1;
+        private boolean headersWritten;
+
+        EtagResponse(HttpServletResponse response, String etag) {
+            super(response);
+            this.etag = etag;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            beforeBody();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            beforeBody();
+            return super.getWriter();
+        }
+
+        private void beforeBody() {
+            if (!headersWritten && !isCommitted() && getStatus() / 100 == 2) {
+                writeHeaders((HttpServletResponse) getResponse(), etag);
+            }
+            headersWritten = true;
+        }
+
+        @Override
+        public void setContentLength(int len) {
+            contentLength = len;
+            super.setContentLength(len);
+        }
+
+        @Override
+        public void setContentLengthLong(long len) {
+            contentLength = len;
+            super.setContentLengthLong(len);
+        }
+
+        @Override
+        public void setHeader(String name, String value) {
+            recordContentLength(name, value);
+            super.setHeader(name, value);
+        }
+
+        @Override
+        public void addHeader(String name, String value) {
+            recordContentLength(name, value);
+            super.addHeader(name, value);
+        }
+
+        private void recordContentLength(String name, String value) {
+            if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name) && value != null) {
+                try {
+                    contentLength = Long.parseLong(value.trim());
+                } catch (NumberFormatException ignored) {
+                    // 잘못된 값은 기록하지 않습니다.
+                }
+            }
+        }
+    }
+
+    /**
+     * 자원 종류별 지표와 전체 응답(200) 비용의 지수 이동 평균
+     * 평균은 여러 요청 스레드가 동기화 없이 갱신하는 추정치입니다.
+     */
+    private static final class ResourceMeters {
+        private static final double ALPHA = 0.2;
+
+        private final Counter notModified;
+        private final Counter modified;
+        private final Counter unconditional;
+        private final Counter savedTime;
+        private final Counter savedStatements;
+        private final Counter savedBytes;
+
+        private volatile double avgNanos;
+        private volatile double avgStatements;
+        private volatile double avgBytes;
+        private volatile boolean sampled;
+
+        ResourceMeters(MeterRegistry meterRegistry, String resource) {
+            this.notModified = requests(meterRegistry, resource, "not_modified");
+            this.modified = requests(meterRegistry, resource, "modified");
+            this.unconditional = requests(meterRegistry, resource, "unconditional");
+            this.savedTime = Counter.builder("conditional.saved.time")
+                    .description("304 응답으로 건너뛴 처리 시간 추정치")
+                    .baseUnit("seconds")
+                    .tag("resource", resource)
+                    .register(meterRegistry);
+            this.savedStatements = Counter.builder("conditional.saved.statements")
+                    .description("304 응답으로 건너뛴 SQL 문 수 추정치")
+                    .tag("resource", resource)
+                    .register(meterRegistry);
+            this.savedBytes = Counter.builder("conditional.saved.bytes")
+                    .description("304 응답으로 보내지 않은 본문 크기 추정치")
+                    .baseUnit("bytes")
+                    .tag("resource", resource)
+                    .register(meterRegistry);
+        }
+
+        void notModified() {
+            notModified.increment();
+            savedTime.increment(avgNanos / 1_000_000_000.0);
+            savedStatements.increment(avgStatements);
+            savedBytes.increment(avgBytes);
+        }
+
+        void served(boolean conditional, long nanos, int statements, long bytes) {
+            (conditional ? modified : unconditional).increment();
+            double size = Math.max(bytes, 0);
+            if (!sampled) {
+                avgNanos = nanos;
+                avgStatements = statements;
+                avgBytes = size;
+                sampled = true;
+                return;
+            }
+            avgNanos += ALPHA * (nanos - avgNanos);
+            avgStatements += ALPHA * (statements - avgStatements);
+            avgBytes += ALPHA * (size - avgBytes);
+        }
+
+        private static Counter requests(MeterRegistry meterRegistry, String resource, String outcome) {
+            return Counter.builder("conditional.requests")
+                    .description("ETag 대상 GET 요청 처리 결과")
+                    .tag("resource", resource)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.standardboard.backend.conditional;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 같은 JVM 안의 구독자에게만 변경을 전달하는 기본 구현 (단일 인스턴스 운영용)
+ */
+public class InJvmResourceVersionNotifier implements ResourceVersionNotifier {
+
+    private final List<Consumer<ResourceKey>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(ResourceKey key) {
+        for (Consumer<ResourceKey> listener : listeners) {
+            listener.accept(key);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<ResourceKey> listener) {
+        listeners.add(listener);
+    }
+}
@@ -0,0 +1,13 @@
+package com.standardboard.backend.conditional;
+
+/**
+ * 다른 인스턴스의 변경을 받았을 때, 새 버전을 매기기 전에 이 인스턴스의 캐시를 비우는 훅
+ *
+ * 이 인스턴스의 쓰기는 Hibernate가 커밋 시점에 2차 캐시를 갱신하지만, 다른 인스턴스의 쓰기는 알 수 없습니다.
+ * 캐시를 비우지 않고 버전만 올리면 이전 데이터가 새 ETag로 나가고, 다음 쓰기까지 304로 계속 재사용됩니다.
+ * 구현체를 Bean으로 등록하면 ResourceVersions가 다른 인스턴스의 변경마다 버전을 올리기 전에 호출합니다.
+ */
+public interface LocalCacheInvalidator {
+
+    void invalidate(ResourceKey key);
+}
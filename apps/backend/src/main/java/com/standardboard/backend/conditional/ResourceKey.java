@@ -0,0 +1,25 @@
+package com.standardboard.backend.conditional;
+
+/**
+ * 버전을 따로 관리하는 읽기 자원 하나 (ETag 단위)
+ *
+ * 노드 간 무효화 메시지로도 그대로 쓰이므로 타입과 문자열 ID만 담습니다.
+ * @param type 자원 종류
+ * @param id 자원 식별자 (게시판 ID, 사용자 이메일)
+ */
+public record ResourceKey(Type type, String id) {
+
+    public enum Type {
+        BOARD, // 게시판 인기글 목록
+        USER // 사용자 프로필 (내 정보)
+    }
+
+    public static ResourceKey board(long boardId) {
+        return new ResourceKey(Type.BOARD, Long.toString(boardId));
+    }
+
+    // JWT subject와 같은 이메일을 키로 씁니다. (이메일은 바뀌지 않는 자연 키)
+    public static ResourceKey user(String email) {
+        return new ResourceKey(Type.USER, email);
+    }
+}
@@ -0,0 +1,25 @@
+package com.standardboard.backend.conditional;
+
+import java.util.function.Consumer;
+
+/**
+ * 자원 변경(버전 증가)을 구독자에게 전달하는 통로
+ *
+ * 기본 구현(InJvmResourceVersionNotifier)은 같은 JVM 안에서만 전달합니다.
+ * 여러 인스턴스로 운영할 때는 Redis Pub/Sub, 메시지 브로커 등으로 다른 인스턴스에도 전달하는 구현을
+ * Bean으로 등록하면 ResourceVersions가 기본 구현 대신 사용합니다.
+ */
+public interface ResourceVersionNotifier {
+
+    /**
+     * 변경을 알립니다.
+     * 같은 JVM의 구독자에게는 반환하기 전에 전달해야 합니다. (쓰기를 한 인스턴스가 곧바로 이전 ETag에 304를 주지 않도록)
+     * 다른 인스턴스에는 비동기로 전달해도 되며, 그 지연 동안은 해당 인스턴스가 이전 버전으로 응답할 수 있습니다.
+     */
+    void publish(ResourceKey key);
+
+    /**
+     * 이 인스턴스와 다른 인스턴스에서 발생한 변경을 받을 구독자를 등록합니다.
+     */
+    void subscribe(Consumer<ResourceKey> listener);
+}
@@ -0,0 +1,125 @@
+package com.standardboard.backend.conditional;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 자원별 메모리 버전 카운터와 ETag 생성
+ *
+ * 쓰기가 일어나면 bump()로 자원의 버전을 올리고, 조회 요청은 DB나 직렬화 없이 현재 버전만으로 ETag를 만듭니다.
+ * - 버전은 인스턴스 전체에서 하나씩 증가하는 순번에서 받습니다. 한 번 쓴 값은 다시 나오지 않습니다.
+ * - 쓰기 이후 버전이 바뀐 적 없는 자원은 공통 하한값(floor)을 버전으로 씁니다.
+ *   용량(max-tracked)을 넘어 밀려난 자원은 하한값을 그 자원의 버전 이상으로 올려, 이전 ETag가 다시 맞지 않게 합니다.
+ * - ETag에는 기동마다 새로 만드는 epoch를 섞습니다. 재기동 전이나 다른 인스턴스의 ETag는 맞지 않아 전체 응답으로 처리됩니다.
+ * - 트랜잭션 안에서 bump()하면 커밋 후에 알립니다. (커밋 전에 올리면 이전 데이터가 새 ETag로 캐시될 수 있음)
+ * 변경 알림은 ResourceVersionNotifier를 거치며, 다른 인스턴스의 변경도 같은 경로로 받습니다.
+ * 다른 인스턴스의 변경은 LocalCacheInvalidator로 이 인스턴스의 캐시를 먼저 비운 뒤 버전을 올립니다.
+ */
+@Component
+public class ResourceVersions {
+
+    // publish()는 같은 JVM의 구독자에게 반환 전에 전달하므로, 이 표시가 있는 스레드의 알림은 이 인스턴스의 변경입니다.
+    private static final ThreadLocal<Boolean> PUBLISHING_LOCAL_CHANGE = new ThreadLocal<>();
+
+    private final ResourceVersionNotifier notifier;
+    private final ObjectProvider<LocalCacheInvalidator> cacheInvalidators;
+    private final byte[] epoch = new byte[16];
+    private final AtomicLong sequence = new AtomicLong();
+    private final Cache<ResourceKey, Long> versions;
+    // 밀려난 자원과 아직 변경이 없던 자원의 버전 (evictionListener 안에서만 올림)
+    private final AtomicLong floor = new AtomicLong();
+
+    public ResourceVersions(ObjectProvider<ResourceVersionNotifier> notifier,
+                            ObjectProvider<LocalCacheInvalidator> cacheInvalidators,
+                            @Value("${app.conditional.max-tracked:100000}") long maxTracked,
+                            MeterRegistry meterRegistry) {
+        new SecureRandom().nextBytes(epoch);
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maxTracked)
+                .evictionListener((ResourceKey key, Long version, RemovalCause cause) -> floor.accumulateAndGet(version, Math::max))
+                .build();
+        // 캐시 무효화 Bean은 EntityManagerFactory에 의존하므로, 순환 참조를 피하려고 알림을 받을 때 가져옵니다.
+        this.cacheInvalidators = cacheInvalidators;
+        this.notifier = notifier.getIfAvailable(InJvmResourceVersionNotifier::new);
+        this.notifier.subscribe(this::advance);
+        Gauge.builder("conditional.versions.size", versions, Cache::estimatedSize)
+                .description("쓰기 이후 버전을 따로 기억하는 자원 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 자원이 바뀌었음을 알립니다. 진행 중인 트랜잭션이 있으면 커밋된 뒤에 알립니다.
+     */
+    public void bump(ResourceKey key) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publishLocalChange(key);
+                }
+            });
+            return;
+        }
+        publishLocalChange(key);
+    }
+
+    /**
+     * 현재 버전으로 약한 ETag(W/"...")를 만듭니다.
+     * 조회 결과를 만들기 전에 호출해야 합니다. (조회 중 커밋된 변경은 다음 요청에서 다른 ETag가 됨)
+     * @param key 자원
+     * @param representation 같은 자원의 다른 표현을 구분하는 값 (Accept, 쿼리 등)
+     */
+    public String etag(ResourceKey key, String representation) {
+        Long version = versions.getIfPresent(key);
+        long current = (version != null) ? version : floor.get();
+        // 자원 식별자는 드러내지 않고, 다른 사용자/표현의 ETag와 겹치지 않도록 해시에 섞습니다.
+        MessageDigest digest = sha256();
+        digest.update(epoch);
+        digest.update((byte) key.type().ordinal());
+        digest.update(key.id().getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(representation.getBytes(StandardCharsets.UTF_8));
+        return "W/\"" + HexFormat.of().formatHex(digest.digest(), 0, 8) + "." + Long.toString(current, 36) + "\"";
+    }
+
+    private void publishLocalChange(ResourceKey key) {
+        PUBLISHING_LOCAL_CHANGE.set(Boolean.TRUE);
+        try {
+            notifier.publish(key);
+        } finally {
+            PUBLISHING_LOCAL_CHANGE.remove();
+        }
+    }
+
+    // 구독 콜백: 이 인스턴스와 다른 인스턴스의 변경 모두 여기로 들어옵니다.
+    // 다른 인스턴스의 변경이면 캐시를 먼저 비워, 새 버전의 ETag로 이전 데이터가 나가지 않게 합니다.
+    private void advance(ResourceKey key) {
+        if (PUBLISHING_LOCAL_CHANGE.get() == null) {
+            cacheInvalidators.orderedStream().forEach(invalidator -> invalidator.invalidate(key));
+        }
+        versions.put(key, sequence.incrementAndGet());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
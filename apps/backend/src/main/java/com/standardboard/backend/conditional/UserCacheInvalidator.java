@@ -0,0 +1,50 @@
+package com.standardboard.backend.conditional;
+
+import com.standardboard.backend.domain.user.User;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.cache.spi.access.NaturalIdDataAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다른 인스턴스에서 바뀐 사용자를 이 인스턴스의 2차 캐시(User 엔티티, 이메일 자연 키)에서 지웁니다.
+ *
+ * ETag 키는 이메일이므로, 자연 키 캐시에서 ID를 찾아 엔티티 항목과 함께 지웁니다.
+ * 자연 키 캐시에 없으면 주 DB에서 ID를 조회하고, 그래도 없으면(삭제된 사용자) User 엔티티 리전 전체를 비웁니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserCacheInvalidator implements LocalCacheInvalidator {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void invalidate(ResourceKey key) {
+        if (key.type() != ResourceKey.Type.USER) {
+            return;
+        }
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        EntityPersister persister = sessionFactory.getMappingMetamodel().getEntityDescriptor(User.class);
+        NaturalIdDataAccess naturalIds = persister.getNaturalIdCacheAccessStrategy();
+
+        // 트랜잭션 밖의 세션이라 ID 조회는 주 DB로 갑니다. (복제본 지연과 무관)
+        try (SessionImplementor session = (SessionImplementor) sessionFactory.openSession()) {
+            Object cacheKey = naturalIds.generateCacheKey(key.id(), persister, session);
+            Object id = naturalIds.get(session, cacheKey);
+            naturalIds.evict(cacheKey);
+            if (id == null) {
+                id = session.createSelectionQuery("select u.id from User u where u.email = :email", Long.class)
+                        .setParameter("email", key.id())
+                        .uniqueResult();
+            }
+            if (id != null) {
+                sessionFactory.getCache().evictEntityData(User.class, id);
+            } else {
+                sessionFactory.getCache().evictEntityData(User.class);
+            }
+        }
+    }
+}
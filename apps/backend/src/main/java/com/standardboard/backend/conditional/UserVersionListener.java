@@ -0,0 +1,27 @@
+package com.standardboard.backend.conditional;
+
+import com.standardboard.backend.domain.user.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * User 엔티티 변경 시 사용자 버전을 올리는 JPA 엔티티 리스너
+ *
+ * Spring Boot가 Hibernate에 SpringBeanContainer를 설정하므로 리스너도 Bean으로 생성되어 주입을 받습니다.
+ * 플러시 시점에 호출되지만 ResourceVersions가 커밋 후에 알립니다.
+ * (JPQL/네이티브 벌크 수정은 엔티티 이벤트가 없으므로 직접 bump를 호출해야 합니다)
+ */
+@Component
+@RequiredArgsConstructor
+public class UserVersionListener {
+
+    private final ResourceVersions resourceVersions;
+
+    @PostUpdate
+    @PostRemove
+    public void changed(User user) {
+        resourceVersions.bump(ResourceKey.user(user.getEmail()));
+    }
+}
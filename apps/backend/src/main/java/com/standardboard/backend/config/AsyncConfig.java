@@ -0,0 +1,19 @@
+package com.standardboard.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * @Async / @Scheduled 활성화 설정
+ *
+ * 실행기는 직접 등록하지 않고 Spring Boot 자동 구성(applicationTaskExecutor, taskScheduler)을 그대로 사용합니다.
+ * 따라서 spring.threads.virtual.enabled=true (vthreads 프로필)이면 Tomcat 요청 처리와 함께
+ * 비동기 작업과 스케줄 작업도 가상 스레드에서 실행됩니다.
+ * (java.util.concurrent.Executor 타입 Bean을 추가하면 자동 구성이 물러나므로 주의)
+ */
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class AsyncConfig {
+}
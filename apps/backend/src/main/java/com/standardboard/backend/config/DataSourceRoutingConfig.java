@@ -0,0 +1,78 @@
+package com.standardboard.backend.config;
+
+import com.standardboard.backend.datasource.ReadWriteRoutingDataSource;
+import com.standardboard.backend.datasource.Replica;
+import com.standardboard.backend.datasource.ReplicaHealthChecker;
+import com.standardboard.backend.datasource.ReplicaPool;
+import com.standardboard.backend.datasource.RoutingDataSourceProperties;
+import com.standardboard.backend.datasource.RoutingDataSourceProperties.ReplicaProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기/쓰기 분리 DataSource 설정 (app.datasource.routing.enabled=true 일 때만)
+ *
+ * 주 DB 풀(primaryDataSource)과 복제본 풀을 만들고, JPA가 사용할 기본 DataSource로
+ * ReadWriteRoutingDataSource를 등록합니다. DataSource Bean이 생기므로 Spring Boot의 기본 DataSource 자동 구성은 물러납니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.routing.enabled", havingValue = "true")
+@EnableConfigurationProperties(RoutingDataSourceProperties.class)
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public ReadWriteRoutingDataSource dataSource(HikariDataSource primaryDataSource,
+                                                 RoutingDataSourceProperties properties,
+                                                 MeterRegistry meterRegistry) {
+        List<Replica> replicas = new ArrayList<>();
+        for (int i = 0; i < properties.getReplicas().size(); i++) {
+            ReplicaProperties replica = properties.getReplicas().get(i);
+            String name = (replica.getName() != null) ? replica.getName() : "replica-" + i;
+            replicas.add(new Replica(name, replicaDataSource(name, replica, meterRegistry)));
+        }
+        ReplicaPool replicaPool = new ReplicaPool(primaryDataSource, replicas, properties.getStrategy(), meterRegistry);
+        return new ReadWriteRoutingDataSource(primaryDataSource, replicaPool);
+    }
+
+    @Bean
+    public ReplicaHealthChecker replicaHealthChecker(ReadWriteRoutingDataSource dataSource,
+                                                     RoutingDataSourceProperties properties) {
+        return new ReplicaHealthChecker(dataSource.getReplicaPool(), properties.getFailureThreshold());
+    }
+
+    // 복제본 풀은 Bean이 아니므로 Hikari 지표(hikaricp.*)를 직접 연결합니다.
+    private static HikariDataSource replicaDataSource(String name, ReplicaProperties properties, MeterRegistry meterRegistry) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl(properties.getUrl());
+        dataSource.setUsername(properties.getUsername());
+        dataSource.setPassword(properties.getPassword());
+        dataSource.setMaximumPoolSize(properties.getMaximumPoolSize());
+        dataSource.setConnectionTimeout(properties.getConnectionTimeoutMs());
+        dataSource.setReadOnly(true);
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return dataSource;
+    }
+}
@@ -0,0 +1,110 @@
+package com.standardboard.backend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.util.FastByteArrayOutputStream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+
+/**
+ * 응답 직렬화 형식(JSON, CBOR, Smile) 설정
+ *
+ * Accept: application/cbor 또는 application/x-jackson-smile 을 보낸 클라이언트에게 같은 DTO(ApiResponse 포함)를
+ * 바이너리로 직렬화해 보냅니다. Accept가 없거나 모든 형식을 허용하면 지금처럼 JSON입니다.
+ *
+ * Spring MVC도 라이브러리가 있으면 CBOR/Smile 컨버터를 기본 등록하지만, 그때는 Spring Boot의 spring.jackson.* 설정과
+ * 모듈 구성(날짜 형식 등)이 적용되지 않습니다. 같은 Jackson2ObjectMapperBuilder로 만든 컨버터를 Bean으로 등록해
+ * 기본 컨버터를 대체하고 JSON과 필드 표현을 맞춥니다.
+ * (ObjectMapper 타입 Bean을 추가하면 Boot의 기본 ObjectMapper 자동 구성이 물러나므로 컨버터만 Bean으로 둡니다)
+ *
+ * 세 컨버터 모두 본문을 메모리에 직렬화한 뒤 Content-Length와 함께 씁니다. Jackson 컨버터는 본문을 쓰고 flush하므로
+ * 그대로 두면 길이를 모른 채(chunked) 응답이 커밋되고, Tomcat은 길이를 모르는 응답을 크기와 관계없이 압축합니다.
+ * 길이를 알려야 server.compression.min-response-size 기준이 적용됩니다.
+ * (StreamingResponseBody 내보내기는 컨버터를 거치지 않으므로 그대로 스트리밍됩니다)
+ */
+@Configuration
+public class HttpMessageConverterConfig {
+
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new MappingJackson2HttpMessageConverter(objectMapper) {
+            @Override
+            protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+                writeSized(outputMessage, sized -> super.writeInternal(object, type, sized));
+            }
+        };
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build()) {
+            @Override
+            protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+                writeSized(outputMessage, sized -> super.writeInternal(object, type, sized));
+            }
+        };
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build()) {
+            @Override
+            protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+                writeSized(outputMessage, sized -> super.writeInternal(object, type, sized));
+            }
+        };
+    }
+
+    /**
+     * 컨버터의 쓰기(writer)를 메모리 버퍼에 실행한 뒤, Content-Length를 설정하고 본문을 한 번에 씁니다.
+     */
+    private static void writeSized(HttpOutputMessage outputMessage, BodyWriter writer) throws IOException {
+        SizedOutputMessage sized = new SizedOutputMessage(outputMessage);
+        writer.writeTo(sized);
+        sized.writeTo(outputMessage);
+    }
+
+    @FunctionalInterface
+    private interface BodyWriter {
+        void writeTo(HttpOutputMessage outputMessage) throws IOException;
+    }
+
+    /**
+     * 본문을 메모리에 모았다가 길이를 헤더에 넣고 한 번에 쓰는 HttpOutputMessage
+     */
+    private static final class SizedOutputMessage implements HttpOutputMessage {
+
+        private final HttpHeaders headers;
+        private final FastByteArrayOutputStream body = new FastByteArrayOutputStream(1024);
+
+        private SizedOutputMessage(HttpOutputMessage target) {
+            this.headers = target.getHeaders();
+        }
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        private void writeTo(HttpOutputMessage target) throws IOException {
+            headers.setContentLength(body.size());
+            body.writeTo(target.getBody());
+        }
+    }
+}
@@ -1,9 +1,17 @@
 package com.standardboard.backend.config;
 
+import com.standardboard.backend.audit.AuditLog;
 import com.standardboard.backend.auth.jwt.JwtTokenProvider;
+import com.standardboard.backend.auth.password.OffloadingPasswordEncoder;
+import com.standardboard.backend.auth.password.PasswordHashExecutor;
+import com.standardboard.backend.conditional.ConditionalRequestFilter;
+import com.standardboard.backend.conditional.ResourceVersions;
 import com.standardboard.backend.service.auth.CustomUserDetailsService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -16,11 +24,17 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.csrf.CookieCsrfTokenRepository;
+import org.springframework.security.web.csrf.CsrfTokenRequestAttributeHandler;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.web.util.WebUtils;
+import jakarta.servlet.http.HttpServletRequest;
 import com.standardboard.backend.auth.jwt.JwtAuthenticationFilter;
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer.FrameOptionsConfig;
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer.ContentTypeOptionsConfig;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Spring Security Configuration
@@ -36,21 +50,36 @@ public class SecurityConfig {
     // JWT 컴포넌트들을 의존성 주입받도록 필드 추가
     private final JwtTokenProvider jwtTokenProvider;
     private final CustomUserDetailsService userDetailsService;
+    private final AuditLog auditLog;
 
     // Lombok의 @RequiredArgsConstructor 대신 수동 생성자 주입
-    public SecurityConfig(JwtTokenProvider jwtTokenProvider, CustomUserDetailsService userDetailsService) {
+    public SecurityConfig(JwtTokenProvider jwtTokenProvider, CustomUserDetailsService userDetailsService, AuditLog auditLog) {
         this.jwtTokenProvider = jwtTokenProvider;
         this.userDetailsService = userDetailsService;
+        this.auditLog = auditLog;
     }
 
     /**
      * 비밀번호 암호화(해싱)를 위한 Encoder Bean을 등록합니다.
      * 표준 게시판 프로젝트에서는 강력한 BCrypt 해싱 알고리즘을 사용합니다.
+     * 해싱은 passwordHashExecutor에서만 수행하여 동시에 도는 BCrypt 수를 제한합니다.
      * @return PasswordEncoder
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashExecutor passwordHashExecutor, MeterRegistry meterRegistry) {
+        return new OffloadingPasswordEncoder(new BCryptPasswordEncoder(), passwordHashExecutor, meterRegistry);
+    }
+
+    /**
+     * 비밀번호 해싱 전용 스레드 풀을 등록합니다.
+     * 크기는 CPU 코어 수(기본값)로 고정하고, 큐가 가득 차면 호출 스레드에서 직접 수행합니다.
+     * @return PasswordHashExecutor
+     */
+    @Bean(destroyMethod = "shutdown")
+    public PasswordHashExecutor passwordHashExecutor(@Value("${app.security.password-hash.threads:0}") int threads,
+                                                     @Value("${app.security.password-hash.queue-capacity:1000}") int queueCapacity) {
+        int poolSize = (threads > 0) ? threads : Runtime.getRuntime().availableProcessors();
+        return new PasswordHashExecutor(poolSize, queueCapacity);
     }
 
     /**
@@ -76,12 +105,28 @@ public class SecurityConfig {
     /**
      * Spring Security의 FilterChain을 구성합니다.
      * @param http HttpSecurity 객체
+     * @param resourceVersions 조건부 GET(ETag)에 쓰는 자원 버전
      * @return SecurityFilterChain
      */
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
-        // 1. CSRF 비활성화: REST API는 세션을 사용하지 않고 토큰으로 인증하므로 비활성화합니다.
-        http.csrf(AbstractHttpConfigurer::disable);
+    public SecurityFilterChain filterChain(HttpSecurity http,
+                                           ResourceVersions resourceVersions,
+                                           MeterRegistry meterRegistry,
+                                           @Value("${app.conditional.trending-max-staleness-seconds:60}") long trendingMaxStalenessSeconds,
+                                           @Value("${management.server.port:-1}") int managementPort)
+            throws Exception {
+        // 1. CSRF: Authorization 헤더로 인증하는 요청은 다른 사이트가 위조할 수 없으므로 검사하지 않고,
+        //    브라우저가 자동으로 붙이는 accessToken 쿠키로 인증하는 쓰기 요청만 검사합니다. (Double Submit Cookie)
+        //    로그인 시 XSRF-TOKEN 쿠키를 발급하고, 클라이언트는 같은 값을 X-XSRF-TOKEN 헤더로 보냅니다.
+        CookieCsrfTokenRepository csrfTokenRepository = CookieCsrfTokenRepository.withHttpOnlyFalse();
+        csrfTokenRepository.setCookieCustomizer(cookie -> cookie.path("/").sameSite("Strict"));
+        http.csrf(csrf -> csrf
+                .csrfTokenRepository(csrfTokenRepository)
+                // 쿠키 값을 그대로 헤더에 담을 수 있도록 XOR 마스킹하지 않는 핸들러를 사용합니다.
+                .csrfTokenRequestHandler(new CsrfTokenRequestAttributeHandler())
+                .requireCsrfProtectionMatcher(SecurityConfig::isCookieAuthenticatedWrite)
+                // 로그인/회원가입은 인증 전 요청이고, H2 Console은 자체 세션을 사용합니다.
+                .ignoringRequestMatchers("/api/v1/auth/**", "/h2-console/**"));
 
         // 2. CORS 설정 적용: 위에서 정의한 corsConfigurationSource Bean을 적용합니다.
         http.cors(cors -> cors.configurationSource(corsConfigurationSource()));
@@ -92,11 +137,24 @@ public class SecurityConfig {
         // 4. 인증/인가 설정: URI 패턴에 따라 접근 권한을 설정합니다.
         http.authorizeHttpRequests(authz -> authz
                 // Health Check API는 인증 없이 접근을 허용합니다.
-                .requestMatchers("/api/v1/health").permitAll()
+                .requestMatchers("/api/v1/health", "/api/v1/health/**").permitAll()
                 // H2 Console 경로도 인증 없이 접근을 허용합니다.
                 .requestMatchers("/h2-console/**").permitAll()
                 // 회원가입, 로그인 등 인증 관련 API도 인증 없이 접근을 허용합니다. (추후 구현 예정)
                 .requestMatchers("/api/v1/auth/**").permitAll()
+                // 게시판 인기글 조회는 비로그인 사용자에게도 공개합니다.
+                .requestMatchers(HttpMethod.GET, "/api/v1/boards/*/trending").permitAll()
+                // 첨부파일 다운로드는 <img> 태그 등에서 직접 요청하므로 공개합니다. (업로드는 인증 필요)
+                .requestMatchers(HttpMethod.GET, "/api/v1/attachments/**").permitAll()
+                // Actuator: health, prometheus 만 공개하고, 나머지는 관리자만 조회할 수 있습니다.
+                .requestMatchers("/actuator/health/**").permitAll()
+                // 수집기(scraper)는 토큰 없이 접근합니다. 관리 포트를 분리한 경우(운영)에는 관리 포트로 들어온 요청만 허용합니다.
+                .requestMatchers(prometheusScrape(managementPort)).permitAll()
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
+                // 접속/열람 WebSocket은 핸드셰이크에서 로그인 사용자만 허용합니다.
+                .requestMatchers("/ws/**").authenticated()
+                // 관리자 전용 API (데이터 내보내기 등)
+                .requestMatchers("/api/v1/admin/**").hasRole("ADMIN")
                 // 그 외 모든 /api/** 요청은 인증(로그인)이 필요합니다.
                 .requestMatchers("/api/**").authenticated()
                 // 나머지 모든 요청(정적 리소스 등)은 허용합니다.
@@ -112,14 +170,41 @@ public class SecurityConfig {
 
         // JWT 인증 필터 등록
         http.addFilterBefore(
-                new JwtAuthenticationFilter(jwtTokenProvider, userDetailsService), // 생성한 JWT 필터 객체 생성
+                new JwtAuthenticationFilter(jwtTokenProvider, userDetailsService, auditLog), // 생성한 JWT 필터 객체 생성
                 UsernamePasswordAuthenticationFilter.class // 스프링 기본 인증 필터 이전에 실행
         );
 
+        // 조건부 GET 필터 등록: If-None-Match가 맞으면 JWT 필터의 사용자 조회 전에 304로 응답합니다.
+        http.addFilterBefore(
+                new ConditionalRequestFilter(resourceVersions, jwtTokenProvider, trendingMaxStalenessSeconds, meterRegistry),
+                JwtAuthenticationFilter.class
+        );
+
         // 기본 인증 비활성화: 폼 로그인, HTTP Basic 인증은 사용하지 않으므로 비활성화합니다.
         http.formLogin(AbstractHttpConfigurer::disable);
         http.httpBasic(AbstractHttpConfigurer::disable);
 
         return http.build();
     }
+
+    // 관리 포트를 설정하지 않았으면(개발) 모든 포트, 설정했으면 관리 포트로 들어온 /actuator/prometheus 요청
+    // (AOT 빌드처럼 관리 포트 분리가 적용되지 않아 공개 포트로 Actuator가 열려도, 이 경로는 ADMIN 전용이 됩니다)
+    private static RequestMatcher prometheusScrape(int managementPort) {
+        return request -> "/actuator/prometheus".equals(request.getRequestURI())
+                && (managementPort <= 0 || request.getLocalPort() == managementPort);
+    }
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS", "TRACE");
+
+    // accessToken 쿠키로 인증되는 쓰기 요청인지 (Bearer 헤더가 있으면 쿠키는 사용하지 않습니다)
+    private static boolean isCookieAuthenticatedWrite(HttpServletRequest request) {
+        if (SAFE_METHODS.contains(request.getMethod())) {
+            return false;
+        }
+        String authorization = request.getHeader(JwtAuthenticationFilter.HEADER_STRING);
+        if (authorization != null && authorization.startsWith(JwtAuthenticationFilter.TOKEN_PREFIX)) {
+            return false;
+        }
+        return WebUtils.getCookie(request, JwtAuthenticationFilter.ACCESS_TOKEN_COOKIE) != null;
+    }
 }
\ No newline at end of file
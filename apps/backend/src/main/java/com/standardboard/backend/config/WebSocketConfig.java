@@ -0,0 +1,30 @@
+package com.standardboard.backend.config;
+
+import com.standardboard.backend.presence.PresenceWebSocketHandler;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+/**
+ * WebSocket 엔드포인트 설정
+ *
+ * 핸드셰이크 인증은 SecurityConfig의 /ws/** 규칙(JWT 필터)이 처리합니다.
+ * 허용 Origin은 SecurityConfig의 CORS 설정과 같게 프론트엔드 개발 서버로 제한합니다.
+ */
+@Configuration
+@EnableWebSocket
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private final PresenceWebSocketHandler presenceWebSocketHandler;
+
+    public WebSocketConfig(PresenceWebSocketHandler presenceWebSocketHandler) {
+        this.presenceWebSocketHandler = presenceWebSocketHandler;
+    }
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(presenceWebSocketHandler, PresenceWebSocketHandler.PATH)
+                .setAllowedOrigins("http://localhost:5173", "http://127.0.0.1:5173");
+    }
+}
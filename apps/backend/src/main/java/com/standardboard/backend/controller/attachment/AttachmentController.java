@@ -0,0 +1,286 @@
+package com.standardboard.backend.controller.attachment;
+
+import com.standardboard.backend.domain.attachment.Attachment;
+import com.standardboard.backend.domain.user.User;
+import com.standardboard.backend.dto.attachment.AttachmentResponse;
+import com.standardboard.backend.dto.common.ApiResponse;
+import com.standardboard.backend.service.attachment.AttachmentService;
+import com.standardboard.backend.service.attachment.ThumbnailService;
+import com.standardboard.backend.service.attachment.ThumbnailSize;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 첨부파일 API Controller
+ *
+ * - 업로드: multipart 대신 요청 본문(raw body)을 그대로 저장소로 스트리밍합니다.
+ *   (Spring multipart는 메모리/임시파일에 먼저 버퍼링하므로 사용하지 않습니다.)
+ * - 다운로드: Tomcat sendfile 또는 FileChannel.transferTo 로 힙을 거치지 않고 전송하며,
+ *   Range(206)/If-Range, ETag/If-None-Match(304)를 지원합니다.
+ * - 썸네일: ThumbnailService가 미리 만든 파생 파일을 같은 방식으로 전송합니다.
+ */
+@RestController
+@RequestMapping("/api/v1/attachments")
+@RequiredArgsConstructor
+public class AttachmentController {
+
+    public static final String FILE_NAME_HEADER = "X-File-Name";
+
+    // 같은 ID의 첨부파일 내용은 바뀌지 않으므로 길게 캐시합니다.
+    private static final String CACHE_CONTROL = "public, max-age=86400";
+    private static final String THUMBNAIL_CACHE_CONTROL = "public, max-age=31536000, immutable";
+    private static final String FALLBACK_CACHE_CONTROL = "no-cache";
+
+    // inline으로 보여 줄 타입: 스크립트를 담을 수 없는 래스터 이미지만 허용합니다.
+    // (Content-Type은 업로드한 클라이언트가 정한 값이므로 image/svg+xml, text/html 등은 항상 다운로드로 처리)
+    private static final Set<String> INLINE_CONTENT_TYPES = Set.of(
+            MediaType.IMAGE_JPEG_VALUE, MediaType.IMAGE_PNG_VALUE, MediaType.IMAGE_GIF_VALUE, "image/webp");
+    // 문서로 열리더라도 스크립트 실행, 같은 출처 접근을 막습니다.
+    private static final String CONTENT_SECURITY_POLICY = "sandbox; default-src 'none'; img-src 'self'; style-src 'unsafe-inline'";
+
+    // Tomcat NIO 커넥터의 sendfile 요청 속성
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final AttachmentService attachmentService;
+    private final ThumbnailService thumbnailService;
+
+    /**
+     * 첨부파일 업로드 API
+     * POST /api/v1/attachments
+     * Content-Type: 파일의 MIME 타입, 본문: 파일 바이트, X-File-Name: URL 인코딩된 파일명(선택)
+     * @return 성공 시 201 Created와 첨부파일 정보 반환
+     */
+    @PostMapping
+    public ResponseEntity<ApiResponse<AttachmentResponse>> upload(HttpServletRequest request,
+                                                                  @RequestHeader(value = FILE_NAME_HEADER, required = false) String encodedName,
+                                                                  @AuthenticationPrincipal User user) throws IOException {
+        MediaType contentType = parseContentType(request.getContentType());
+        // form/multipart 본문은 컨테이너가 파라미터로 파싱할 수 있으므로 받지 않습니다.
+        if (MediaType.MULTIPART_FORM_DATA.includes(contentType) || MediaType.APPLICATION_FORM_URLENCODED.includes(contentType)) {
+            throw new ResponseStatusException(HttpStatus.UNSUPPORTED_MEDIA_TYPE, "파일 바이트를 요청 본문으로 전송해야 합니다.");
+        }
+        // 본문을 저장소에 쓰기 전에 메타데이터 컬럼 길이를 검사합니다. (INSERT에서 실패하면 파일을 다 받은 뒤 500이 됨)
+        if (contentType.toString().length() > Attachment.CONTENT_TYPE_MAX_LENGTH) {
+            throw new ResponseStatusException(HttpStatus.UNSUPPORTED_MEDIA_TYPE,
+                    "Content-Type은 " + Attachment.CONTENT_TYPE_MAX_LENGTH + "자 이하여야 합니다.");
+        }
+        String originalName = decodeFileName(encodedName);
+
+        Attachment attachment = attachmentService.upload(
+                request.getInputStream(),
+                contentType.toString(),
+                originalName,
+                user != null ? user.getId() : null
+        );
+
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(ApiResponse.success(AttachmentResponse.from(attachment)));
+    }
+
+    /**
+     * 첨부파일 다운로드 API
+     * GET /api/v1/attachments/{id}
+     */
+    @GetMapping("/{id}")
+    public void download(@PathVariable Long id, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Attachment attachment = findAttachment(id);
+        serve(attachment, attachmentService.resolveContent(attachment), attachment.getSize(),
+                attachment.getContentType(), "\"" + attachment.getContentHash() + "\"", CACHE_CONTROL,
+                request, response);
+    }
+
+    /**
+     * 썸네일 다운로드 API
+     * GET /api/v1/attachments/{id}/thumbnails/{size}  (size: small, medium, large)
+     * 아직 생성되지 않았으면 기다리지 않고 원본을 짧은 캐시로 반환합니다.
+     */
+    @GetMapping("/{id}/thumbnails/{size}")
+    public void thumbnail(@PathVariable Long id, @PathVariable String size,
+                          HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Attachment attachment = findAttachment(id);
+        ThumbnailSize thumbnailSize = ThumbnailSize.fromName(size)
+                .filter(s -> thumbnailService.isSupported(attachment.getContentType()))
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "제공하지 않는 썸네일입니다."));
+
+        Optional<Path> thumbnail = thumbnailService.find(attachment.getContentHash(), thumbnailSize);
+        if (thumbnail.isPresent()) {
+            // 썸네일은 원본 해시 + 크기로 내용이 고정되므로 사실상 영구 캐시합니다.
+            Path path = thumbnail.get();
+            serve(attachment, path, Files.size(path), MediaType.IMAGE_JPEG_VALUE,
+                    "\"" + attachment.getContentHash() + "-" + thumbnailSize.getMaxEdge() + "\"", THUMBNAIL_CACHE_CONTROL,
+                    request, response);
+            return;
+        }
+
+        // 원본 대체: 썸네일이 준비되면 다시 받아가도록 매번 재검증(no-cache)
+        serve(attachment, attachmentService.resolveContent(attachment), attachment.getSize(),
+                attachment.getContentType(), "\"" + attachment.getContentHash() + "\"", FALLBACK_CACHE_CONTROL,
+                request, response);
+    }
+
+    private Attachment findAttachment(Long id) {
+        return attachmentService.find(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "존재하지 않는 첨부파일입니다."));
+    }
+
+    private void serve(Attachment attachment, Path path, long size, String contentType, String etag, String cacheControl,
+                       HttpServletRequest request, HttpServletResponse response) throws IOException {
+        // 1. 캐시 검증
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (etagMatches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+
+        // 2. Range 해석 (If-Range가 현재 ETag와 다르면 전체 전송)
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        ByteRange range = (ifRange == null || ifRange.equals(etag))
+                ? ByteRange.parse(request.getHeader(HttpHeaders.RANGE), size)
+                : null;
+        if (range != null && !range.satisfiable()) {
+            response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+            return;
+        }
+        if (range == null) {
+            range = new ByteRange(0, size - 1);
+        } else {
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + range.start() + "-" + range.end() + "/" + size);
+        }
+
+        // 3. 본문 헤더: 래스터 이미지만 inline, 그 외는 다운로드로 처리하고 MIME 스니핑, 스크립트 실행을 막습니다.
+        response.setContentType(contentType);
+        response.setHeader("X-Content-Type-Options", "nosniff");
+        response.setHeader("Content-Security-Policy", CONTENT_SECURITY_POLICY);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, contentDisposition(attachment, contentType).toString());
+        response.setContentLengthLong(range.length());
+
+        if (range.length() == 0 || HttpMethod.HEAD.matches(request.getMethod())) {
+            return;
+        }
+
+        // 4. zero-copy 전송
+        transfer(path, range, request, response);
+    }
+
+    private void transfer(Path path, ByteRange range, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // Tomcat이 응답 완료 후 sendfile(2)로 커널에서 직접 전송합니다.
+            request.setAttribute(SENDFILE_FILENAME, path.toString());
+            request.setAttribute(SENDFILE_START, range.start());
+            request.setAttribute(SENDFILE_END, range.end() + 1);
+            return;
+        }
+
+        // sendfile을 지원하지 않는 커넥터: FileChannel.transferTo 로 전송
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = range.start();
+            long remaining = range.length();
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, out);
+                if (transferred <= 0 && position >= channel.size()) {
+                    break; // 파일이 예상보다 짧음
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+
+    private static boolean etagMatches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static ContentDisposition contentDisposition(Attachment attachment, String contentType) {
+        ContentDisposition.Builder builder = isInlineType(contentType) ? ContentDisposition.inline() : ContentDisposition.attachment();
+        if (StringUtils.hasText(attachment.getOriginalName())) {
+            builder.filename(attachment.getOriginalName(), StandardCharsets.UTF_8);
+        }
+        return builder.build();
+    }
+
+    private static boolean isInlineType(String contentType) {
+        try {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            return INLINE_CONTENT_TYPES.contains(mediaType.getType() + "/" + mediaType.getSubtype());
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static String decodeFileName(String encodedName) {
+        if (!StringUtils.hasText(encodedName)) {
+            return null;
+        }
+        String name;
+        try {
+            name = URLDecoder.decode(encodedName, StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, FILE_NAME_HEADER + "의 URL 인코딩이 올바르지 않습니다.");
+        }
+        if (name.length() > Attachment.ORIGINAL_NAME_MAX_LENGTH) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "파일명은 " + Attachment.ORIGINAL_NAME_MAX_LENGTH + "자 이하여야 합니다.");
+        }
+        return name;
+    }
+
+    private static MediaType parseContentType(String contentType) {
+        if (!StringUtils.hasText(contentType)) {
+            return MediaType.APPLICATION_OCTET_STREAM;
+        }
+        try {
+            return MediaType.parseMediaType(contentType);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.UNSUPPORTED_MEDIA_TYPE, "유효하지 않은 Content-Type 입니다.");
+        }
+    }
+}
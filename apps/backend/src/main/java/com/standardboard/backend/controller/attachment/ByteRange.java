@@ -0,0 +1,68 @@
+package com.standardboard.backend.controller.attachment;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * HTTP Range 헤더(단일 구간)를 해석한 결과
+ *
+ * - null: Range 헤더가 없거나 해석할 수 없는 형식(다중 구간, 다른 단위, last < first 포함) → 전체 전송 (RFC 9110 허용)
+ * - UNSATISFIABLE: 파일 범위를 벗어난 요청 → 416 Range Not Satisfiable
+ *
+ * @param start 시작 위치 (포함)
+ * @param end 끝 위치 (포함)
+ */
+record ByteRange(long start, long end) {
+
+    static final ByteRange UNSATISFIABLE = new ByteRange(-1, -1);
+
+    // 단일 구간만 지원: bytes=first-last, bytes=first-, bytes=-suffix
+    private static final Pattern SINGLE_RANGE = Pattern.compile("bytes=\\s*(\\d*)\\s*-\\s*(\\d*)\\s*");
+
+    static ByteRange parse(String header, long size) {
+        if (header == null) {
+            return null;
+        }
+        Matcher matcher = SINGLE_RANGE.matcher(header);
+        if (!matcher.matches()) {
+            return null;
+        }
+
+        try {
+            String first = matcher.group(1);
+            String last = matcher.group(2);
+
+            if (first.isEmpty()) {
+                if (last.isEmpty()) {
+                    return null;
+                }
+                // bytes=-N : 마지막 N byte
+                long suffix = Long.parseLong(last);
+                if (suffix == 0 || size == 0) {
+                    return UNSATISFIABLE;
+                }
+                return new ByteRange(Math.max(0, size - suffix), size - 1);
+            }
+
+            long start = Long.parseLong(first);
+            if (!last.isEmpty() && Long.parseLong(last) < start) {
+                return null; // last < first 는 형식 오류이므로 헤더를 무시합니다.
+            }
+            long end = last.isEmpty() ? size - 1 : Math.min(Long.parseLong(last), size - 1);
+            if (start >= size) {
+                return UNSATISFIABLE;
+            }
+            return new ByteRange(start, end);
+        } catch (NumberFormatException e) {
+            return null; // long 범위를 넘는 값
+        }
+    }
+
+    boolean satisfiable() {
+        return start >= 0;
+    }
+
+    long length() {
+        return end - start + 1;
+    }
+}
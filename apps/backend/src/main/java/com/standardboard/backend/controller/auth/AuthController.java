@@ -1,5 +1,6 @@
 package com.standardboard.backend.controller.auth;
 
+import com.standardboard.backend.auth.jwt.JwtAuthenticationFilter;
 import com.standardboard.backend.auth.jwt.JwtTokenProvider;
 import com.standardboard.backend.domain.user.User;
 import com.standardboard.backend.dto.auth.LoginResponse;
@@ -10,13 +11,16 @@ import com.standardboard.backend.dto.common.ApiResponse;
 import com.standardboard.backend.service.auth.AuthService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.security.web.csrf.CsrfToken;
 import org.springframework.web.bind.annotation.RestController;
-import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 /**
@@ -60,7 +64,9 @@ public class AuthController {
      * @return 성공 시 200 OK와 JWT 토큰 및 사용자 정보를 담은 ApiResponse 반환
      */
     @PostMapping("/login")
-    public ResponseEntity<ApiResponse<LoginResponse>> login(@Valid @RequestBody LoginRequest request, HttpServletResponse response) {
+    public ResponseEntity<ApiResponse<LoginResponse>> login(@Valid @RequestBody LoginRequest request,
+                                                            HttpServletRequest httpRequest,
+                                                            HttpServletResponse response) {
         // 서비스 로직 호출: 인증만 수행, User 엔티티 반환
         User authenticatedUser = authService.login(request);
 
@@ -71,13 +77,21 @@ public class AuthController {
         );
 
         // JWT를 응답 쿠키에 설정 (핵심 변경 사항)
-        Cookie cookie = new Cookie("accessToken", accessToken); // 쿠키 이름
-        cookie.setHttpOnly(true); // JavaScript 접근 차단 (XSS 방어)
-//        cookie.setSecure(false);   // true HTTPS 통신에서만 전송, 운영 환경에서는 true 설정
-        cookie.setPath("/");      // 모든 경로에서 쿠키 전송
-        cookie.setMaxAge(3600);   // 쿠키 만료 시간
+        ResponseCookie cookie = ResponseCookie.from(JwtAuthenticationFilter.ACCESS_TOKEN_COOKIE, accessToken) // 쿠키 이름
+                .httpOnly(true)     // JavaScript 접근 차단 (XSS 방어)
+//                .secure(true)     // true HTTPS 통신에서만 전송, 운영 환경에서는 true 설정
+                .sameSite("Strict") // 다른 사이트에서 시작한 요청에는 쿠키를 보내지 않음 (CSRF 방어)
+                .path("/")          // 모든 경로에서 쿠키 전송
+                .maxAge(3600)       // 쿠키 만료 시간
+                .build();
+
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString()); // 응답에 쿠키 추가
 
-        response.addCookie(cookie); // 응답에 쿠키 추가
+        // 쿠키 인증 쓰기 요청에 필요한 CSRF 토큰(XSRF-TOKEN 쿠키)을 함께 발급합니다. (SecurityConfig 참고)
+        CsrfToken csrfToken = (CsrfToken) httpRequest.getAttribute(CsrfToken.class.getName());
+        if (csrfToken != null) {
+            csrfToken.getToken();
+        }
 
         // 응답 DTO 구성 (토큰 없이 사용자 정보만 담아 전송)
         LoginResponse responseBody = LoginResponse.builder()
@@ -0,0 +1,24 @@
+package com.standardboard.backend.controller.auth;
+
+import com.standardboard.backend.dto.common.ApiResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * 인증 API 예외 처리
+ *
+ * AuthService는 중복 이메일/닉네임, 로그인 실패를 IllegalArgumentException으로 알립니다.
+ * 클라이언트 입력으로 생기는 실패이므로 500 대신 400과 ApiResponse 실패 형식으로 응답합니다.
+ */
+@RestControllerAdvice(assignableTypes = AuthController.class)
+public class AuthExceptionHandler {
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ApiResponse<Void>> handleIllegalArgument(IllegalArgumentException e) {
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.failure("E400_001", e.getMessage()));
+    }
+}
@@ -0,0 +1,43 @@
+package com.standardboard.backend.controller.batch;
+
+import com.standardboard.backend.dto.batch.BatchRequest;
+import com.standardboard.backend.dto.batch.BatchResponse;
+import com.standardboard.backend.dto.common.ApiResponse;
+import com.standardboard.backend.service.batch.BatchService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 일괄 요청(Batch) API Controller
+ *
+ * 화면 하나에 필요한 여러 조회 API를 요청 한 번으로 묶어, 인증(JWT 검증 + 사용자 조회)과 왕복을 한 번으로 줄입니다.
+ * 경로는 SecurityConfig의 /api/** 규칙에 따라 인증된 사용자만 접근할 수 있습니다.
+ * 하위 응답 JSON을 그대로 끼워 넣으므로(@JsonRawValue) 응답은 JSON으로만 제공합니다. (CBOR/Smile 미지원)
+ */
+@RestController
+@RequiredArgsConstructor
+public class BatchController {
+
+    private final BatchService batchService;
+
+    /**
+     * 일괄 요청 API
+     * POST /api/v1/batch
+     * @param request 하위 GET 요청 목록 (경로는 /api/로 시작)
+     * @return 하위 요청별 상태 코드와 본문 (하위 요청이 실패해도 200)
+     */
+    @PostMapping(path = BatchService.BATCH_PATH, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponse<BatchResponse>> batch(@Valid @RequestBody BatchRequest request,
+                                                            HttpServletRequest servletRequest,
+                                                            HttpServletResponse servletResponse) {
+        BatchResponse response = batchService.execute(request.getRequests(), servletRequest, servletResponse);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+}
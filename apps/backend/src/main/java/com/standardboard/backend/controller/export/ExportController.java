@@ -0,0 +1,59 @@
+package com.standardboard.backend.controller.export;
+
+import com.standardboard.backend.service.export.ExportFormat;
+import com.standardboard.backend.service.export.UserExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+
+/**
+ * 관리자용 데이터 내보내기(Export) API Controller
+ *
+ * StreamingResponseBody로 응답하므로 요청 스레드는 즉시 반환되고,
+ * 실제 직렬화는 MVC 비동기 실행기에서 DB 커서를 따라가며 스트리밍됩니다.
+ * 경로는 SecurityConfig에서 ADMIN 권한으로 제한됩니다.
+ */
+@RestController
+@RequestMapping("/api/v1/admin/exports")
+@RequiredArgsConstructor
+public class ExportController {
+
+    private final UserExportService userExportService;
+
+    /**
+     * 사용자 내보내기 API
+     * GET /api/v1/admin/exports/users?format=ndjson|csv&gzip=true
+     * @param format 출력 형식 (기본 ndjson)
+     * @param gzip gzip 압축 파일로 받을지 여부
+     * @return 첨부파일(Content-Disposition: attachment)로 스트리밍되는 응답
+     */
+    @GetMapping("/users")
+    public ResponseEntity<StreamingResponseBody> exportUsers(@RequestParam(defaultValue = "ndjson") String format,
+                                                             @RequestParam(defaultValue = "false") boolean gzip) {
+        ExportFormat exportFormat = ExportFormat.fromName(format)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "지원하지 않는 내보내기 형식입니다: " + format));
+
+        String filename = "users-" + LocalDate.now() + "." + exportFormat.getExtension() + (gzip ? ".gz" : "");
+        MediaType contentType = gzip
+                ? MediaType.parseMediaType("application/gzip")
+                : MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8");
+
+        StreamingResponseBody body = out -> userExportService.exportUsers(out, exportFormat, gzip);
+
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+}
@@ -1,27 +1,52 @@
 package com.standardboard.backend.controller.health;
 
+import com.standardboard.backend.monitoring.health.ReadinessMonitor;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Health Check Controller
  *
  * 서버의 상태를 외부에 알리는 API를 제공합니다.
- * 백엔드 서버가 정상적으로 실행되었는지 확인하는 가장 첫 번째 단계입니다.
+ * - 생존(liveness): 프로세스가 요청을 처리할 수 있는지만 확인합니다. 오케스트레이터가 자주 호출하므로
+ *   미리 직렬화한 바이트를 그대로 쓰고, DB 등 의존성은 보지 않습니다. (실패하면 재시작 대상)
+ * - 준비(readiness): DB 풀, 해싱 풀 등 의존성 점검 결과입니다. 점검은 ReadinessMonitor가 백그라운드에서 실행하고
+ *   여기서는 캐시된 결과만 내보냅니다. (DOWN이면 503, 트래픽에서 제외 대상)
  */
 @RestController
+@RequiredArgsConstructor
 public class HealthController {
 
-    @GetMapping("/api/v1/health")
-    public Map<String, String> checkHealth() {
-        Map<String, String> response = new HashMap<>();
-        // 서버 상태는 'OK'로 응답하며, 프로젝트 이름과 버전을 함께 반환합니다.
-        response.put("status", "OK");
-        response.put("application", "standard-board-rts-backend");
-        response.put("version", "1.0.0");
-        return response;
+    // 응답이 고정값이므로 한 번만 직렬화해 두고, 요청마다 같은 배열을 씁니다.
+    private static final byte[] LIVENESS_BODY =
+            "{\"status\":\"OK\",\"application\":\"standard-board-rts-backend\",\"version\":\"1.0.0\"}"
+                    .getBytes(StandardCharsets.UTF_8);
+
+    private final ReadinessMonitor readinessMonitor;
+
+    @GetMapping({"/api/v1/health", "/api/v1/health/live"})
+    public void checkHealth(HttpServletResponse response) throws IOException {
+        write(response, HttpServletResponse.SC_OK, LIVENESS_BODY);
+    }
+
+    @GetMapping("/api/v1/health/ready")
+    public void checkReadiness(HttpServletResponse response) throws IOException {
+        ReadinessMonitor.Snapshot snapshot = readinessMonitor.current();
+        write(response, snapshot.ready() ? HttpServletResponse.SC_OK : HttpServletResponse.SC_SERVICE_UNAVAILABLE,
+                snapshot.body());
+    }
+
+    // 메시지 컨버터를 거치지 않고 바이트를 그대로 기록합니다.
+    private static void write(HttpServletResponse response, int status, byte[] body) throws IOException {
+        response.setStatus(status);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
     }
-}
\ No newline at end of file
+}
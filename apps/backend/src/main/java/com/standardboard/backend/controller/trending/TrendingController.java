@@ -0,0 +1,48 @@
+package com.standardboard.backend.controller.trending;
+
+import com.standardboard.backend.dto.common.ApiResponse;
+import com.standardboard.backend.dto.trending.TrendingPostResponse;
+import com.standardboard.backend.service.trending.TrendingRankingEngine;
+import com.standardboard.backend.service.trending.TrendingRankingEngine.TrendingPost;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 인기글(Hot Posts) API Controller
+ *
+ * DB를 조회하지 않고 TrendingRankingEngine이 메모리에 유지하는 Top-K를 그대로 반환합니다.
+ */
+@RestController
+@RequestMapping("/api/v1/boards")
+@RequiredArgsConstructor
+public class TrendingController {
+
+    private final TrendingRankingEngine trendingRankingEngine;
+
+    /**
+     * 게시판 인기글 조회 API
+     * GET /api/v1/boards/{boardId}/trending?size=20
+     * @param boardId 게시판 ID
+     * @param size 조회 개수
+     * @return 점수 내림차순 인기글 목록
+     */
+    @GetMapping("/{boardId}/trending")
+    public ResponseEntity<ApiResponse<List<TrendingPostResponse>>> trending(@PathVariable Long boardId,
+                                                                           @RequestParam(defaultValue = "20") int size) {
+        List<TrendingPost> posts = trendingRankingEngine.top(boardId, size);
+
+        List<TrendingPostResponse> response = new ArrayList<>(posts.size());
+        for (int i = 0; i < posts.size(); i++) {
+            response.add(TrendingPostResponse.of(i + 1, posts.get(i)));
+        }
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+}
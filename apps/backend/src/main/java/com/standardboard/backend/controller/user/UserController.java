@@ -0,0 +1,31 @@
+package com.standardboard.backend.controller.user;
+
+import com.standardboard.backend.domain.user.User;
+import com.standardboard.backend.dto.common.ApiResponse;
+import com.standardboard.backend.dto.user.UserResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 사용자(User) API Controller
+ *
+ * 경로는 SecurityConfig의 /api/** 규칙에 따라 인증된 사용자만 접근할 수 있습니다.
+ */
+@RestController
+@RequestMapping("/api/v1/users")
+public class UserController {
+
+    /**
+     * 내 정보 조회 API
+     * GET /api/v1/users/me
+     * @param user JwtAuthenticationFilter가 SecurityContext에 설정한 인증 사용자
+     * @return 로그인한 사용자 정보
+     */
+    @GetMapping("/me")
+    public ResponseEntity<ApiResponse<UserResponse>> me(@AuthenticationPrincipal User user) {
+        return ResponseEntity.ok(ApiResponse.success(UserResponse.from(user)));
+    }
+}
@@ -0,0 +1,20 @@
+package com.standardboard.backend.datasource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 읽기 전용 트랜잭션이라도 복제본(replica) 대신 주 DB(primary)에서 읽도록 강제합니다.
+ *
+ * 방금 쓴 데이터를 바로 읽어야 해서 복제 지연(lag)을 허용할 수 없는 조회에 붙입니다. (예: 가입 직후 로그인)
+ * 커넥션은 트랜잭션의 첫 SQL 시점에 결정되므로, 이 메서드 안에서 시작되는 트랜잭션에 적용됩니다.
+ * 코드 블록 단위로는 {@link ReadRouting#onPrimary}를 사용합니다.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface PrimaryRead {
+}
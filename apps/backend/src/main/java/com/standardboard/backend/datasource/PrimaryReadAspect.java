@@ -0,0 +1,31 @@
+package com.standardboard.backend.datasource;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link PrimaryRead}가 붙은 메서드(또는 클래스)를 실행하는 동안 주 DB 읽기를 강제합니다.
+ *
+ * @Transactional 프록시보다 바깥에서 실행되도록 가장 높은 우선순위를 둡니다.
+ * 라우팅을 끈 상태(단일 DataSource)에서는 아무 영향이 없습니다.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class PrimaryReadAspect {
+
+    @Around("@annotation(com.standardboard.backend.datasource.PrimaryRead) "
+            + "|| @within(com.standardboard.backend.datasource.PrimaryRead)")
+    public Object onPrimary(ProceedingJoinPoint joinPoint) throws Throwable {
+        boolean previous = ReadRouting.forcePrimary();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            ReadRouting.restore(previous);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.standardboard.backend.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드의 읽기 라우팅 상태 (주 DB 강제 여부)
+ *
+ * {@link PrimaryRead}(PrimaryReadAspect)와 {@link #onPrimary}가 설정하고,
+ * ReplicaPool이 커넥션을 고를 때 확인합니다. 중첩 호출을 위해 이전 상태를 복원합니다.
+ */
+public final class ReadRouting {
+
+    private static final ThreadLocal<Boolean> PRIMARY_FORCED = new ThreadLocal<>();
+
+    private ReadRouting() {
+    }
+
+    /**
+     * 작업 안에서 시작되는 읽기 전용 트랜잭션을 주 DB로 보냅니다.
+     */
+    public static <T> T onPrimary(Supplier<T> work) {
+        boolean previous = forcePrimary();
+        try {
+            return work.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    public static boolean isPrimaryForced() {
+        return PRIMARY_FORCED.get() != null;
+    }
+
+    // 주 DB 강제를 켜고 이전 상태를 반환
+    static boolean forcePrimary() {
+        boolean previous = isPrimaryForced();
+        PRIMARY_FORCED.set(Boolean.TRUE);
+        return previous;
+    }
+
+    static void restore(boolean previous) {
+        if (!previous) {
+            PRIMARY_FORCED.remove();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.standardboard.backend.datasource;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+
+/**
+ * 읽기/쓰기 분리 DataSource
+ *
+ * 실제 커넥션을 첫 SQL 시점까지 미루는 LazyConnectionDataSourceProxy를 사용합니다.
+ * 트랜잭션 시작 시 @Transactional(readOnly = true)이면 Spring이 Connection.setReadOnly(true)를 호출하고,
+ * 이 값이 기록된 상태로 첫 SQL이 실행되면 복제본 풀(ReplicaPool)에서, 아니면 주 DB에서 커넥션을 얻습니다.
+ * (트랜잭션 시작 시점에 커넥션을 바로 얻으면 읽기 전용 여부를 알기 전에 대상이 정해지므로 지연이 필요합니다)
+ */
+public class ReadWriteRoutingDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+    private final ReplicaPool replicaPool;
+
+    public ReadWriteRoutingDataSource(DataSource primary, ReplicaPool replicaPool) {
+        super(primary);
+        setReadOnlyDataSource(replicaPool);
+        this.replicaPool = replicaPool;
+    }
+
+    public ReplicaPool getReplicaPool() {
+        return replicaPool;
+    }
+
+    // 복제본 풀만 닫습니다. (주 DB 풀은 별도 Bean으로 Spring이 닫습니다)
+    @Override
+    public void close() {
+        replicaPool.close();
+    }
+}
@@ -0,0 +1,64 @@
+package com.standardboard.backend.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.Getter;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 읽기 복제본 하나와 상태 (헬스 체크 연속 실패 횟수로 정상/제외 판단)
+ */
+public final class Replica {
+
+    @Getter
+    private final String name;
+    @Getter
+    private final DataSource dataSource;
+
+    private volatile boolean healthy = true;
+    private int consecutiveFailures; // 헬스 체커 스레드에서만 갱신
+
+    public Replica(String name, DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    /**
+     * 헬스 체크 결과 반영: 성공하면 즉시 복귀, 연속 failureThreshold번 실패하면 제외
+     * @return 상태가 바뀌었으면 true
+     */
+    boolean recordCheck(boolean success, int failureThreshold) {
+        boolean wasHealthy = healthy;
+        if (success) {
+            consecutiveFailures = 0;
+            healthy = true;
+        } else if (++consecutiveFailures >= failureThreshold) {
+            healthy = false;
+        }
+        return wasHealthy != healthy;
+    }
+
+    // 요청 중 커넥션 획득에 실패하면 다음 헬스 체크 성공 전까지 바로 제외
+    void markDown() {
+        healthy = false;
+    }
+
+    Connection getConnection() throws SQLException {
+        return dataSource.getConnection();
+    }
+
+    int getActiveConnections() {
+        if (dataSource instanceof HikariDataSource hikari) {
+            HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+            return pool != null ? pool.getActiveConnections() : 0;
+        }
+        return 0;
+    }
+}
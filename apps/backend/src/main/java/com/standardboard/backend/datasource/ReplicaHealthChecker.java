@@ -0,0 +1,51 @@
+package com.standardboard.backend.datasource;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 복제본 헬스 체크 (주기: app.datasource.routing.health-check-interval-ms)
+ *
+ * 커넥션을 얻어 Connection.isValid로 확인하고, 연속 failure-threshold번 실패한 복제본은 읽기 대상에서 제외합니다.
+ * 제외된 복제본도 계속 확인해 한 번이라도 성공하면 다시 포함합니다.
+ */
+@Log4j2
+public class ReplicaHealthChecker {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+    private final ReplicaPool replicaPool;
+    private final int failureThreshold;
+
+    public ReplicaHealthChecker(ReplicaPool replicaPool, int failureThreshold) {
+        this.replicaPool = replicaPool;
+        this.failureThreshold = failureThreshold;
+    }
+
+    @Scheduled(initialDelayString = "${app.datasource.routing.health-check-interval-ms:5000}",
+            fixedDelayString = "${app.datasource.routing.health-check-interval-ms:5000}")
+    public void checkReplicas() {
+        for (Replica replica : replicaPool.getReplicas()) {
+            boolean alive = isAlive(replica);
+            if (replica.recordCheck(alive, failureThreshold)) {
+                if (alive) {
+                    log.info("복제본 {} 헬스 체크 성공, 읽기 대상에 다시 포함합니다.", replica.getName());
+                } else {
+                    log.warn("복제본 {} 헬스 체크 {}회 연속 실패, 읽기 대상에서 제외합니다.", replica.getName(), failureThreshold);
+                }
+            }
+        }
+    }
+
+    private static boolean isAlive(Replica replica) {
+        try (Connection connection = replica.getConnection()) {
+            return connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+        } catch (SQLException e) {
+            log.debug("복제본 {} 헬스 체크 실패: {}", replica.getName(), e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.standardboard.backend.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 전용 트랜잭션에 커넥션을 내주는 복제본 묶음
+ *
+ * 정상 상태인 복제본 중 하나를 전략(ReplicaSelectionStrategy)으로 골라 커넥션을 얻고,
+ * 주 DB 강제(@PrimaryRead)이거나 정상 복제본이 없으면 주 DB 커넥션을 반환합니다.
+ * 복제본 상태는 ReplicaHealthChecker가 주기적으로 갱신합니다.
+ *
+ * 지표: db.routing.reads (target=replica|primary_forced|primary_fallback), db.replica.healthy (replica=이름)
+ */
+@Log4j2
+public class ReplicaPool extends AbstractDataSource implements Closeable {
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final ReplicaSelectionStrategy strategy;
+
+    private final Counter replicaReads;
+    private final Counter forcedPrimaryReads;
+    private final Counter fallbackPrimaryReads;
+
+    public ReplicaPool(DataSource primary, List<Replica> replicas, ReplicaSelectionStrategy strategy,
+                       MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.strategy = strategy;
+
+        this.replicaReads = readCounter(meterRegistry, "replica");
+        this.forcedPrimaryReads = readCounter(meterRegistry, "primary_forced");
+        this.fallbackPrimaryReads = readCounter(meterRegistry, "primary_fallback");
+        for (Replica replica : this.replicas) {
+            Gauge.builder("db.replica.healthy", replica, r -> r.isHealthy() ? 1 : 0)
+                    .description("복제본이 읽기 대상에 포함되어 있으면 1")
+                    .tag("replica", replica.getName())
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (ReadRouting.isPrimaryForced()) {
+            forcedPrimaryReads.increment();
+            return primary.getConnection();
+        }
+
+        List<Replica> candidates = healthyReplicas();
+        while (!candidates.isEmpty()) {
+            Replica replica = strategy.select(candidates);
+            try {
+                Connection connection = replica.getConnection();
+                replicaReads.increment();
+                return connection;
+            } catch (SQLException e) {
+                if (isReplicaFailure(e)) {
+                    replica.markDown();
+                    log.warn("복제본 {} 커넥션 획득 실패로 읽기 대상에서 제외합니다: {}", replica.getName(), e.getMessage());
+                }
+                candidates.remove(replica);
+            }
+        }
+
+        fallbackPrimaryReads.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new UnsupportedOperationException("복제본 풀은 설정된 계정으로만 커넥션을 얻습니다.");
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    @Override
+    public void close() {
+        for (Replica replica : replicas) {
+            if (replica.getDataSource() instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("복제본 {} 풀을 닫지 못했습니다.", replica.getName(), e);
+                }
+            }
+        }
+    }
+
+    private List<Replica> healthyReplicas() {
+        List<Replica> healthy = new ArrayList<>(replicas.size());
+        for (Replica replica : replicas) {
+            if (replica.isHealthy()) {
+                healthy.add(replica);
+            }
+        }
+        return healthy;
+    }
+
+    // Hikari 풀이 꽉 차서 난 대기 시간 초과(원인 없음)는 복제본 장애가 아니므로 제외하지 않고 다른 대상으로 넘깁니다.
+    private static boolean isReplicaFailure(SQLException e) {
+        return !(e instanceof SQLTransientConnectionException) || e.getCause() != null;
+    }
+
+    private static Counter readCounter(MeterRegistry meterRegistry, String target) {
+        return Counter.builder("db.routing.reads")
+                .description("읽기 전용 트랜잭션의 커넥션 대상")
+                .tag("target", target)
+                .register(meterRegistry);
+    }
+}
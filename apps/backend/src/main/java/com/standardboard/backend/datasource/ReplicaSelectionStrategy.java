@@ -0,0 +1,50 @@
+package com.standardboard.backend.datasource;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 정상 상태인 복제본 중 이번 읽기에 사용할 하나를 고르는 전략
+ * (app.datasource.routing.strategy=round-robin | random | least-active)
+ */
+public enum ReplicaSelectionStrategy {
+
+    // 순서대로 돌아가며 선택
+    ROUND_ROBIN {
+        private final AtomicInteger next = new AtomicInteger();
+
+        @Override
+        Replica select(List<Replica> candidates) {
+            return candidates.get(Math.floorMod(next.getAndIncrement(), candidates.size()));
+        }
+    },
+
+    // 무작위 선택
+    RANDOM {
+        @Override
+        Replica select(List<Replica> candidates) {
+            return candidates.get(ThreadLocalRandom.current().nextInt(candidates.size()));
+        }
+    },
+
+    // 사용 중인 커넥션이 가장 적은 복제본 선택 (Hikari 풀일 때만 의미가 있고, 그 외에는 첫 번째)
+    LEAST_ACTIVE {
+        @Override
+        Replica select(List<Replica> candidates) {
+            Replica selected = candidates.get(0);
+            for (int i = 1; i < candidates.size(); i++) {
+                Replica candidate = candidates.get(i);
+                if (candidate.getActiveConnections() < selected.getActiveConnections()) {
+                    selected = candidate;
+                }
+            }
+            return selected;
+        }
+    };
+
+    /**
+     * @param candidates 정상 상태인 복제본 (비어 있지 않음)
+     */
+    abstract Replica select(List<Replica> candidates);
+}
@@ -0,0 +1,45 @@
+package com.standardboard.backend.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기/쓰기 분리 설정 (app.datasource.routing.*)
+ *
+ * 주 DB는 기존 spring.datasource.* 설정을 그대로 사용하고, 복제본만 여기서 나열합니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties("app.datasource.routing")
+public class RoutingDataSourceProperties {
+
+    // 꺼져 있으면 spring.datasource 단일 DataSource로 동작합니다.
+    private boolean enabled;
+
+    // 복제본 선택 전략
+    private ReplicaSelectionStrategy strategy = ReplicaSelectionStrategy.ROUND_ROBIN;
+
+    // 헬스 체크 주기 (ms)
+    private long healthCheckIntervalMs = 5000;
+
+    // 연속 실패 몇 번에 읽기 대상에서 제외할지
+    private int failureThreshold = 2;
+
+    private List<ReplicaProperties> replicas = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class ReplicaProperties {
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+        // 커넥션 대기 시간 (ms), 장애 복제본에서 오래 기다리지 않도록 주 DB보다 짧게 둡니다.
+        private long connectionTimeoutMs = 1000;
+    }
+}
@@ -0,0 +1,71 @@
+package com.standardboard.backend.domain.attachment;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Attachment Entity (첨부파일 메타데이터)
+ *
+ * 파일 본문은 AttachmentStorage에 내용 해시(SHA-256)를 키로 한 번만 저장되고,
+ * 이 엔티티는 업로드 단위의 메타데이터(원본 파일명, 타입, 업로더)만 가집니다.
+ * 같은 내용의 파일을 여러 번 올려도 저장소의 실제 파일은 하나입니다. (중복 제거)
+ */
+@Entity
+@Table(name = "attachments", indexes = @Index(name = "idx_attachments_content_hash", columnList = "contentHash"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Attachment {
+
+    // 컬럼 길이 (업로드 API가 본문을 저장하기 전에 검사)
+    public static final int CONTENT_TYPE_MAX_LENGTH = 100;
+    public static final int ORIGINAL_NAME_MAX_LENGTH = 255;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 1. 내용 해시 (SHA-256 hex, 저장소 키 겸 ETag)
+    @Column(nullable = false, length = 64)
+    private String contentHash;
+
+    // 2. 파일 크기 (byte)
+    @Column(nullable = false)
+    private long size;
+
+    // 3. MIME 타입
+    @Column(nullable = false, length = CONTENT_TYPE_MAX_LENGTH)
+    private String contentType;
+
+    // 4. 업로드 당시 파일명
+    @Column(length = ORIGINAL_NAME_MAX_LENGTH)
+    private String originalName;
+
+    // 5. 업로더 ID
+    private Long uploaderId;
+
+    // 6. 업로드 시각
+    @CreationTimestamp
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public Attachment(String contentHash, long size, String contentType, String originalName, Long uploaderId) {
+        this.contentHash = contentHash;
+        this.size = size;
+        this.contentType = contentType;
+        this.originalName = originalName;
+        this.uploaderId = uploaderId;
+    }
+}
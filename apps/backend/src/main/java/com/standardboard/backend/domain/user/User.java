@@ -1,7 +1,10 @@
 package com.standardboard.backend.domain.user;
 
+import com.standardboard.backend.conditional.UserVersionListener;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
@@ -12,7 +15,11 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -26,19 +33,32 @@ import java.util.List;
  *
  * 게시판 서비스를 이용하는 사용자의 정보를 담는 엔티티입니다.
  * 보안, 확장성, JPA Best Practice를 고려하여 설계합니다.
+ *
+ * 로그인과 인증 요청마다 이메일로 조회되므로 2차 캐시(READ_WRITE)에 올리고,
+ * 이메일을 자연 키(@NaturalId)로 두어 이메일 → ID 매핑도 캐시합니다.
+ * Hibernate를 거친 수정/삭제는 커밋 시점에 캐시에 반영됩니다. (리전 설정: hibernate-jcache.conf)
  */
 @Entity
+@EntityListeners(UserVersionListener.class) // 수정/삭제 시 내 정보 ETag 무효화
 @Table(name = "users") // SQL 예약어와 충돌 방지를 위해 'users' 테이블명 사용
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = User.CACHE_REGION)
+@NaturalIdCache(region = User.NATURAL_ID_CACHE_REGION)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED) // JPA 사용 시 기본 생성자 필수, PROTECTED로 외부 접근 제한
 public class User implements UserDetails {
 
+    // 2차 캐시 리전 이름 (엔티티 / 자연 키 → ID)
+    public static final String CACHE_REGION = "user";
+    public static final String NATURAL_ID_CACHE_REGION = "user-natural-id";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id; // Primary Key
 
-    // 1. 로그인 ID (Email)
-    @Column(nullable = false, unique = true, length = 100)
+    // 1. 로그인 ID (Email) - 변경되지 않는 자연 키 (@NaturalId가 유니크 제약을 만듭니다)
+    @NaturalId
+    @Column(nullable = false, length = 100)
     private String email;
 
     // 2. 비밀번호 (암호화된 상태로 저장)
@@ -91,4 +111,9 @@ public class User implements UserDetails {
      * 엔티티 내에서 비즈니스 로직(암호화)을 수행하지 않고, 서비스 레이어에서 처리합니다.
      * 이 엔티티는 JPA의 변경 감지(Dirty Checking)를 위한 메서드만 가집니다. (추후 구현)
      */
+
+    // 닉네임 변경: 변경 감지로 UPDATE 되고, 커밋 시 2차 캐시 항목도 함께 갱신됩니다.
+    public void changeNickname(String nickname) {
+        this.nickname = nickname;
+    }
 }
\ No newline at end of file
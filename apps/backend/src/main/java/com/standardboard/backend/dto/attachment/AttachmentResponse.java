@@ -0,0 +1,31 @@
+package com.standardboard.backend.dto.attachment;
+
+import com.standardboard.backend.domain.attachment.Attachment;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 첨부파일 업로드 응답 DTO (Response)
+ */
+@Getter
+@Builder
+public class AttachmentResponse {
+    private Long id;
+    private String contentHash;
+    private long size;
+    private String contentType;
+    private String originalName;
+    private String url;
+
+    // Attachment 엔티티를 받아 DTO로 변환하는 정적 팩토리 메서드
+    public static AttachmentResponse from(Attachment attachment) {
+        return AttachmentResponse.builder()
+                .id(attachment.getId())
+                .contentHash(attachment.getContentHash())
+                .size(attachment.getSize())
+                .contentType(attachment.getContentType())
+                .originalName(attachment.getOriginalName())
+                .url("/api/v1/attachments/" + attachment.getId())
+                .build();
+    }
+}
@@ -0,0 +1,48 @@
+package com.standardboard.backend.dto.batch;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 일괄 요청 DTO (Request)
+ *
+ * 한 번의 인증으로 여러 조회 API를 병렬 실행합니다. (최대 개수는 app.batch.max-requests)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class BatchRequest {
+
+    // 하위 요청 목록 (응답도 같은 순서로 반환)
+    @NotEmpty(message = "하위 요청은 1개 이상이어야 합니다.")
+    private List<@Valid Item> requests;
+
+    /**
+     * 하위 요청 하나
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Item {
+
+        // 클라이언트가 응답을 찾기 위한 식별자 (생략하면 목록 순번)
+        private String id;
+
+        // HTTP 메서드 (현재는 GET만 지원)
+        private String method = "GET";
+
+        // 쿼리 문자열을 포함한 경로 (예: /api/v1/boards/1/trending?size=5)
+        @NotBlank(message = "하위 요청 경로는 필수 입력 항목입니다.")
+        private String path;
+
+        // 추가 요청 헤더 (Accept, Accept-Language 등. 인증 헤더는 일괄 요청의 것을 그대로 사용)
+        private Map<String, String> headers;
+    }
+}
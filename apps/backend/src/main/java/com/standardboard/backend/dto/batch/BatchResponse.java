@@ -0,0 +1,34 @@
+package com.standardboard.backend.dto.batch;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 일괄 요청 응답 DTO (Response)
+ *
+ * 하위 요청마다 상태 코드와 본문을 요청 순서대로 담습니다.
+ * 일괄 요청 자체는 하위 요청이 실패해도 200으로 응답합니다.
+ */
+@Getter
+@Builder
+public class BatchResponse {
+    private List<Item> responses;
+
+    /**
+     * 하위 요청 하나의 결과
+     */
+    @Getter
+    @Builder
+    public static class Item {
+        private String id;
+        private int status;
+        private String contentType;
+
+        // JSON 응답은 다시 파싱하지 않고 그대로 끼워 넣습니다. (JSON이 아니면 문자열로 인용, 바이너리는 null)
+        @JsonRawValue
+        private String body;
+    }
+}
@@ -0,0 +1,16 @@
+package com.standardboard.backend.dto.export;
+
+import java.util.List;
+
+/**
+ * 내보내기(Export) 한 행을 나타내는 DTO 공통 인터페이스
+ *
+ * NDJSON은 DTO 자체를 Jackson으로 직렬화하고, CSV는 csvValues()의 순서대로 기록합니다.
+ */
+public interface ExportRow {
+
+    /**
+     * CSV 한 행의 값 목록 (헤더 순서와 동일)
+     */
+    List<Object> csvValues();
+}
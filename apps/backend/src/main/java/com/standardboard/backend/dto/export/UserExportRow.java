@@ -0,0 +1,45 @@
+package com.standardboard.backend.dto.export;
+
+import com.standardboard.backend.domain.user.Role;
+import com.standardboard.backend.domain.user.User;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 사용자 내보내기 행 DTO
+ *
+ * 감사(Audit) 용도이므로 식별 정보만 담고, 비밀번호 해시는 절대 포함하지 않습니다.
+ */
+@Getter
+@Builder
+public class UserExportRow implements ExportRow {
+
+    // CSV 헤더 (csvValues() 순서와 동일)
+    public static final List<String> CSV_HEADER = List.of("id", "email", "nickname", "role", "createdAt");
+
+    private Long id;
+    private String email;
+    private String nickname;
+    private Role role;
+    private LocalDateTime createdAt;
+
+    // User 엔티티를 받아 DTO로 변환하는 정적 팩토리 메서드
+    public static UserExportRow from(User user) {
+        return UserExportRow.builder()
+                .id(user.getId())
+                .email(user.getEmail())
+                .nickname(user.getNickname())
+                .role(user.getRole())
+                .createdAt(user.getCreatedAt())
+                .build();
+    }
+
+    @Override
+    public List<Object> csvValues() {
+        return Arrays.asList(id, email, nickname, role, createdAt);
+    }
+}
@@ -0,0 +1,27 @@
+package com.standardboard.backend.dto.trending;
+
+import com.standardboard.backend.service.trending.TrendingRankingEngine.TrendingPost;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 인기글 응답 DTO (Response)
+ *
+ * 게시판 인기글 탭에 노출할 게시글 ID, 순위, 현재 감쇠 점수를 담습니다.
+ */
+@Getter
+@Builder
+public class TrendingPostResponse {
+    private int rank;
+    private Long postId;
+    private double score;
+
+    // 엔진 조회 결과를 DTO로 변환하는 정적 팩토리 메서드
+    public static TrendingPostResponse of(int rank, TrendingPost post) {
+        return TrendingPostResponse.builder()
+                .rank(rank)
+                .postId(post.postId())
+                .score(post.score())
+                .build();
+    }
+}
@@ -0,0 +1,30 @@
+package com.standardboard.backend.dto.user;
+
+import com.standardboard.backend.domain.user.Role;
+import com.standardboard.backend.domain.user.User;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 사용자 정보 응답 DTO (Response)
+ *
+ * 비밀번호 등 민감 정보는 제외하고 화면 표시에 필요한 정보만 담습니다.
+ */
+@Getter
+@Builder
+public class UserResponse {
+    private Long userId;
+    private String email;
+    private String nickname;
+    private Role role;
+
+    // User 엔티티를 DTO로 변환하는 정적 팩토리 메서드
+    public static UserResponse from(User user) {
+        return UserResponse.builder()
+                .userId(user.getId())
+                .email(user.getEmail())
+                .nickname(user.getNickname())
+                .role(user.getRole())
+                .build();
+    }
+}
@@ -0,0 +1,351 @@
+package com.standardboard.backend.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.standardboard.backend.dto.common.ApiResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Idempotency-Key 헤더 처리 필터
+ *
+ * 모바일 클라이언트는 응답 시간 초과 시 같은 쓰기 요청(회원가입 등)을 다시 보냅니다.
+ * 헤더가 있는 /api/** 쓰기 요청(POST, PUT, PATCH, DELETE, 로그인 제외)은 첫 요청만 실제로 처리하고,
+ * 그 응답을 IdempotencyStore에 저장해 두었다가 재시도에는 서비스 호출 없이 그대로 돌려줍니다.
+ * - 같은 키로 동시에 들어온 요청은 첫 요청이 끝날 때까지 기다렸다가 같은 응답을 받습니다. (wait-timeout-ms 초과 시 409)
+ * - 같은 키를 다른 요청(경로, 본문)에 쓰면 422로 거절합니다.
+ * - 5xx, sendError로 끝난 응답, 예외는 저장하지 않고 키를 풀어 다시 처리되게 합니다.
+ * - 키는 사용자(비로그인은 클라이언트 IP)별로 구분합니다. 인증 결과가 필요하므로 Spring Security 필터 체인 뒤에서 실행됩니다.
+ * - 재전송 시 이번 요청에서 앞선 필터(CORS 등)가 이미 쓴 헤더는 저장된 값으로 덧붙이지 않습니다.
+ * - 본문을 지문 계산용으로 먼저 읽으므로 multipart/form 요청과 max-request-bytes를 넘는 요청은 헤더를 무시합니다.
+ * 지표: idempotency.requests (outcome=executed|replayed|joined|not_stored|mismatch|timeout|skipped)
+ */
+@Log4j2
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final Set<String> WRITE_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+    private static final String CORS_HEADER_PREFIX = "Access-Control-";
+    // 로그인은 쓰기가 아니고, 재전송하면 AuthService를 거치지 않아 로그인 지표와 감사 로그(LOGIN_SUCCESS/FAILURE)가 빠집니다.
+    private static final String LOGIN_PATH = "/api/v1/auth/login";
+
+    private final IdempotencyStore store;
+    private final ObjectMapper objectMapper;
+    private final long waitTimeoutMs;
+    private final long maxRequestBytes;
+    private final int maxResponseBytes;
+    private final Map<String, Counter> outcomeCounters = new HashMap<>();
+
+    public IdempotencyFilter(IdempotencyStore store,
+                             ObjectMapper objectMapper,
+                             @Value("${app.idempotency.wait-timeout-ms:10000}") long waitTimeoutMs,
+                             @Value("${app.idempotency.max-request-bytes:65536}") long maxRequestBytes,
+                             @Value("${app.idempotency.max-response-bytes:65536}") int maxResponseBytes,
+                             MeterRegistry meterRegistry) {
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.waitTimeoutMs = waitTimeoutMs;
+        this.maxRequestBytes = maxRequestBytes;
+        this.maxResponseBytes = maxResponseBytes;
+        for (String outcome : List.of("executed", "replayed", "joined", "not_stored", "mismatch", "timeout", "skipped")) {
+            outcomeCounters.put(outcome, Counter.builder("idempotency.requests")
+                    .description("Idempotency-Key 요청 처리 결과")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getHeader(IDEMPOTENCY_KEY_HEADER) == null
+                || !WRITE_METHODS.contains(request.getMethod())
+                || !request.getRequestURI().startsWith("/api/")
+                || request.getRequestURI().equals(LOGIN_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (!isValidKey(idempotencyKey)) {
+            writeError(response, HttpServletResponse.SC_BAD_REQUEST, "E400_101",
+                    "Idempotency-Key는 1~" + MAX_KEY_LENGTH + "자의 출력 가능한 ASCII 문자여야 합니다.");
+            return;
+        }
+        if (!isBufferable(request)) {
+            count("skipped");
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        byte[] body = request.getInputStream().readAllBytes();
+        byte[] fingerprint = fingerprint(request, body);
+        String key = scope(request) + ' ' + idempotencyKey;
+        HttpServletRequest bufferedRequest = new BufferedBodyRequest(request, body);
+
+        while (true) {
+            IdempotencyStore.Entry entry = new IdempotencyStore.Entry(fingerprint);
+            IdempotencyStore.Entry existing = store.putIfAbsent(key, entry);
+            if (existing == null) {
+                execute(key, entry, bufferedRequest, response, filterChain);
+                return;
+            }
+            if (!existing.matches(fingerprint)) {
+                count("mismatch");
+                writeError(response, 422, "E422_101", "같은 Idempotency-Key가 다른 요청에 사용되었습니다.");
+                return;
+            }
+
+            boolean inFlight = !existing.isDone();
+            StoredResponse stored;
+            try {
+                stored = existing.await(waitTimeoutMs);
+            } catch (TimeoutException e) {
+                count("timeout");
+                response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+                writeError(response, HttpServletResponse.SC_CONFLICT, "E409_101",
+                        "같은 Idempotency-Key의 요청이 아직 처리 중입니다.");
+                return;
+            }
+            if (stored != null) {
+                count(inFlight ? "joined" : "replayed");
+                replay(stored, response);
+                return;
+            }
+            // 첫 요청이 저장 없이 끝났으면 다시 선점을 시도합니다.
+        }
+    }
+
+    private void execute(String key, IdempotencyStore.Entry entry, HttpServletRequest request,
+                         HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        CapturingResponse capturing = new CapturingResponse(response);
+        boolean stored = false;
+        try {
+            filterChain.doFilter(request, capturing);
+            StoredResponse result = capturing.toStoredResponse(maxResponseBytes);
+            if (result != null) {
+                store.complete(key, entry, result);
+                stored = true;
+            }
+        } finally {
+            if (!stored) {
+                store.release(key, entry);
+            }
+            count(stored ? "executed" : "not_stored");
+            capturing.copyBodyToResponse();
+        }
+    }
+
+    private static void replay(StoredResponse stored, HttpServletResponse response) throws IOException {
+        response.setStatus(stored.status());
+        // 이번 요청에서 이미 쓴 헤더(Vary 등)에 저장된 값을 더하면 같은 헤더가 두 번 나갑니다.
+        stored.headers().forEach((name, values) -> {
+            if (!response.containsHeader(name)) {
+                values.forEach(value -> response.addHeader(name, value));
+            }
+        });
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    private void writeError(HttpServletResponse response, int status, String code, String message) throws IOException {
+        response.setStatus(status);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.failure(code, message));
+    }
+
+    private boolean isBufferable(HttpServletRequest request) {
+        // 길이를 모르는(chunked) 본문은 크기를 제한할 수 없으므로 제외합니다.
+        long length = request.getContentLengthLong();
+        if (length < 0 || length > maxRequestBytes) {
+            return false;
+        }
+        // 지문 계산 전에 본문을 읽으면 컨테이너가 multipart/form 파라미터를 파싱할 수 없습니다.
+        String contentType = request.getContentType();
+        return contentType == null
+                || !(contentType.startsWith(MediaType.MULTIPART_FORM_DATA_VALUE)
+                || contentType.startsWith(MediaType.APPLICATION_FORM_URLENCODED_VALUE));
+    }
+
+    private static boolean isValidKey(String key) {
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (c < 0x21 || c > 0x7e) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 키는 사용자별로 구분: 다른 사용자가 같은 키를 보내도 서로의 응답을 받지 않습니다.
+    // 비로그인 요청은 클라이언트 IP로 구분합니다. (다른 클라이언트가 고른 키와 겹쳐 그 응답(Set-Cookie 등)을 받지 않도록)
+    private static String scope(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken
+                || !authentication.isAuthenticated()) {
+            return "anonymous:" + request.getRemoteAddr();
+        }
+        return "user:" + authentication.getName();
+    }
+
+    // 메서드 + 경로(쿼리 포함) + Accept + 본문의 SHA-256
+    // (Accept를 넣어 JSON으로 저장된 응답을 CBOR/Smile을 요청한 재시도에 돌려주지 않도록 합니다)
+    private static byte[] fingerprint(HttpServletRequest request, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(request.getMethod().getBytes(StandardCharsets.US_ASCII));
+            digest.update((byte) ' ');
+            digest.update(request.getRequestURI().getBytes(StandardCharsets.UTF_8));
+            if (request.getQueryString() != null) {
+                digest.update((byte) '?');
+                digest.update(request.getQueryString().getBytes(StandardCharsets.UTF_8));
+            }
+            digest.update((byte) '\n');
+            String accept = request.getHeader(HttpHeaders.ACCEPT);
+            if (accept != null) {
+                digest.update(accept.getBytes(StandardCharsets.UTF_8));
+            }
+            digest.update((byte) '\n');
+            return digest.digest(body);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private void count(String outcome) {
+        outcomeCounters.get(outcome).increment();
+    }
+
+    /**
+     * 미리 읽어 둔 본문을 다시 제공하는 요청 래퍼
+     */
+    private static final class BufferedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        BufferedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding != null ? encoding : StandardCharsets.UTF_8.name()));
+        }
+    }
+
+    /**
+     * 응답 본문과 헤더를 저장용으로 붙잡는 래퍼 (sendError 여부 기록)
+     */
+    private static final class CapturingResponse extends ContentCachingResponseWrapper {
+        private boolean errorSent;
+
+        CapturingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            errorSent = true;
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            errorSent = true;
+            super.sendError(sc, msg);
+        }
+
+        /**
+         * @return 저장할 응답, 저장하지 않을 결과(5xx, sendError, 크기 초과)면 null
+         */
+        StoredResponse toStoredResponse(int maxBodyBytes) {
+            if (errorSent || getStatus() >= 500 || getContentSize() > maxBodyBytes) {
+                return null;
+            }
+            Map<String, List<String>> headers = new LinkedHashMap<>();
+            for (String name : getHeaderNames()) {
+                // CORS 헤더는 요청의 Origin마다 CorsFilter가 다시 계산하므로 저장하지 않습니다.
+                if (!HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)
+                        && !name.regionMatches(true, 0, CORS_HEADER_PREFIX, 0, CORS_HEADER_PREFIX.length())) {
+                    headers.put(name, List.copyOf(new ArrayList<>(getHeaders(name))));
+                }
+            }
+            if (getContentType() != null && !headers.containsKey(HttpHeaders.CONTENT_TYPE)) {
+                headers.put(HttpHeaders.CONTENT_TYPE, List.of(getContentType()));
+            }
+            return new StoredResponse(getStatus(), headers, getContentAsByteArray());
+        }
+    }
+}
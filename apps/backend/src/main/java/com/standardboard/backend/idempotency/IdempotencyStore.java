@@ -0,0 +1,117 @@
+package com.standardboard.backend.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 멱등 키별 처리 결과 저장소 (인프로세스, 용량/만료 제한)
+ *
+ * 키마다 하나의 Entry를 두고, 처리 중에는 완료되지 않은 Future를 담아 둡니다.
+ * 같은 키의 동시 요청은 이 Future를 기다렸다가 첫 요청의 응답을 그대로 받습니다.
+ * - 용량: 저장된 응답 크기의 합(max-store-bytes)을 넘으면 오래된 항목부터 제거합니다.
+ * - 만료: 응답이 저장된 뒤 ttl-seconds가 지나면 제거되어 같은 키로 다시 처리할 수 있습니다.
+ * 인스턴스마다 따로 저장하므로, 여러 인스턴스로 운영할 때는 같은 클라이언트의 재시도가
+ * 같은 인스턴스로 가도록 하거나(sticky) 공유 저장소로 바꿔야 합니다.
+ */
+@Component
+public class IdempotencyStore {
+
+    private final Cache<String, Entry> cache;
+
+    public IdempotencyStore(@Value("${app.idempotency.ttl-seconds:3600}") long ttlSeconds,
+                            @Value("${app.idempotency.max-store-bytes:16777216}") long maxStoreBytes,
+                            MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumWeight(maxStoreBytes)
+                .weigher((String key, Entry entry) -> key.length() + entry.weight())
+                .build();
+        Gauge.builder("idempotency.store.size", cache, Cache::estimatedSize)
+                .description("저장된 멱등 키 수 (처리 중 포함)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 키를 선점합니다.
+     * @return 새로 선점했으면 null, 이미 있으면 기존 Entry
+     */
+    Entry putIfAbsent(String key, Entry entry) {
+        return cache.asMap().putIfAbsent(key, entry);
+    }
+
+    /**
+     * 처리 결과를 저장하고 기다리던 요청을 깨웁니다.
+     * 같은 Entry로 다시 넣어 실제 응답 크기로 용량을 다시 계산하고, 만료 시간도 저장 시점부터 셉니다.
+     */
+    void complete(String key, Entry entry, StoredResponse response) {
+        entry.future.complete(response);
+        cache.asMap().replace(key, entry, entry);
+    }
+
+    /**
+     * 저장하지 않을 결과(5xx, 예외 등)면 키를 풀어 재시도가 다시 처리되도록 합니다.
+     * 기다리던 요청은 null을 받고 다시 선점을 시도합니다.
+     */
+    void release(String key, Entry entry) {
+        cache.asMap().remove(key, entry);
+        entry.future.complete(null);
+    }
+
+    void clear() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * 멱등 키 하나의 상태: 요청 지문과 (처리 중이거나 완료된) 응답
+     */
+    static final class Entry {
+        private final byte[] fingerprint;
+        private final CompletableFuture<StoredResponse> future = new CompletableFuture<>();
+
+        Entry(byte[] fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+
+        // 같은 키를 다른 요청(경로, 본문)에 재사용했는지 확인
+        boolean matches(byte[] other) {
+            return MessageDigest.isEqual(fingerprint, other);
+        }
+
+        boolean isDone() {
+            return future.isDone();
+        }
+
+        /**
+         * 첫 요청의 응답을 기다립니다.
+         * @return 저장된 응답, 첫 요청이 저장 없이 끝났으면 null
+         * @throws TimeoutException timeoutMs 안에 끝나지 않은 경우 (인터럽트 포함)
+         */
+        StoredResponse await(long timeoutMs) throws TimeoutException {
+            try {
+                return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new TimeoutException("멱등 요청 대기 중 인터럽트되었습니다.");
+            } catch (ExecutionException e) {
+                // complete/release만 사용하므로 예외로 끝나지 않습니다.
+                return null;
+            }
+        }
+
+        private int weight() {
+            StoredResponse response = future.getNow(null);
+            return 64 + fingerprint.length + (response == null ? 0 : response.weight());
+        }
+    }
+}
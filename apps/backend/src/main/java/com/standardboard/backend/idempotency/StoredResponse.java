@@ -0,0 +1,24 @@
+package com.standardboard.backend.idempotency;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 멱등 키로 저장한 첫 요청의 응답 (상태 코드, 헤더, 본문)
+ *
+ * Content-Length는 재전송 시 다시 계산되므로 헤더에 담지 않습니다.
+ */
+public record StoredResponse(int status, Map<String, List<String>> headers, byte[] body) {
+
+    // 캐시 용량(바이트) 계산용 근사치: 본문 + 헤더 문자열 + 객체 오버헤드
+    int weight() {
+        int weight = 64 + body.length;
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            weight += header.getKey().length();
+            for (String value : header.getValue()) {
+                weight += value.length();
+            }
+        }
+        return weight;
+    }
+}
@@ -0,0 +1,62 @@
+package com.standardboard.backend.monitoring.health;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 주 DB 커넥션 풀 점검
+ *
+ * 실제로 커넥션을 얻어 Connection.isValid로 접속을 확인하고, 커넥션을 기다리는 스레드 수가
+ * 기준(app.health.readiness.db-max-pending)을 넘으면 풀이 포화된 것으로 보고 DOWN으로 알립니다.
+ * (읽기/쓰기 분리 시에도 주 DB 풀을 봅니다. 복제본 상태는 ReplicaHealthChecker가 따로 관리합니다)
+ */
+@Component
+public class DatabasePoolReadinessCheck implements ReadinessCheck {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+    private final HikariDataSource dataSource;
+    private final int maxPending;
+
+    public DatabasePoolReadinessCheck(DataSource dataSource,
+                                      @Value("${app.health.readiness.db-max-pending:5}") int maxPending) throws SQLException {
+        this.dataSource = dataSource.unwrap(HikariDataSource.class);
+        this.maxPending = maxPending;
+    }
+
+    @Override
+    public String name() {
+        return "db";
+    }
+
+    @Override
+    public Result check() {
+        Map<String, Object> details = new LinkedHashMap<>();
+        boolean connected;
+        try (Connection connection = dataSource.getConnection()) {
+            connected = connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+        } catch (SQLException e) {
+            connected = false;
+            details.put("error", e.getMessage());
+        }
+
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        int pending = (pool != null) ? pool.getThreadsAwaitingConnection() : 0;
+        if (pool != null) {
+            details.put("active", pool.getActiveConnections());
+            details.put("idle", pool.getIdleConnections());
+            details.put("pending", pending);
+        }
+        details.put("max", dataSource.getMaximumPoolSize());
+
+        return (connected && pending <= maxPending) ? Result.up(details) : Result.down(details);
+    }
+}
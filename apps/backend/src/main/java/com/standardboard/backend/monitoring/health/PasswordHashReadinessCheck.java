@@ -0,0 +1,46 @@
+package com.standardboard.backend.monitoring.health;
+
+import com.standardboard.backend.auth.password.PasswordHashExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 비밀번호 해싱 풀 포화 점검
+ *
+ * 대기 큐가 기준 비율(app.health.readiness.password-hash-max-queue-ratio) 이상 차면 DOWN입니다.
+ * 큐가 가득 차면 요청 스레드가 직접 BCrypt를 돌리게 되므로(CallerRunsPolicy), 그 전에 새 트래픽을 다른 인스턴스로 돌립니다.
+ */
+@Component
+public class PasswordHashReadinessCheck implements ReadinessCheck {
+
+    private final PasswordHashExecutor executor;
+    private final double maxQueueRatio;
+
+    public PasswordHashReadinessCheck(PasswordHashExecutor executor,
+                                      @Value("${app.health.readiness.password-hash-max-queue-ratio:0.8}") double maxQueueRatio) {
+        this.executor = executor;
+        this.maxQueueRatio = maxQueueRatio;
+    }
+
+    @Override
+    public String name() {
+        return "passwordHash";
+    }
+
+    @Override
+    public Result check() {
+        int queued = executor.getQueueSize();
+        int capacity = executor.getQueueCapacity();
+
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("active", executor.getActiveCount());
+        details.put("threads", executor.getPoolSize());
+        details.put("queued", queued);
+        details.put("capacity", capacity);
+
+        return (queued < capacity * maxQueueRatio) ? Result.up(details) : Result.down(details);
+    }
+}
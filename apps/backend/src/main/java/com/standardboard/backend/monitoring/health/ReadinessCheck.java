@@ -0,0 +1,32 @@
+package com.standardboard.backend.monitoring.health;
+
+import java.util.Map;
+
+/**
+ * 준비 상태(readiness)를 구성하는 의존성 점검 하나
+ *
+ * ReadinessMonitor가 백그라운드 스케줄에서만 호출하므로, DB 접속처럼 비용이 드는 확인을 해도 됩니다.
+ * 예외를 던지면 DOWN으로 처리됩니다.
+ */
+public interface ReadinessCheck {
+
+    // 응답 JSON의 checks.{name} 키
+    String name();
+
+    Result check();
+
+    /**
+     * @param up      요청을 받아도 되는 상태인지
+     * @param details 응답에 함께 내보낼 수치 (풀 사용량 등)
+     */
+    record Result(boolean up, Map<String, Object> details) {
+
+        public static Result up(Map<String, Object> details) {
+            return new Result(true, details);
+        }
+
+        public static Result down(Map<String, Object> details) {
+            return new Result(false, details);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.standardboard.backend.monitoring.health;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 준비 상태(readiness) 캐시
+ *
+ * 등록된 ReadinessCheck를 백그라운드 스케줄(app.health.readiness.interval-ms)에서 실행하고,
+ * 결과를 직렬화한 응답 바이트까지 만들어 둡니다. 준비 상태 요청은 마지막 결과를 그대로 내보내므로
+ * 오케스트레이터가 자주 호출해도 DB에 접근하거나 요청마다 직렬화하지 않습니다.
+ * 갱신이 간격의 3배 넘게 멈추면(스케줄러 정체) DOWN으로 응답합니다.
+ *
+ * 지표: health.readiness (1=UP), health.readiness.check (check=이름)
+ */
+@Log4j2
+@Component
+public class ReadinessMonitor {
+
+    private static final Snapshot STARTING = Snapshot.fixed("{\"status\":\"DOWN\",\"reason\":\"starting\"}");
+    private static final Snapshot STALE = Snapshot.fixed("{\"status\":\"DOWN\",\"reason\":\"stale\"}");
+
+    private final List<ReadinessCheck> checks;
+    private final ObjectMapper objectMapper;
+    private final long staleAfterNanos;
+    private final Map<String, Boolean> lastResults = new ConcurrentHashMap<>();
+
+    private volatile Snapshot snapshot = STARTING;
+    private volatile long refreshedAt = System.nanoTime();
+
+    public ReadinessMonitor(List<ReadinessCheck> checks,
+                            ObjectMapper objectMapper,
+                            @Value("${app.health.readiness.interval-ms:5000}") long intervalMs,
+                            MeterRegistry meterRegistry) {
+        this.checks = List.copyOf(checks);
+        this.objectMapper = objectMapper;
+        this.staleAfterNanos = intervalMs * 3 * 1_000_000L;
+
+        Gauge.builder("health.readiness", this, monitor -> monitor.current().ready() ? 1 : 0)
+                .description("준비 상태 (1=UP)")
+                .register(meterRegistry);
+        for (ReadinessCheck check : this.checks) {
+            Gauge.builder("health.readiness.check", lastResults, results -> results.getOrDefault(check.name(), false) ? 1 : 0)
+                    .description("의존성 점검 결과 (1=UP)")
+                    .tag("check", check.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 마지막 점검 결과 (요청 경로에서 호출, 할당 없음)
+     */
+    public Snapshot current() {
+        return (System.nanoTime() - refreshedAt > staleAfterNanos) ? STALE : snapshot;
+    }
+
+    @Scheduled(fixedDelayString = "${app.health.readiness.interval-ms:5000}")
+    public void refresh() {
+        boolean ready = true;
+        Map<String, Object> results = new LinkedHashMap<>();
+        for (ReadinessCheck check : checks) {
+            ReadinessCheck.Result result = runCheck(check);
+            ready &= result.up();
+            lastResults.put(check.name(), result.up());
+
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("status", result.up() ? "UP" : "DOWN");
+            entry.putAll(result.details());
+            results.put(check.name(), entry);
+        }
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("status", ready ? "UP" : "DOWN");
+        body.put("checkedAt", Instant.now().toString());
+        body.put("checks", results);
+
+        Snapshot previous = snapshot;
+        try {
+            snapshot = new Snapshot(ready, objectMapper.writeValueAsBytes(body));
+        } catch (JsonProcessingException e) {
+            // 직렬화 실패는 상태를 판단할 수 없으므로 마지막 결과를 유지하고, 갱신이 계속 실패하면 STALE이 됩니다.
+            log.error("준비 상태 응답 직렬화 실패", e);
+            return;
+        }
+        refreshedAt = System.nanoTime();
+
+        if (previous.ready() != ready) {
+            if (ready) {
+                log.info("준비 상태 UP: {}", results);
+            } else {
+                log.warn("준비 상태 DOWN: {}", results);
+            }
+        }
+    }
+
+    private static ReadinessCheck.Result runCheck(ReadinessCheck check) {
+        try {
+            return check.check();
+        } catch (RuntimeException e) {
+            return ReadinessCheck.Result.down(Map.of("error", String.valueOf(e.getMessage())));
+        }
+    }
+
+    /**
+     * @param ready 요청을 받아도 되는 상태인지
+     * @param body  미리 직렬화한 응답 본문 (JSON, UTF-8)
+     */
+    public record Snapshot(boolean ready, byte[] body) {
+
+        private static Snapshot fixed(String json) {
+            return new Snapshot(false, json.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.standardboard.backend.monitoring.health;
+
+import com.standardboard.backend.presence.PresenceWebSocketHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * WebSocket 세션 수 점검
+ *
+ * 열린 세션이 기준(app.health.readiness.websocket-max-sessions) 이상이면 DOWN입니다.
+ * 세션마다 전송 버퍼와 구독 정보가 있고 집계 변경이 모든 세션에 전달되므로, 넘치기 전에 새 연결을 다른 인스턴스로 돌립니다.
+ */
+@Component
+public class WebSocketSessionReadinessCheck implements ReadinessCheck {
+
+    private final PresenceWebSocketHandler handler;
+    private final int maxSessions;
+
+    public WebSocketSessionReadinessCheck(PresenceWebSocketHandler handler,
+                                          @Value("${app.health.readiness.websocket-max-sessions:10000}") int maxSessions) {
+        this.handler = handler;
+        this.maxSessions = maxSessions;
+    }
+
+    @Override
+    public String name() {
+        return "websocket";
+    }
+
+    @Override
+    public Result check() {
+        int sessions = handler.getSessionCount();
+
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("sessions", sessions);
+        details.put("max", maxSessions);
+
+        return (sessions < maxSessions) ? Result.up(details) : Result.down(details);
+    }
+}
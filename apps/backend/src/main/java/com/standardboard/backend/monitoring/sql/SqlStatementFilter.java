@@ -0,0 +1,112 @@
+package com.standardboard.backend.monitoring.sql;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * HTTP 요청 단위 SQL 집계 필터
+ *
+ * Spring Security 필터 체인보다 먼저 실행되어, 인증 필터의 사용자 조회까지 포함해 집계합니다.
+ * - 개발: 응답 헤더 X-Sql-Statements / X-Sql-Time-Ms (응답이 커밋되기 직전에 추가)
+ * - 운영: 느린 요청(slow-request-ms 이상)만 샘플링 비율에 따라 WARN 로그로 남깁니다.
+ * - 지표: sql.statements.per.request (요청당 SQL 수 분포)
+ */
+@Log4j2
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class SqlStatementFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENTS_HEADER = "X-Sql-Statements";
+    public static final String TIME_HEADER = "X-Sql-Time-Ms";
+
+    private final boolean headerEnabled;
+    private final long slowRequestNanos;
+    private final double slowLogSampleRate;
+    private final DistributionSummary statementsPerRequest;
+
+    public SqlStatementFilter(@Value("${app.sql-stats.header-enabled:true}") boolean headerEnabled,
+                              @Value("${app.sql-stats.slow-request-ms:500}") long slowRequestMs,
+                              @Value("${app.sql-stats.slow-log-sample-rate:1.0}") double slowLogSampleRate,
+                              MeterRegistry meterRegistry) {
+        this.headerEnabled = headerEnabled;
+        this.slowRequestNanos = slowRequestMs * 1_000_000L;
+        this.slowLogSampleRate = slowLogSampleRate;
+        this.statementsPerRequest = DistributionSummary.builder("sql.statements.per.request")
+                .description("HTTP 요청 하나에서 실행된 SQL 문 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        SqlStatementStats stats = SqlStatementStats.begin();
+        try {
+            filterChain.doFilter(request, headerEnabled ? new SqlStatsHeaderResponse(response, stats) : response);
+        } finally {
+            SqlStatementStats.end();
+            // 본문이 없어 아직 커밋되지 않은 응답은 여기서 헤더를 붙입니다.
+            if (headerEnabled && !response.isCommitted()) {
+                writeHeaders(response, stats);
+            }
+            long elapsed = System.nanoTime() - start;
+            statementsPerRequest.record(stats.getStatements());
+            if (elapsed >= slowRequestNanos && sampled()) {
+                log.warn("느린 요청: {} {} -> {} ({} ms, SQL {}건 / {} ms)",
+                        request.getMethod(), request.getRequestURI(), response.getStatus(),
+                        elapsed / 1_000_000, stats.getStatements(), formatMillis(stats.getExecutionMillis()));
+            }
+        }
+    }
+
+    // 비동기 디스패치(StreamingResponseBody 등)는 다른 스레드라 집계하지 않습니다.
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return true;
+    }
+
+    private boolean sampled() {
+        return slowLogSampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < slowLogSampleRate;
+    }
+
+    private static void writeHeaders(HttpServletResponse response, SqlStatementStats stats) {
+        response.setHeader(STATEMENTS_HEADER, Integer.toString(stats.getStatements()));
+        response.setHeader(TIME_HEADER, formatMillis(stats.getExecutionMillis()));
+    }
+
+    private static String formatMillis(double millis) {
+        return String.format(Locale.ROOT, "%.2f", millis);
+    }
+
+    /**
+     * 응답이 커밋되기 직전(본문 flush, sendError 등)에 집계 헤더를 추가하는 래퍼
+     */
+    private static final class SqlStatsHeaderResponse extends OnCommittedResponseWrapper {
+        private final SqlStatementStats stats;
+
+        SqlStatsHeaderResponse(HttpServletResponse response, SqlStatementStats stats) {
+            super(response);
+            this.stats = stats;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            writeHeaders((HttpServletResponse) getResponse(), stats);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.standardboard.backend.monitoring.sql;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Hibernate 세션 이벤트로 SQL 실행 횟수와 시간을 집계하는 리스너
+ *
+ * hibernate.session.events.auto 설정으로 세션마다 생성됩니다.
+ * SQL 문자열을 다루지 않고 실행 시작/종료 시각만 기록하므로, show-sql과 달리 운영에서도 켜둘 수 있습니다.
+ * 배치 실행(addBatch → executeBatch)은 한 번의 실행으로 셉니다.
+ */
+public class SqlStatementListener implements SessionEventListener {
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        SqlStatementStats stats = SqlStatementStats.current();
+        if (stats != null) {
+            stats.statementStarted();
+        }
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        SqlStatementStats stats = SqlStatementStats.current();
+        if (stats != null) {
+            stats.statementEnded();
+        }
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        jdbcExecuteStatementStart();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        jdbcExecuteStatementEnd();
+    }
+}
@@ -0,0 +1,58 @@
+package com.standardboard.backend.monitoring.sql;
+
+/**
+ * 요청 하나 동안 실행된 SQL 문 수와 DB 실행 시간
+ *
+ * SqlStatementFilter가 요청 시작 시 현재 스레드에 묶고(begin), 끝나면 해제(end)합니다.
+ * 요청 스레드 안에서만 갱신되므로 동기화하지 않습니다.
+ * (StreamingResponseBody처럼 다른 스레드에서 실행되는 쿼리는 집계되지 않습니다)
+ */
+public final class SqlStatementStats {
+
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long executionNanos;
+    private long executionStartNanos;
+
+    private SqlStatementStats() {
+    }
+
+    static SqlStatementStats begin() {
+        SqlStatementStats stats = new SqlStatementStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 현재 스레드에 묶인 집계 객체 (요청 밖이면 null)
+     */
+    public static SqlStatementStats current() {
+        return CURRENT.get();
+    }
+
+    void statementStarted() {
+        executionStartNanos = System.nanoTime();
+    }
+
+    void statementEnded() {
+        statements++;
+        executionNanos += System.nanoTime() - executionStartNanos;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getExecutionNanos() {
+        return executionNanos;
+    }
+
+    public double getExecutionMillis() {
+        return executionNanos / 1_000_000.0;
+    }
+}
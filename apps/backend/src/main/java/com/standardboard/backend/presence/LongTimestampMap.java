@@ -0,0 +1,173 @@
+package com.standardboard.backend.presence;
+
+/**
+ * long ID -> 마지막 하트비트 시각(int, 초 단위 틱)을 저장하는 개방 주소법 해시 맵
+ *
+ * Long 박싱, Entry 객체 없이 배열 두 개(long[] + int[])만 쓰므로 항목당 12바이트 / 적재율(최대 0.5) 입니다.
+ * 삭제는 툼스톤 없이 뒤쪽 항목을 당겨 채우므로(backward shift) 만료가 반복돼도 탐색 길이가 늘지 않습니다.
+ * 동기화하지 않으며 PresenceTracker의 스트라이프 락 안에서만 사용합니다.
+ * ID는 DB 식별자(1 이상)만 받습니다. 0은 빈 칸 표시로 씁니다.
+ */
+final class LongTimestampMap {
+
+    private static final int MIN_CAPACITY = 4;
+    private static final long EMPTY = 0L;
+
+    private long[] keys;
+    private int[] ticks;
+    private int mask;
+    private int size;
+
+    LongTimestampMap() {
+        this(MIN_CAPACITY);
+    }
+
+    LongTimestampMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(MIN_CAPACITY, expectedSize * 2 - 1)) << 1;
+        allocate(Math.max(MIN_CAPACITY, capacity));
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 항목의 시각을 갱신하고, 새로 추가된 항목이면 true를 반환합니다.
+     */
+    boolean touch(long key, int tick) {
+        checkKey(key);
+        int index = indexOf(key);
+        if (keys[index] == key) {
+            ticks[index] = tick;
+            return false;
+        }
+        keys[index] = key;
+        ticks[index] = tick;
+        if (++size * 2 > keys.length) {
+            resize(keys.length << 1);
+        }
+        return true;
+    }
+
+    boolean contains(long key) {
+        return key > 0 && keys[indexOf(key)] == key;
+    }
+
+    boolean remove(long key) {
+        if (key <= 0) {
+            return false;
+        }
+        int index = indexOf(key);
+        if (keys[index] != key) {
+            return false;
+        }
+        removeAt(index);
+        shrinkIfSparse();
+        return true;
+    }
+
+    /**
+     * 마지막 시각이 기준(cutoff)보다 이전인 항목을 모두 제거합니다.
+     * @return 제거한 항목 수
+     */
+    int expireBefore(int cutoff) {
+        int removed = 0;
+        int i = 0;
+        while (i < keys.length) {
+            if (keys[i] != EMPTY && ticks[i] - cutoff < 0) {
+                // 당겨온 항목을 같은 자리에서 다시 확인합니다. (배열 앞쪽에서 넘어온 항목은 두 번 확인될 수 있지만 결과는 같습니다)
+                removeAt(i);
+                removed++;
+                continue;
+            }
+            i++;
+        }
+        if (removed > 0) {
+            shrinkIfSparse();
+        }
+        return removed;
+    }
+
+    /**
+     * 배열이 차지하는 힙 크기 추정치 (배열 헤더 16바이트 x 2 포함, 맵 객체 자체 제외)
+     */
+    long memoryBytes() {
+        return 32L + (long) keys.length * (Long.BYTES + Integer.BYTES);
+    }
+
+    // --- 내부 구현 ---
+
+    private int indexOf(long key) {
+        int index = hash(key) & mask;
+        while (keys[index] != EMPTY && keys[index] != key) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private void removeAt(int index) {
+        // 비운 칸 뒤의 같은 클러스터 항목 중, 원래 자리가 비운 칸 이전인 것을 당겨 채웁니다.
+        int gap = index;
+        int next = (gap + 1) & mask;
+        while (keys[next] != EMPTY) {
+            int home = hash(keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                ticks[gap] = ticks[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[gap] = EMPTY;
+        ticks[gap] = 0;
+        size--;
+    }
+
+    private void shrinkIfSparse() {
+        // 접속자가 빠진 뒤에도 큰 배열이 남지 않도록 적재율 1/8 미만이면 절반으로 줄입니다.
+        if (keys.length > MIN_CAPACITY && size * 8 < keys.length) {
+            int capacity = keys.length >>> 1;
+            while (capacity > MIN_CAPACITY && size * 8 < capacity) {
+                capacity >>>= 1;
+            }
+            resize(capacity);
+        }
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldTicks = ticks;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int index = indexOf(oldKeys[i]);
+                keys[index] = oldKeys[i];
+                ticks[index] = oldTicks[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        ticks = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    private static void checkKey(long key) {
+        if (key <= 0) {
+            throw new IllegalArgumentException("ID는 1 이상이어야 합니다: " + key);
+        }
+    }
+
+    // 연속된 DB ID가 이웃 칸에 몰리지 않도록 섞습니다. (murmur3 fmix64)
+    private static int hash(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        return (int) key;
+    }
+}
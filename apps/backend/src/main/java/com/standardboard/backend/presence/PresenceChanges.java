@@ -0,0 +1,27 @@
+package com.standardboard.backend.presence;
+
+import java.util.List;
+
+/**
+ * 한 번의 집계 주기 동안 바뀐 접속/열람 수
+ *
+ * 사용자별 입장/퇴장 이벤트 대신 주기마다 바뀐 숫자만 모아 발행합니다.
+ * Spring 이벤트로 발행되며, PresenceWebSocketHandler가 받아 구독 중인 세션에 전달합니다.
+ *
+ * @param onlineUsers   현재 접속자 수
+ * @param onlineChanged 직전 발행 이후 접속자 수가 바뀌었는지
+ * @param viewers       열람자 수가 바뀐 게시글 (0명이 된 게시글 포함)
+ */
+public record PresenceChanges(int onlineUsers, boolean onlineChanged, List<ViewerCount> viewers) {
+
+    public boolean isEmpty() {
+        return !onlineChanged && viewers.isEmpty();
+    }
+
+    /**
+     * @param postId 게시글 ID
+     * @param count  현재 열람자 수
+     */
+    public record ViewerCount(long postId, int count) {
+    }
+}
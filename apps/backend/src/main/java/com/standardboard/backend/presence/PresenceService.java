@@ -0,0 +1,132 @@
+package com.standardboard.backend.presence;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+
+/**
+ * 접속자 / 게시글 열람자 집계 서비스
+ *
+ * 하트비트는 DB에 쓰지 않고 PresenceTracker(메모리)만 갱신합니다.
+ * app.presence.publish-interval-ms 주기로 만료를 처리하고, 그 사이 바뀐 숫자만 PresenceChanges 이벤트 하나로 발행합니다.
+ * 접속자가 많아도 발행 횟수는 주기당 최대 1회입니다.
+ *
+ * 지표: presence.online.users, presence.viewed.posts, presence.memory.bytes,
+ *       presence.heartbeats (outcome=accepted|rejected), presence.published
+ */
+@Log4j2
+@Component
+public class PresenceService {
+
+    private final PresenceTracker tracker;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+    private final long startMillis;
+
+    private final Counter acceptedHeartbeats;
+    private final Counter rejectedHeartbeats;
+    private final Counter published;
+
+    @Autowired
+    public PresenceService(@Value("${app.presence.ttl-seconds:45}") int ttlSeconds,
+                           @Value("${app.presence.max-users:100000}") int maxUsers,
+                           @Value("${app.presence.max-views:200000}") int maxViews,
+                           ApplicationEventPublisher eventPublisher,
+                           MeterRegistry meterRegistry) {
+        this(new PresenceTracker(ttlSeconds, maxUsers, maxViews), eventPublisher, meterRegistry, Clock.systemUTC());
+    }
+
+    PresenceService(PresenceTracker tracker, ApplicationEventPublisher eventPublisher,
+                    MeterRegistry meterRegistry, Clock clock) {
+        this.tracker = tracker;
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
+        this.startMillis = clock.millis();
+
+        this.acceptedHeartbeats = heartbeatCounter(meterRegistry, "accepted");
+        this.rejectedHeartbeats = heartbeatCounter(meterRegistry, "rejected");
+        this.published = Counter.builder("presence.published")
+                .description("발행한 집계 변경 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder("presence.online.users", tracker, PresenceTracker::onlineCount)
+                .description("하트비트가 만료되지 않은 접속자 수")
+                .register(meterRegistry);
+        Gauge.builder("presence.viewed.posts", tracker, PresenceTracker::viewedPostCount)
+                .description("열람자가 1명 이상인 게시글 수")
+                .register(meterRegistry);
+        Gauge.builder("presence.memory.bytes", tracker, PresenceTracker::memoryBytes)
+                .description("접속/열람 자료구조의 힙 크기 추정치")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 하트비트를 반영합니다.
+     * @param userId 사용자 ID
+     * @param postId 보고 있는 게시글 ID (없으면 0)
+     * @return 상한(max-users, max-views)에 걸려 반영하지 못했으면 false
+     */
+    public boolean heartbeat(long userId, long postId) {
+        boolean accepted = tracker.heartbeat(userId, postId, currentTick());
+        (accepted ? acceptedHeartbeats : rejectedHeartbeats).increment();
+        return accepted;
+    }
+
+    /**
+     * 게시글 화면을 떠났거나 연결이 끊긴 사용자를 열람자에서 제거합니다.
+     * 바뀐 숫자는 다음 발행 주기에 전달됩니다.
+     */
+    public void leave(long userId, long postId) {
+        tracker.leave(userId, postId);
+    }
+
+    public int onlineCount() {
+        return tracker.onlineCount();
+    }
+
+    public boolean isOnline(long userId) {
+        return tracker.isOnline(userId);
+    }
+
+    public int viewerCount(long postId) {
+        return tracker.viewerCount(postId);
+    }
+
+    /**
+     * 만료된 항목을 정리하고 바뀐 집계를 발행합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.presence.publish-interval-ms:1000}")
+    public void publish() {
+        PresenceChanges changes = tracker.tick(currentTick());
+        if (changes.isEmpty()) {
+            return;
+        }
+        published.increment();
+        try {
+            eventPublisher.publishEvent(changes);
+        } catch (RuntimeException e) {
+            // 전달 실패가 다음 주기의 만료 처리를 막지 않도록 기록만 합니다.
+            log.warn("접속 집계 발행 실패", e);
+        }
+    }
+
+    // 기동 시각 기준 초 단위 틱
+    private int currentTick() {
+        return (int) ((clock.millis() - startMillis) / 1000);
+    }
+
+    private static Counter heartbeatCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("presence.heartbeats")
+                .description("처리한 하트비트 수")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,249 @@
+package com.standardboard.backend.presence;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 접속자와 게시글별 열람자를 메모리에 유지하는 자료구조 (Spring 비의존, 스레드 안전)
+ *
+ * - 접속자: 사용자 ID -> 마지막 하트비트 틱 (LongTimestampMap)
+ * - 열람자: 게시글 ID -> (사용자 ID -> 마지막 하트비트 틱)
+ *
+ * 하트비트는 항목의 틱만 덮어쓰고, 만료는 tick()이 주기적으로 스트라이프를 훑으며 일괄 처리합니다.
+ * (항목마다 타이머나 만료 큐를 두지 않으므로 항목당 추가 메모리가 없습니다)
+ * ID 해시로 나눈 스트라이프마다 ReentrantLock을 두어 하트비트끼리의 경합을 줄입니다.
+ * 한 게시글의 열람자는 수십 명 수준이라 사용자 ID 비트맵 대신 작은 해시 맵을 씁니다.
+ *
+ * 전체 접속자 수(max-users)와 열람 항목 수(max-views)에 상한을 두고, 넘으면 새 항목을 받지 않습니다.
+ */
+public class PresenceTracker {
+
+    private static final int STRIPES = 16;
+
+    // 게시글 항목 하나의 고정 비용: HashMap.Node(32) + 테이블 슬롯(~8) + Long(16) + PostViewers(16) + LongTimestampMap(24) (압축 OOP 기준)
+    private static final long POST_ENTRY_BYTES = 96;
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    private final int ttlTicks;
+    private final int maxUsers;
+    private final int maxViews;
+
+    // 마지막으로 발행한 접속자 수 (tick 스레드에서만 접근)
+    private int publishedOnline = -1;
+
+    public PresenceTracker(int ttlTicks, int maxUsers, int maxViews) {
+        if (ttlTicks <= 0 || maxUsers <= 0 || maxViews <= 0) {
+            throw new IllegalArgumentException("app.presence.* 설정값은 모두 양수여야 합니다.");
+        }
+        this.ttlTicks = ttlTicks;
+        this.maxUsers = maxUsers;
+        this.maxViews = maxViews;
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    /**
+     * 하트비트를 반영합니다.
+     * @param userId 사용자 ID
+     * @param postId 보고 있는 게시글 ID (게시글 화면이 아니면 0)
+     * @param tick 현재 틱
+     * @return 상한에 걸려 새 항목을 받지 못했으면 false
+     */
+    public boolean heartbeat(long userId, long postId, int tick) {
+        boolean accepted = touchOnline(userId, tick);
+        if (accepted && postId > 0) {
+            accepted = touchViewer(postId, userId, tick);
+        }
+        return accepted;
+    }
+
+    /**
+     * 게시글 화면을 떠난 사용자를 열람자에서 바로 제거합니다. (접속자 표시는 만료될 때까지 유지)
+     */
+    public void leave(long userId, long postId) {
+        if (postId <= 0) {
+            return;
+        }
+        Stripe stripe = stripeOf(postId);
+        stripe.lock.lock();
+        try {
+            PostViewers post = stripe.posts.get(postId);
+            if (post != null && post.viewers.remove(userId)) {
+                stripe.views--;
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * 만료된 항목을 제거하고, 마지막 호출 이후 바뀐 집계만 모아 반환합니다.
+     * 한 스레드(스케줄러)에서만 호출합니다.
+     * @param tick 현재 틱
+     */
+    public PresenceChanges tick(int tick) {
+        int cutoff = tick - ttlTicks;
+        int online = 0;
+        List<PresenceChanges.ViewerCount> viewers = new ArrayList<>();
+
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                stripe.online.expireBefore(cutoff);
+                online += stripe.online.size();
+
+                Iterator<Map.Entry<Long, PostViewers>> it = stripe.posts.entrySet().iterator();
+                while (it.hasNext()) {
+                    Map.Entry<Long, PostViewers> entry = it.next();
+                    PostViewers post = entry.getValue();
+                    stripe.views -= post.viewers.expireBefore(cutoff);
+                    int count = post.viewers.size();
+                    if (count != post.publishedCount) {
+                        viewers.add(new PresenceChanges.ViewerCount(entry.getKey(), count));
+                        post.publishedCount = count;
+                    }
+                    if (count == 0) {
+                        it.remove();
+                    }
+                }
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+
+        boolean onlineChanged = online != publishedOnline;
+        publishedOnline = online;
+        return new PresenceChanges(online, onlineChanged, viewers);
+    }
+
+    public int onlineCount() {
+        int count = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                count += stripe.online.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return count;
+    }
+
+    public boolean isOnline(long userId) {
+        Stripe stripe = stripeOf(userId);
+        stripe.lock.lock();
+        try {
+            return stripe.online.contains(userId);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    public int viewerCount(long postId) {
+        Stripe stripe = stripeOf(postId);
+        stripe.lock.lock();
+        try {
+            PostViewers post = stripe.posts.get(postId);
+            return (post != null) ? post.viewers.size() : 0;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * 열람자가 있는 게시글 수
+     */
+    public int viewedPostCount() {
+        int count = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                count += stripe.posts.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 자료구조가 차지하는 힙 크기 추정치 (바이트)
+     * 배열 크기에서 계산하고, 게시글 항목은 HashMap 노드 + Long 키 + PostViewers 객체 크기를 더합니다.
+     */
+    public long memoryBytes() {
+        long bytes = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                bytes += stripe.online.memoryBytes();
+                for (PostViewers post : stripe.posts.values()) {
+                    bytes += POST_ENTRY_BYTES + post.viewers.memoryBytes();
+                }
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return bytes;
+    }
+
+    // --- 내부 구현 ---
+
+    private boolean touchOnline(long userId, int tick) {
+        Stripe stripe = stripeOf(userId);
+        stripe.lock.lock();
+        try {
+            if (!stripe.online.contains(userId) && stripe.online.size() >= maxUsers / STRIPES) {
+                return false;
+            }
+            stripe.online.touch(userId, tick);
+            return true;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    private boolean touchViewer(long postId, long userId, int tick) {
+        Stripe stripe = stripeOf(postId);
+        stripe.lock.lock();
+        try {
+            PostViewers post = stripe.posts.get(postId);
+            if (post == null) {
+                if (stripe.views >= maxViews / STRIPES) {
+                    return false;
+                }
+                post = new PostViewers();
+                stripe.posts.put(postId, post);
+            } else if (!post.viewers.contains(userId) && stripe.views >= maxViews / STRIPES) {
+                return false;
+            }
+            if (post.viewers.touch(userId, tick)) {
+                stripe.views++;
+            }
+            return true;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    private Stripe stripeOf(long id) {
+        return stripes[(int) (id ^ (id >>> 32)) & (STRIPES - 1)];
+    }
+
+    private static final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LongTimestampMap online = new LongTimestampMap(64);
+        private final Map<Long, PostViewers> posts = new HashMap<>();
+        // 이 스트라이프의 열람 항목 수 (모든 게시글 열람자 수의 합)
+        private int views;
+    }
+
+    private static final class PostViewers {
+        private final LongTimestampMap viewers = new LongTimestampMap();
+        private int publishedCount;
+    }
+}
@@ -0,0 +1,300 @@
+package com.standardboard.backend.presence;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.standardboard.backend.domain.user.User;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.SubProtocolCapable;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.AbstractWebSocketHandler;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 접속/열람 하트비트를 받는 WebSocket 핸들러 (/ws/presence)
+ *
+ * 클라이언트 -> 서버 (JSON 텍스트)
+ *   {"type":"view","postId":1}  게시글 화면 진입 (현재 열람자 수를 바로 응답)
+ *   {"type":"heartbeat"}        주기적 하트비트 (app.presence.ttl-seconds보다 짧게, 권장 15초)
+ *   {"type":"leave"}            게시글 화면 이탈
+ * 서버 -> 클라이언트
+ *   {"type":"viewers","postId":1,"count":3}  보고 있는 게시글의 열람자 수가 바뀜
+ *   {"type":"online","count":42}             전체 접속자 수가 바뀜
+ *
+ * 서브프로토콜(Sec-WebSocket-Protocol)로 프레임 형식을 고릅니다.
+ *   presence.v1.json (기본, 요청하지 않은 경우 포함): 위 JSON을 텍스트 프레임으로 주고받습니다.
+ *   presence.v1.cbor: 같은 필드를 CBOR로 인코딩해 바이너리 프레임으로 주고받습니다.
+ *
+ * 핸드셰이크는 보안 필터 체인(JWT 쿠키/헤더)을 통과해야 하며, 세션의 Principal에서 사용자 ID를 얻습니다.
+ * 숫자 변경은 PresenceService가 주기마다 모아 발행한 PresenceChanges를 받아 한 번씩만 전송합니다.
+ */
+@Log4j2
+@Component
+public class PresenceWebSocketHandler extends AbstractWebSocketHandler implements SubProtocolCapable {
+
+    public static final String PATH = "/ws/presence";
+    public static final String JSON_SUBPROTOCOL = "presence.v1.json";
+    public static final String CBOR_SUBPROTOCOL = "presence.v1.cbor";
+
+    private final PresenceService presenceService;
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper cborMapper;
+    private final int sendTimeLimitMs;
+    private final int sendBufferLimitBytes;
+
+    // 세션 ID -> 연결
+    private final Map<String, Connection> connections = new ConcurrentHashMap<>();
+    // 게시글 ID -> 그 게시글을 보고 있는 연결
+    private final Map<Long, Set<Connection>> subscribers = new ConcurrentHashMap<>();
+    // (사용자, 게시글) -> 그 게시글을 보고 있는 연결 수. 같은 글을 연 탭이 모두 떠나야 열람자에서 뺍니다.
+    private final Map<Viewer, Integer> viewerConnections = new ConcurrentHashMap<>();
+
+    public PresenceWebSocketHandler(PresenceService presenceService,
+                                    ObjectMapper objectMapper,
+                                    Jackson2ObjectMapperBuilder objectMapperBuilder,
+                                    @Value("${app.presence.send-time-limit-ms:5000}") int sendTimeLimitMs,
+                                    @Value("${app.presence.send-buffer-limit-bytes:16384}") int sendBufferLimitBytes) {
+        this.presenceService = presenceService;
+        this.objectMapper = objectMapper;
+        this.cborMapper = objectMapperBuilder.factory(new CBORFactory()).build();
+        this.sendTimeLimitMs = sendTimeLimitMs;
+        this.sendBufferLimitBytes = sendBufferLimitBytes;
+    }
+
+    @Override
+    public List<String> getSubProtocols() {
+        return List.of(JSON_SUBPROTOCOL, CBOR_SUBPROTOCOL);
+    }
+
+    /**
+     * 현재 열린 WebSocket 세션 수
+     */
+    public int getSessionCount() {
+        return connections.size();
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        Long userId = userIdOf(session);
+        if (userId == null) {
+            session.close(CloseStatus.POLICY_VIOLATION);
+            return;
+        }
+        // 느린 클라이언트가 발행 스레드를 붙잡지 않도록 전송 시간과 대기 버퍼를 제한합니다. (넘으면 연결 종료)
+        boolean binary = CBOR_SUBPROTOCOL.equals(session.getAcceptedProtocol());
+        Connection connection = new Connection(userId, binary,
+                new ConcurrentWebSocketSessionDecorator(session, sendTimeLimitMs, sendBufferLimitBytes));
+        connections.put(session.getId(), connection);
+        presenceService.heartbeat(userId, 0);
+        send(connection, new Frame(new PresenceMessage("online", null, presenceService.onlineCount())));
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
+        handle(session, message.getPayload().getBytes(StandardCharsets.UTF_8), objectMapper);
+    }
+
+    @Override
+    protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) throws Exception {
+        ByteBuffer payload = message.getPayload();
+        byte[] bytes = new byte[payload.remaining()];
+        payload.get(bytes);
+        handle(session, bytes, cborMapper);
+    }
+
+    private void handle(WebSocketSession session, byte[] payload, ObjectMapper mapper) throws IOException {
+        Connection connection = connections.get(session.getId());
+        if (connection == null) {
+            return;
+        }
+        JsonNode node;
+        try {
+            node = mapper.readTree(payload);
+        } catch (IOException e) {
+            session.close(CloseStatus.BAD_DATA);
+            return;
+        }
+        if (node == null) {
+            session.close(CloseStatus.BAD_DATA);
+            return;
+        }
+        switch (node.path("type").asText()) {
+            case "heartbeat" -> presenceService.heartbeat(connection.userId, connection.postId);
+            case "view" -> view(connection, node.path("postId").asLong(0));
+            case "leave" -> view(connection, 0);
+            default -> session.close(CloseStatus.BAD_DATA);
+        }
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        Connection connection = connections.remove(session.getId());
+        if (connection != null) {
+            unsubscribe(connection);
+        }
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) {
+        log.debug("presence WebSocket 전송 오류: session={}", session.getId(), exception);
+    }
+
+    /**
+     * 주기마다 모인 숫자 변경을 구독 중인 세션에 보냅니다.
+     * 같은 메시지는 형식(JSON/CBOR)별로 한 번만 직렬화해 여러 세션에 재사용합니다.
+     */
+    @EventListener
+    public void onPresenceChanges(PresenceChanges changes) {
+        for (PresenceChanges.ViewerCount viewerCount : changes.viewers()) {
+            Set<Connection> targets = subscribers.get(viewerCount.postId());
+            if (targets == null || targets.isEmpty()) {
+                continue;
+            }
+            Frame frame = new Frame(new PresenceMessage("viewers", viewerCount.postId(), viewerCount.count()));
+            for (Connection connection : targets) {
+                send(connection, frame);
+            }
+        }
+        if (changes.onlineChanged() && !connections.isEmpty()) {
+            Frame frame = new Frame(new PresenceMessage("online", null, changes.onlineUsers()));
+            for (Connection connection : connections.values()) {
+                send(connection, frame);
+            }
+        }
+    }
+
+    // --- 내부 구현 ---
+
+    private void view(Connection connection, long postId) {
+        if (postId < 0) {
+            postId = 0;
+        }
+        if (connection.postId != postId) {
+            unsubscribe(connection);
+            connection.postId = postId;
+            if (postId > 0) {
+                viewerConnections.merge(new Viewer(connection.userId, postId), 1, Integer::sum);
+                subscribers.computeIfAbsent(postId, key -> ConcurrentHashMap.newKeySet()).add(connection);
+            }
+        }
+        presenceService.heartbeat(connection.userId, postId);
+        if (postId > 0) {
+            send(connection, new Frame(new PresenceMessage("viewers", postId, presenceService.viewerCount(postId))));
+        }
+    }
+
+    /**
+     * 연결을 게시글 구독에서 빼고, 같은 사용자의 다른 연결이 그 게시글을 보고 있지 않으면 열람자에서도 뺍니다.
+     * 연결 수 감소와 leave를 같은 키의 compute 안에서 처리해, 다른 탭의 진입(merge)과 순서가 섞이지 않습니다.
+     */
+    private void unsubscribe(Connection connection) {
+        long postId = connection.postId;
+        if (postId <= 0) {
+            return;
+        }
+        subscribers.computeIfPresent(postId, (key, set) -> {
+            set.remove(connection);
+            return set.isEmpty() ? null : set;
+        });
+        viewerConnections.computeIfPresent(new Viewer(connection.userId, postId), (viewer, count) -> {
+            if (count > 1) {
+                return count - 1;
+            }
+            presenceService.leave(viewer.userId(), viewer.postId());
+            return null;
+        });
+    }
+
+    private void send(Connection connection, Frame frame) {
+        try {
+            connection.session.sendMessage(connection.binary ? frame.binary() : frame.text());
+        } catch (IOException | RuntimeException e) {
+            // 전송 시간/버퍼 제한을 넘긴 세션은 데코레이터가 닫습니다. 나머지 세션 전송은 계속합니다.
+            log.debug("presence 메시지 전송 실패: session={}", connection.session.getId(), e);
+        }
+    }
+
+    /**
+     * 보낼 메시지 하나. 형식별 인코딩은 처음 필요할 때 한 번만 만듭니다. (한 스레드 안에서만 사용)
+     */
+    private final class Frame {
+        private final PresenceMessage payload;
+        private TextMessage text;
+        private byte[] cbor;
+
+        private Frame(PresenceMessage payload) {
+            this.payload = payload;
+        }
+
+        private TextMessage text() {
+            if (text == null) {
+                text = new TextMessage(write(objectMapper, payload));
+            }
+            return text;
+        }
+
+        private BinaryMessage binary() {
+            if (cbor == null) {
+                cbor = write(cborMapper, payload);
+            }
+            // 전송하면 ByteBuffer 위치가 움직이므로 세션마다 새로 감쌉니다. (배열은 공유)
+            return new BinaryMessage(cbor);
+        }
+
+        private static byte[] write(ObjectMapper mapper, PresenceMessage payload) {
+            try {
+                return mapper.writeValueAsBytes(payload);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("presence 메시지 직렬화에 실패했습니다.", e);
+            }
+        }
+    }
+
+    private static Long userIdOf(WebSocketSession session) {
+        if (session.getPrincipal() instanceof Authentication authentication
+                && authentication.getPrincipal() instanceof User user) {
+            return user.getId();
+        }
+        return null;
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record PresenceMessage(String type, Long postId, int count) {
+    }
+
+    private record Viewer(long userId, long postId) {
+    }
+
+    private static final class Connection {
+        private final long userId;
+        // CBOR 서브프로토콜이면 바이너리 프레임으로 보냅니다.
+        private final boolean binary;
+        private final WebSocketSession session;
+        // 보고 있는 게시글 (없으면 0). 한 세션의 메시지는 순서대로 처리되므로 volatile로 충분합니다.
+        private volatile long postId;
+
+        private Connection(long userId, boolean binary, WebSocketSession session) {
+            this.userId = userId;
+            this.binary = binary;
+            this.session = session;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.standardboard.backend.repository.attachment;
+
+import com.standardboard.backend.domain.attachment.Attachment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Attachment Repository (첨부파일 메타데이터 접근 계층)
+ */
+@Repository
+public interface AttachmentRepository extends JpaRepository<Attachment, Long> {
+
+    /**
+     * 같은 내용(해시)을 가리키는 첨부파일이 있는지 확인합니다. (중복 제거된 파일의 삭제 가능 여부 판단)
+     */
+    boolean existsByContentHash(String contentHash);
+}
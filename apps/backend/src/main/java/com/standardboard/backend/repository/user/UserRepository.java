@@ -1,10 +1,14 @@
 package com.standardboard.backend.repository.user;
 
 import com.standardboard.backend.domain.user.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * User Repository (사용자 데이터 접근 계층)
@@ -12,14 +16,27 @@ import java.util.Optional;
  * Spring Data JPA를 사용하여 기본적인 CRUD 및 사용자 정의 쿼리를 제공합니다.
  */
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
 
-    // 1. 이메일(로그인 ID)로 사용자 정보를 조회합니다. (로그인 및 중복 확인용)
-    Optional<User> findByEmail(String email);
+    // 1. 이메일(로그인 ID)로 사용자 정보를 조회하는 findByEmail은 UserRepositoryCustom에 있습니다.
+    //    (자연 키 + 2차 캐시 조회, UserRepositoryImpl 참고)
 
     // 2. 닉네임 중복을 확인합니다.
     boolean existsByNickname(String nickname);
 
     // 3. 이메일 중복을 확인합니다.
     boolean existsByEmail(String email);
+
+    // 4. 전체 사용자를 ID 순으로 스트리밍 조회합니다. (내보내기용, 트랜잭션 안에서 소비 후 close 필수)
+    //    결과를 List로 올리지 않고 fetch size 단위로 커서를 전진시키며, 변경 감지 스냅샷도 만들지 않습니다.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("select u from User u order by u.id")
+    Stream<User> streamAllForExport();
+
+    // 내보내기 커서의 fetch size (영속성 컨텍스트를 비우는 단위와 동일하게 사용)
+    int EXPORT_FETCH_SIZE = 500;
 }
\ No newline at end of file
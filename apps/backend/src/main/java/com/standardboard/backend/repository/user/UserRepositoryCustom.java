@@ -0,0 +1,14 @@
+package com.standardboard.backend.repository.user;
+
+import com.standardboard.backend.domain.user.User;
+
+import java.util.Optional;
+
+/**
+ * UserRepository의 사용자 정의 조회 (Spring Data 파생 쿼리 대신 Hibernate API 사용)
+ */
+public interface UserRepositoryCustom {
+
+    // 이메일(자연 키)로 사용자를 조회합니다. 자연 키 캐시와 엔티티 캐시에 있으면 SQL 없이 반환합니다.
+    Optional<User> findByEmail(String email);
+}
@@ -0,0 +1,30 @@
+package com.standardboard.backend.repository.user;
+
+import com.standardboard.backend.domain.user.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * UserRepositoryCustom 구현체 (Spring Data가 'Impl' 접미사로 찾아 UserRepository에 합성합니다)
+ *
+ * 파생 쿼리(findByEmail)는 JPQL로 실행되어 2차 캐시를 거치지 않으므로,
+ * Hibernate의 자연 키 조회(bySimpleNaturalId)로 이메일 → ID → 엔티티 순서로 캐시를 탑니다.
+ */
+class UserRepositoryImpl implements UserRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // 자체 트랜잭션으로 실행해, 트랜잭션 밖에서 호출해도 조회가 끝나면 바로 커넥션을 반납합니다.
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<User> findByEmail(String email) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(email);
+    }
+}
@@ -0,0 +1,132 @@
+package com.standardboard.backend.service.attachment;
+
+import com.standardboard.backend.domain.attachment.Attachment;
+import com.standardboard.backend.repository.attachment.AttachmentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * 첨부파일 업로드/조회 비즈니스 로직을 처리하는 서비스
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AttachmentService {
+
+    private final AttachmentStorage attachmentStorage;
+    private final AttachmentRepository attachmentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.attachment.max-size-bytes}")
+    private long maxSizeBytes;
+
+    /**
+     * 업로드 본문을 저장소에 스트리밍으로 저장하고 메타데이터를 등록합니다.
+     * 파일 쓰기 동안 DB 커넥션을 점유하지 않도록 트랜잭션 밖에서 저장한 뒤, 짧은 트랜잭션으로 메타데이터만 기록합니다.
+     * 메타데이터가 커밋되지 않으면 이번 업로드로 새로 만든 파일을 지워, 가리키는 행 없이 남지 않게 합니다.
+     * @param body 요청 본문 스트림
+     * @param contentType 파일 MIME 타입
+     * @param originalName 원본 파일명 (없으면 null)
+     * @param uploaderId 업로더 ID
+     * @return 저장된 Attachment 엔티티
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Attachment upload(InputStream body, String contentType, String originalName, Long uploaderId) throws IOException {
+        // 1. 본문 저장 (해시 계산 + 중복 제거)
+        StoredBlob blob = attachmentStorage.store(Channels.newChannel(body), maxSizeBytes);
+
+        // 2. 메타데이터 저장
+        Attachment attachment = Attachment.builder()
+                .contentHash(blob.contentHash())
+                .size(blob.size())
+                .contentType(contentType)
+                .originalName(originalName)
+                .uploaderId(uploaderId)
+                .build();
+        Attachment saved;
+        try {
+            saved = new TransactionTemplate(transactionManager).execute(status -> {
+                if (blob.created()) {
+                    TransactionSynchronizationManager.registerSynchronization(new OrphanBlobCleanup(blob.contentHash()));
+                }
+                return attachmentRepository.save(attachment);
+            });
+        } catch (CannotCreateTransactionException e) {
+            // 트랜잭션을 시작하지 못해 정리 훅을 등록하지 못한 경우
+            if (blob.created()) {
+                discardUnreferenced(blob.contentHash());
+            }
+            throw e;
+        }
+
+        // 3. 후처리(썸네일 등) 요청 - 리스너는 자체 워커 풀로 넘기고 즉시 반환
+        eventPublisher.publishEvent(new AttachmentStoredEvent(blob.contentHash(), contentType));
+        return saved;
+    }
+
+    /**
+     * 첨부파일 메타데이터를 조회합니다.
+     */
+    public Optional<Attachment> find(Long id) {
+        return attachmentRepository.findById(id);
+    }
+
+    /**
+     * 첨부파일 원본의 로컬 경로를 반환합니다. (zero-copy 전송용)
+     */
+    public Path resolveContent(Attachment attachment) {
+        return attachmentStorage.resolve(attachment.getContentHash());
+    }
+
+    // 커밋되지 않은 업로드의 파일을 지웁니다. 그 사이 같은 내용을 올려 이 파일을 재사용한 첨부파일이 있으면 남겨 둡니다.
+    // (재사용한 쪽이 아직 커밋 전이면 놓칠 수 있으나, 같은 내용이 동시에 올라오고 한쪽이 실패하는 경우로 한정됩니다)
+    private void discardUnreferenced(String contentHash) {
+        try {
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            // 복제본 지연으로 방금 커밋된 행을 놓치지 않도록 읽기 전용으로 두지 않아 주 DB에서 확인합니다.
+            if (Boolean.FALSE.equals(transaction.execute(status -> attachmentRepository.existsByContentHash(contentHash)))) {
+                attachmentStorage.delete(contentHash);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("커밋되지 않은 업로드의 첨부파일을 삭제하지 못했습니다. hash={}", contentHash, e);
+        }
+    }
+
+    /**
+     * 메타데이터 트랜잭션이 커밋되지 않으면(롤백, 커밋 실패) 새로 저장한 파일을 지우는 훅
+     */
+    private final class OrphanBlobCleanup implements TransactionSynchronization {
+        private final String contentHash;
+
+        OrphanBlobCleanup(String contentHash) {
+            this.contentHash = contentHash;
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            if (status != STATUS_COMMITTED) {
+                discardUnreferenced(contentHash);
+            }
+        }
+    }
+}
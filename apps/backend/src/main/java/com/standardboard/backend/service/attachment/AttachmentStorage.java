@@ -0,0 +1,59 @@
+package com.standardboard.backend.service.attachment;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+
+/**
+ * 내용 주소 기반(Content-addressed) 첨부파일 저장소
+ *
+ * 파일은 SHA-256 해시를 키로 저장되며, 같은 내용은 한 번만 저장됩니다.
+ * 다운로드 시 FileChannel.transferTo / sendfile 을 사용할 수 있도록 로컬 파일 경로를 노출합니다.
+ */
+public interface AttachmentStorage {
+
+    /**
+     * 입력 채널을 끝까지 읽어 저장하면서 같은 패스에서 SHA-256 해시를 계산합니다.
+     * @param source 업로드 본문 채널
+     * @param maxBytes 허용 최대 크기 (초과 시 AttachmentTooLargeException)
+     * @return 저장 결과 (해시, 크기, 신규 저장 여부)
+     */
+    StoredBlob store(ReadableByteChannel source, long maxBytes) throws IOException;
+
+    /**
+     * 해시에 해당하는 파일이 저장되어 있는지 확인합니다.
+     */
+    boolean exists(String contentHash);
+
+    /**
+     * 해시에 해당하는 원본 파일의 로컬 경로를 반환합니다.
+     */
+    Path resolve(String contentHash);
+
+    /**
+     * 해시에 해당하는 원본 파일을 삭제합니다. (메타데이터 저장에 실패한 업로드 정리용)
+     */
+    void delete(String contentHash) throws IOException;
+
+    /**
+     * 원본 옆에 파생 파일(썸네일 등)을 원자적으로 저장합니다.
+     * @param contentHash 원본 해시
+     * @param variant 파생 파일 구분자 (예: thumb-160.jpg)
+     * @param writer 파생 파일 내용을 쓰는 함수
+     */
+    void storeDerivative(String contentHash, String variant, DerivativeWriter writer) throws IOException;
+
+    /**
+     * 파생 파일의 로컬 경로를 반환합니다. (존재 여부는 확인하지 않음)
+     */
+    Path resolveDerivative(String contentHash, String variant);
+
+    /**
+     * 파생 파일 내용을 출력 스트림에 기록하는 함수
+     */
+    @FunctionalInterface
+    interface DerivativeWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+}
@@ -0,0 +1,12 @@
+package com.standardboard.backend.service.attachment;
+
+/**
+ * 첨부파일 본문이 저장소에 기록된 뒤 발행되는 이벤트
+ *
+ * 썸네일 생성처럼 업로드 응답과 무관한 후처리는 이 이벤트를 받아 비동기로 수행합니다.
+ *
+ * @param contentHash 원본 해시
+ * @param contentType 업로드 MIME 타입
+ */
+public record AttachmentStoredEvent(String contentHash, String contentType) {
+}
@@ -0,0 +1,15 @@
+package com.standardboard.backend.service.attachment;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 업로드 크기가 app.attachment.max-size-bytes 를 넘었을 때 발생하는 예외 (413 Payload Too Large)
+ */
+@ResponseStatus(HttpStatus.PAYLOAD_TOO_LARGE)
+public class AttachmentTooLargeException extends RuntimeException {
+
+    public AttachmentTooLargeException(long maxBytes) {
+        super("첨부파일은 " + maxBytes + " byte 이하여야 합니다.");
+    }
+}
@@ -0,0 +1,156 @@
+package com.standardboard.backend.service.attachment;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+/**
+ * 로컬 디렉터리 기반 AttachmentStorage 구현체
+ *
+ * 디렉터리 구조:
+ * - {root}/objects/{해시 앞 2자리}/{해시}  : 원본 파일 (내용 주소 기반)
+ * - {root}/objects/{해시 앞 2자리}/{해시}.{variant} : 원본에서 만든 파생 파일 (썸네일 등)
+ * - {root}/tmp/                          : 업로드 중인 임시 파일
+ *
+ * 업로드 본문은 힙에 모으지 않고 Direct ByteBuffer 하나로 FileChannel에 흘려 쓰며,
+ * 같은 버퍼로 SHA-256을 계산합니다. 완료 후 임시 파일을 해시 경로로 원자적으로 이동합니다.
+ */
+@Component
+public class LocalAttachmentStorage implements AttachmentStorage {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final Pattern SHA256_HEX = Pattern.compile("[0-9a-f]{64}");
+    private static final Pattern VARIANT = Pattern.compile("[a-z0-9][a-z0-9.-]{0,31}");
+
+    private final Path objectsDir;
+    private final Path tmpDir;
+
+    public LocalAttachmentStorage(@Value("${app.attachment.root-dir}") String rootDir) {
+        Path root = Path.of(rootDir).toAbsolutePath().normalize();
+        this.objectsDir = root.resolve("objects");
+        this.tmpDir = root.resolve("tmp");
+        try {
+            Files.createDirectories(objectsDir);
+            Files.createDirectories(tmpDir);
+        } catch (IOException e) {
+            throw new UncheckedIOException("첨부파일 저장소 디렉터리를 만들 수 없습니다: " + root, e);
+        }
+    }
+
+    @Override
+    public StoredBlob store(ReadableByteChannel source, long maxBytes) throws IOException {
+        MessageDigest digest = sha256();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        Path tmp = Files.createTempFile(tmpDir, "upload-", ".part");
+
+        try {
+            long size = 0;
+            try (FileChannel out = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+                while (source.read(buffer) != -1) {
+                    buffer.flip();
+                    size += buffer.remaining();
+                    if (size > maxBytes) {
+                        throw new AttachmentTooLargeException(maxBytes);
+                    }
+                    // 같은 버퍼를 해시와 파일 쓰기에 공유 (추가 복사 없음)
+                    digest.update(buffer.duplicate());
+                    while (buffer.hasRemaining()) {
+                        out.write(buffer);
+                    }
+                    buffer.clear();
+                }
+                out.force(false);
+            }
+
+            String hash = HexFormat.of().formatHex(digest.digest());
+            Path target = resolve(hash);
+            if (Files.exists(target)) {
+                // 같은 내용이 이미 저장되어 있으면 임시 파일을 버리고 기존 파일을 재사용
+                Files.delete(tmp);
+                return new StoredBlob(hash, size, false);
+            }
+
+            Files.createDirectories(target.getParent());
+            try {
+                Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                // 동일한 내용이 동시에 업로드된 경우: 먼저 끝난 쪽의 파일을 사용
+                Files.deleteIfExists(tmp);
+                return new StoredBlob(hash, size, false);
+            }
+            return new StoredBlob(hash, size, true);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tmp);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean exists(String contentHash) {
+        return Files.isRegularFile(resolve(contentHash));
+    }
+
+    @Override
+    public Path resolve(String contentHash) {
+        // 해시 형식을 강제하여 경로 조작(../)을 차단
+        if (contentHash == null || !SHA256_HEX.matcher(contentHash).matches()) {
+            throw new IllegalArgumentException("유효하지 않은 첨부파일 해시입니다.");
+        }
+        return objectsDir.resolve(contentHash.substring(0, 2)).resolve(contentHash);
+    }
+
+    @Override
+    public void delete(String contentHash) throws IOException {
+        Files.deleteIfExists(resolve(contentHash));
+    }
+
+    @Override
+    public void storeDerivative(String contentHash, String variant, DerivativeWriter writer) throws IOException {
+        Path target = resolveDerivative(contentHash, variant);
+        Path tmp = Files.createTempFile(tmpDir, "derivative-", ".part");
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tmp, StandardOpenOption.WRITE))) {
+                writer.writeTo(out);
+            }
+            Files.createDirectories(target.getParent());
+            // 읽는 쪽은 완성된 파일만 보도록 원자적으로 교체
+            Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tmp);
+            throw e;
+        }
+    }
+
+    @Override
+    public Path resolveDerivative(String contentHash, String variant) {
+        if (variant == null || !VARIANT.matcher(variant).matches()) {
+            throw new IllegalArgumentException("유효하지 않은 파생 파일 구분자입니다.");
+        }
+        Path original = resolve(contentHash);
+        return original.resolveSibling(contentHash + "." + variant);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.standardboard.backend.service.attachment;
+
+/**
+ * 저장소에 기록된 파일 본문 정보
+ *
+ * @param contentHash SHA-256 hex
+ * @param size 파일 크기 (byte)
+ * @param created 이번 업로드로 새로 저장되었으면 true, 이미 같은 내용이 있어 재사용했으면 false
+ */
+public record StoredBlob(String contentHash, long size, boolean created) {
+}
@@ -0,0 +1,224 @@
+package com.standardboard.backend.service.attachment;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이미지 첨부파일의 썸네일을 백그라운드에서 생성하는 서비스
+ *
+ * - 업로드 응답을 막지 않도록 고정 크기 워커 풀 + 유한 큐(ArrayBlockingQueue)에서 처리합니다.
+ *   큐가 가득 차면 작업을 버리고(rejected 카운터 증가) 원본으로 대체 제공합니다.
+ * - 큰 이미지는 ImageReadParam의 subsampling으로 디코딩 단계에서부터 줄여 메모리 사용을 제한합니다.
+ * - 결과물은 원본 옆에 JPEG 파생 파일로 저장합니다. (ThumbnailSize.variant())
+ * - 지표: attachment.thumbnail.queue.size, attachment.thumbnail.active,
+ *   attachment.thumbnail.processing(이미지당 처리 시간), attachment.thumbnail.rejected/failed
+ */
+@Log4j2
+@Service
+public class ThumbnailService {
+
+    // 디코딩 허용 최대 픽셀 수 (압축 폭탄 방지)
+    private static final long MAX_SOURCE_PIXELS = 50_000_000L;
+
+    private final AttachmentStorage attachmentStorage;
+    private final ThreadPoolExecutor executor;
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+    private final Set<String> supportedTypes = Set.copyOf(Arrays.asList(ImageIO.getReaderMIMETypes()));
+
+    private final Timer processingTimer;
+    private final Counter rejectedCounter;
+    private final Counter failedCounter;
+
+    public ThumbnailService(AttachmentStorage attachmentStorage,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.attachment.thumbnail.workers:2}") int workers,
+                            @Value("${app.attachment.thumbnail.queue-capacity:100}") int queueCapacity) {
+        this.attachmentStorage = attachmentStorage;
+        this.executor = new ThreadPoolExecutor(
+                workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("thumbnail-"),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("attachment.thumbnail.queue.size", executor, e -> e.getQueue().size())
+                .description("썸네일 생성 대기 중인 이미지 수")
+                .register(meterRegistry);
+        Gauge.builder("attachment.thumbnail.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("썸네일 생성 중인 워커 수")
+                .register(meterRegistry);
+        this.processingTimer = Timer.builder("attachment.thumbnail.processing")
+                .description("이미지 한 장의 전체 썸네일 생성 시간")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("attachment.thumbnail.rejected")
+                .description("큐가 가득 차 생성하지 못한 이미지 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("attachment.thumbnail.failed")
+                .description("디코딩/인코딩 실패 이미지 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 첨부파일 저장 이벤트를 받아 썸네일 생성 작업을 큐에 넣습니다. (업로드 스레드는 즉시 반환)
+     */
+    @EventListener
+    public void onAttachmentStored(AttachmentStoredEvent event) {
+        String hash = event.contentHash();
+        if (!isSupported(event.contentType()) || allGenerated(hash) || !inFlight.add(hash)) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    generate(hash);
+                } finally {
+                    inFlight.remove(hash);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(hash);
+            rejectedCounter.increment();
+            log.warn("썸네일 큐가 가득 차 생성을 건너뜁니다: {}", hash);
+        }
+    }
+
+    /**
+     * 썸네일을 만들 수 있는 이미지 타입인지 확인합니다.
+     */
+    public boolean isSupported(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        int paramStart = contentType.indexOf(';');
+        String mimeType = (paramStart < 0) ? contentType : contentType.substring(0, paramStart);
+        return supportedTypes.contains(mimeType.trim().toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * 생성이 끝난 썸네일의 경로를 반환합니다. 아직 없으면 빈 값 (호출 측은 원본으로 대체)
+     */
+    public Optional<Path> find(String contentHash, ThumbnailSize size) {
+        Path path = attachmentStorage.resolveDerivative(contentHash, size.variant());
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    /**
+     * 원본 이미지를 한 번 디코딩해 모든 크기의 썸네일을 생성합니다.
+     */
+    void generate(String contentHash) {
+        Timer.Sample sample = Timer.start();
+        try {
+            BufferedImage source = decode(attachmentStorage.resolve(contentHash));
+            if (source == null) {
+                failedCounter.increment();
+                return;
+            }
+            for (ThumbnailSize size : ThumbnailSize.values()) {
+                BufferedImage thumbnail = scale(source, size.getMaxEdge());
+                attachmentStorage.storeDerivative(contentHash, size.variant(),
+                        out -> ImageIO.write(thumbnail, "jpg", out));
+            }
+        } catch (IOException | RuntimeException e) {
+            failedCounter.increment();
+            log.warn("썸네일 생성 실패: {}", contentHash, e);
+        } finally {
+            sample.stop(processingTimer);
+        }
+    }
+
+    private boolean allGenerated(String contentHash) {
+        for (ThumbnailSize size : ThumbnailSize.values()) {
+            if (find(contentHash, size).isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 가장 큰 썸네일의 2배 정도 해상도로만 디코딩하도록 subsampling 적용
+    private static BufferedImage decode(Path path) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(path.toFile())) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > MAX_SOURCE_PIXELS) {
+                    log.warn("썸네일 대상 이미지가 너무 큽니다: {}x{}", width, height);
+                    return null;
+                }
+
+                int target = ThumbnailSize.LARGE.getMaxEdge() * 2;
+                int factor = Math.max(1, Math.max(width, height) / target);
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(factor, factor, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 비율을 유지하며 긴 변을 maxEdge 이하로 축소 (투명 영역은 흰색으로 채워 JPEG로 저장)
+    private static BufferedImage scale(BufferedImage source, int maxEdge) {
+        double ratio = Math.min(1.0, (double) maxEdge / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * ratio));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * ratio));
+
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, width, height);
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
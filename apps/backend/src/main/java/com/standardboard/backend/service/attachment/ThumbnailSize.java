@@ -0,0 +1,38 @@
+package com.standardboard.backend.service.attachment;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * 미리 생성하는 썸네일 크기 (긴 변 기준 픽셀)
+ */
+public enum ThumbnailSize {
+    SMALL(160), // 목록 아이콘
+    MEDIUM(480), // 게시글 목록 미리보기
+    LARGE(960); // 본문 인라인
+
+    private final int maxEdge;
+
+    ThumbnailSize(int maxEdge) {
+        this.maxEdge = maxEdge;
+    }
+
+    public int getMaxEdge() {
+        return maxEdge;
+    }
+
+    // 저장소 파생 파일 구분자 (예: thumb-160.jpg)
+    public String variant() {
+        return "thumb-" + maxEdge + ".jpg";
+    }
+
+    // URL 경로의 크기 이름(small/medium/large)을 enum으로 변환
+    public static Optional<ThumbnailSize> fromName(String name) {
+        for (ThumbnailSize size : values()) {
+            if (size.name().equals(name.toUpperCase(Locale.ROOT))) {
+                return Optional.of(size);
+            }
+        }
+        return Optional.empty();
+    }
+}
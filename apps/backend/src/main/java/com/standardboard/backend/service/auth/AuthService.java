@@ -1,28 +1,51 @@
 package com.standardboard.backend.service.auth;
 
+import com.standardboard.backend.audit.AuditEventType;
+import com.standardboard.backend.audit.AuditLog;
+import com.standardboard.backend.audit.AuditReason;
 import com.standardboard.backend.auth.jwt.JwtTokenProvider;
+import com.standardboard.backend.datasource.PrimaryRead;
 import com.standardboard.backend.domain.user.Role;
 import com.standardboard.backend.domain.user.User;
 import com.standardboard.backend.dto.auth.LoginRequest;
 import com.standardboard.backend.dto.auth.SignUpRequest;
 import com.standardboard.backend.repository.user.UserRepository;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
  * 인증(Authentication) 관련 비즈니스 로직을 처리하는 서비스
  *
  * 회원가입, 로그인, 토큰 발행 등의 핵심 로직이 포함됩니다.
+ * 지표: auth.login (outcome=success|user_not_found|bad_password)
+ * 감사 로그: 회원가입, 로그인 성공/실패를 AuditLog에 기록합니다. (요청 스레드에서는 메모리 버퍼에만 기록)
+ *   (BCrypt 해싱 시간은 OffloadingPasswordEncoder의 auth.password.hash 로 기록됩니다)
  */
 @Service
-@RequiredArgsConstructor // Lombok을 사용하여 final 필드를 인자로 받는 생성자를 자동 생성 (의존성 주입)
 @Transactional(readOnly = true) // 읽기 전용 트랜잭션 기본 설정
 public class AuthService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final AuditLog auditLog;
+
+    private final Counter loginSuccessCounter;
+    private final Counter loginUserNotFoundCounter;
+    private final Counter loginBadPasswordCounter;
+
+    public AuthService(UserRepository userRepository, PasswordEncoder passwordEncoder, AuditLog auditLog,
+                       MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.auditLog = auditLog;
+        this.loginSuccessCounter = loginCounter(meterRegistry, "success");
+        this.loginUserNotFoundCounter = loginCounter(meterRegistry, "user_not_found");
+        this.loginBadPasswordCounter = loginCounter(meterRegistry, "bad_password");
+    }
 
     /**
      * 회원가입을 처리하는 비즈니스 메서드
@@ -53,26 +76,50 @@ public class AuthService {
                 .build();
 
         // 5. DB 저장 및 반환
-        return userRepository.save(newUser);
+        User savedUser = userRepository.save(newUser);
+        auditLog.record(AuditEventType.SIGNUP, AuditReason.NONE, savedUser.getId(), savedUser.getEmail());
+        return savedUser;
     }
 
     /**
      * 로그인 요청을 처리하고 JWT Access Token을 발행합니다.
      * @param request 로그인 요청 DTO
      * @return 발행된 JWT Access Token 문자열
+     *
+     * BCrypt 비교는 수십~수백 ms가 걸리므로 트랜잭션 밖에서 수행합니다.
+     * 조회는 Repository 자체 트랜잭션에서 끝나므로, 해싱하는 동안 DB 커넥션을 붙잡고 있지 않습니다.
+     * (동시 로그인이 커넥션 풀 크기를 넘으면 커넥션 대기 타임아웃이 나던 문제)
+     *
+     * 가입 직후 로그인이 복제 지연으로 실패하지 않도록, 읽기/쓰기 분리를 켜도 주 DB에서 조회합니다.
      */
-    @Transactional(readOnly = true)
+    @PrimaryRead
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public User login(LoginRequest request) {
         // 1. 이메일로 사용자 조회
-        User user = userRepository.findByEmail(request.getEmail())
-                .orElseThrow(() -> new IllegalArgumentException("이메일 또는 비밀번호가 일치하지 않습니다."));
+        User user = userRepository.findByEmail(request.getEmail()).orElse(null);
+        if (user == null) {
+            loginUserNotFoundCounter.increment();
+            auditLog.record(AuditEventType.LOGIN_FAILURE, AuditReason.USER_NOT_FOUND, null, request.getEmail());
+            throw new IllegalArgumentException("이메일 또는 비밀번호가 일치하지 않습니다.");
+        }
 
         // 2. 비밀번호 일치 여부 확인
         if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+            loginBadPasswordCounter.increment();
+            auditLog.record(AuditEventType.LOGIN_FAILURE, AuditReason.BAD_PASSWORD, user.getId(), user.getEmail());
             // 보안을 위해 이메일과 동일한 메시지 사용 (어떤 정보가 틀렸는지 알려주지 않음)
             throw new IllegalArgumentException("이메일 또는 비밀번호가 일치하지 않습니다.");
         }
 
+        loginSuccessCounter.increment();
+        auditLog.record(AuditEventType.LOGIN_SUCCESS, AuditReason.NONE, user.getId(), user.getEmail());
         return user;
     }
+
+    private static Counter loginCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("auth.login")
+                .description("로그인 시도 결과별 건수")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
 }
\ No newline at end of file
@@ -1,26 +1,50 @@
 package com.standardboard.backend.service.auth;
 
+import com.standardboard.backend.domain.user.User;
 import com.standardboard.backend.repository.user.UserRepository;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
 /**
  * Spring Security에서 사용자 정보를 불러오는 핵심 서비스 (UserDetailsService 구현)
  * 이메일(username)을 기반으로 DB에서 User 엔티티를 조회하여 UserDetails 객체를 반환합니다.
+ *
+ * 지표: auth.user.load (outcome=found|not_found) - 인증 요청마다 발생하는 사용자 조회 시간
  */
 @Service
-@RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final Timer foundTimer;
+    private final Timer notFoundTimer;
+
+    public CustomUserDetailsService(UserRepository userRepository, MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.foundTimer = loadTimer(meterRegistry, "found");
+        this.notFoundTimer = loadTimer(meterRegistry, "not_found");
+    }
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
+        long start = System.nanoTime();
+        Optional<User> user = userRepository.findByEmail(email);
+        (user.isPresent() ? foundTimer : notFoundTimer).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
         // User 엔티티가 UserDetails를 구현했으므로 바로 반환 가능
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + email));
+        return user.orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + email));
+    }
+
+    private static Timer loadTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("auth.user.load")
+                .description("인증 시 이메일로 사용자를 조회하는 시간")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
     }
-}
\ No newline at end of file
+}
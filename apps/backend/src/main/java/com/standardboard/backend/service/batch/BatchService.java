@@ -0,0 +1,419 @@
+package com.standardboard.backend.service.batch;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.standardboard.backend.dto.batch.BatchRequest;
+import com.standardboard.backend.dto.batch.BatchResponse;
+import com.standardboard.backend.dto.common.ApiResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.Filter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authorization.AuthorizationResult;
+import org.springframework.security.concurrent.DelegatingSecurityContextCallable;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
+import org.springframework.security.web.firewall.RequestRejectedException;
+import org.springframework.security.web.firewall.StrictHttpFirewall;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.HandlerAdapter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.HandlerExecutionChain;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.util.ServletRequestPathUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일괄 요청(Batch) 실행 서비스
+ *
+ * 하위 GET 요청을 가상 스레드에서 병렬로 실행하고 결과를 요청 순서대로 모읍니다.
+ * 인증은 일괄 요청이 보안 필터 체인을 통과할 때 한 번만 하고, 하위 요청은 그 SecurityContext를 그대로 씁니다.
+ * 하위 요청은 필터 체인을 거치지 않으므로 인가는 보안 필터 체인의 AuthorizationFilter 규칙(SecurityConfig)으로 따로 확인하고,
+ * 실행은 DispatcherServlet과 같은 HandlerMapping / HandlerAdapter / HandlerExceptionResolver를 사용합니다.
+ *
+ * 전용 실행기는 java.util.concurrent.Executor Bean으로 등록하지 않고 이 서비스 안에만 둡니다. (AsyncConfig 참고)
+ *
+ * 지표: batch.requests (하위 요청 수 분포), batch.duration, batch.items (outcome=ok|error|rejected|timeout)
+ */
+@Log4j2
+@Service
+public class BatchService {
+
+    public static final String BATCH_PATH = "/api/v1/batch";
+
+    private static final String API_PREFIX = "/api/";
+
+    private final ObjectProvider<HandlerMapping> handlerMappings;
+    private final ObjectProvider<HandlerAdapter> handlerAdapters;
+    private final HandlerExceptionResolver exceptionResolver;
+    private final ObjectProvider<SecurityFilterChain> securityFilterChains;
+    private final ObjectMapper objectMapper;
+    private final StrictHttpFirewall firewall = new StrictHttpFirewall();
+    private final ExecutorService executor;
+
+    private final int maxRequests;
+    private final long timeoutMs;
+
+    private final DistributionSummary batchSize;
+    private final Timer batchDuration;
+    private final Counter okItems;
+    private final Counter errorItems;
+    private final Counter rejectedItems;
+    private final Counter timeoutItems;
+
+    // 컨텍스트 초기화가 끝난 뒤 첫 일괄 요청에서 채웁니다. (HandlerMapping이 컨트롤러 Bean을 먼저 스캔해야 하므로)
+    private volatile List<HandlerMapping> mappings;
+    private volatile List<HandlerAdapter> adapters;
+
+    public BatchService(ObjectProvider<HandlerMapping> handlerMappings,
+                        ObjectProvider<HandlerAdapter> handlerAdapters,
+                        @Qualifier("handlerExceptionResolver") HandlerExceptionResolver exceptionResolver,
+                        ObjectProvider<SecurityFilterChain> securityFilterChains,
+                        ObjectMapper objectMapper,
+                        MeterRegistry meterRegistry,
+                        @Value("${app.batch.max-requests:20}") int maxRequests,
+                        @Value("${app.batch.timeout-ms:5000}") long timeoutMs) {
+        this.handlerMappings = handlerMappings;
+        this.handlerAdapters = handlerAdapters;
+        this.exceptionResolver = exceptionResolver;
+        this.securityFilterChains = securityFilterChains;
+        this.objectMapper = objectMapper;
+        this.maxRequests = maxRequests;
+        this.timeoutMs = timeoutMs;
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("batch-", 0).factory());
+
+        this.batchSize = DistributionSummary.builder("batch.requests")
+                .description("일괄 요청 하나에 담긴 하위 요청 수")
+                .register(meterRegistry);
+        this.batchDuration = Timer.builder("batch.duration")
+                .description("일괄 요청 전체 실행 시간")
+                .register(meterRegistry);
+        this.okItems = itemCounter(meterRegistry, "ok");
+        this.errorItems = itemCounter(meterRegistry, "error");
+        this.rejectedItems = itemCounter(meterRegistry, "rejected");
+        this.timeoutItems = itemCounter(meterRegistry, "timeout");
+    }
+
+    /**
+     * 하위 요청을 병렬로 실행합니다.
+     * app.batch.timeout-ms 안에 끝나지 않은 하위 요청은 인터럽트하고 504로 응답합니다.
+     * @param items 하위 요청 목록
+     * @param request 일괄 요청 (인증 정보, 공통 헤더를 하위 요청에 물려줍니다)
+     * @param response 일괄 요청의 응답
+     * @return 요청 순서와 같은 하위 응답 목록
+     * @throws ResponseStatusException 하위 요청 수가 app.batch.max-requests를 넘는 경우 (400)
+     */
+    public BatchResponse execute(List<BatchRequest.Item> items, HttpServletRequest request, HttpServletResponse response) {
+        if (items.size() > maxRequests) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "하위 요청은 최대 " + maxRequests + "개까지 보낼 수 있습니다.");
+        }
+        long start = System.nanoTime();
+        batchSize.record(items.size());
+
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+        BatchResponse.Item[] results = new BatchResponse.Item[items.size()];
+        List<Integer> indexes = new ArrayList<>(items.size());
+        List<String> ids = new ArrayList<>(items.size());
+        List<Callable<BatchResponse.Item>> tasks = new ArrayList<>(items.size());
+
+        for (int i = 0; i < items.size(); i++) {
+            BatchRequest.Item item = items.get(i);
+            String id = (item.getId() != null) ? item.getId() : String.valueOf(i);
+            Prepared prepared = prepare(id, item, request, securityContext.getAuthentication());
+            if (prepared.rejected() != null) {
+                results[i] = prepared.rejected();
+                continue;
+            }
+            BatchSubResponse subResponse = new BatchSubResponse(response);
+            indexes.add(i);
+            ids.add(id);
+            tasks.add(new DelegatingSecurityContextCallable<>(
+                    () -> dispatch(id, prepared.request(), subResponse), securityContext));
+        }
+
+        List<Future<BatchResponse.Item>> futures = invokeAll(tasks);
+        for (int n = 0; n < futures.size(); n++) {
+            results[indexes.get(n)] = collect(ids.get(n), futures.get(n));
+        }
+
+        batchDuration.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return BatchResponse.builder().responses(List.of(results)).build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // --- 하위 요청 준비 (검증, 인가) ---
+
+    private record Prepared(BatchSubRequest request, BatchResponse.Item rejected) {
+    }
+
+    private Prepared prepare(String id, BatchRequest.Item item, HttpServletRequest original, Authentication authentication) {
+        String method = (item.getMethod() != null) ? item.getMethod() : "GET";
+        if (!"GET".equalsIgnoreCase(method)) {
+            return rejected(id, HttpStatus.METHOD_NOT_ALLOWED, "E405_201", "일괄 요청은 GET 하위 요청만 지원합니다.");
+        }
+
+        String target = item.getPath();
+        int queryStart = target.indexOf('?');
+        String path = (queryStart >= 0) ? target.substring(0, queryStart) : target;
+        String query = (queryStart >= 0) ? target.substring(queryStart + 1) : null;
+        if (!path.startsWith(API_PREFIX) || path.startsWith(BATCH_PATH) || target.indexOf('#') >= 0) {
+            return rejected(id, HttpStatus.BAD_REQUEST, "E400_201", "하위 요청 경로가 올바르지 않습니다: " + target);
+        }
+
+        BatchSubRequest request = new BatchSubRequest(original, path, query, item.getHeaders());
+        try {
+            // 보안 필터 체인과 같은 규칙으로 경로 조작(.., 인코딩된 /, ; 등)을 거부합니다.
+            firewall.getFirewalledRequest(request);
+        } catch (RequestRejectedException e) {
+            return rejected(id, HttpStatus.BAD_REQUEST, "E400_201", "하위 요청 경로가 올바르지 않습니다: " + target);
+        }
+        if (!isAllowed(request, authentication)) {
+            return rejected(id, HttpStatus.FORBIDDEN, "E403_201", "하위 요청에 대한 접근 권한이 없습니다.");
+        }
+        return new Prepared(request, null);
+    }
+
+    /**
+     * 보안 필터 체인의 AuthorizationFilter와 같은 AuthorizationManager로 하위 요청을 인가합니다.
+     * (WebInvocationPrivilegeEvaluator는 H2 콘솔처럼 서블릿이 둘 이상 등록되면 요청 매처를 고르지 못해 쓰지 않습니다)
+     */
+    private boolean isAllowed(BatchSubRequest request, Authentication authentication) {
+        ServletRequestPathUtils.parseAndCache(request);
+        for (SecurityFilterChain chain : securityFilterChains.orderedStream().toList()) {
+            if (!chain.matches(request)) {
+                continue;
+            }
+            for (Filter filter : chain.getFilters()) {
+                if (filter instanceof AuthorizationFilter authorizationFilter) {
+                    AuthorizationResult result = authorizationFilter.getAuthorizationManager()
+                            .authorize(() -> authentication, request);
+                    return result == null || result.isGranted();
+                }
+            }
+            return false;
+        }
+        return false;
+    }
+
+    private Prepared rejected(String id, HttpStatus status, String code, String message) {
+        rejectedItems.increment();
+        return new Prepared(null, errorItem(id, status.value(), code, message));
+    }
+
+    // --- 병렬 실행 ---
+
+    private List<Future<BatchResponse.Item>> invokeAll(List<Callable<BatchResponse.Item>> tasks) {
+        if (tasks.isEmpty()) {
+            return List.of();
+        }
+        try {
+            // 제한 시간이 지나면 끝나지 않은 작업을 취소(인터럽트)하고 반환합니다.
+            return executor.invokeAll(tasks, timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "일괄 요청 처리 중 인터럽트되었습니다.");
+        }
+    }
+
+    private BatchResponse.Item collect(String id, Future<BatchResponse.Item> future) {
+        try {
+            BatchResponse.Item item = future.get();
+            (item.getStatus() < 400 ? okItems : errorItems).increment();
+            return item;
+        } catch (CancellationException e) {
+            timeoutItems.increment();
+            return errorItem(id, HttpStatus.GATEWAY_TIMEOUT.value(), "E504_201",
+                    "하위 요청이 제한 시간(" + timeoutMs + "ms) 안에 끝나지 않았습니다.");
+        } catch (ExecutionException e) {
+            // dispatch가 예외를 응답으로 바꾸므로 여기까지 오는 것은 보안 컨텍스트 전달 등 실행기 수준의 실패입니다.
+            log.warn("일괄 하위 요청 실행 실패: id={}", id, e.getCause());
+            errorItems.increment();
+            return errorItem(id, HttpStatus.INTERNAL_SERVER_ERROR.value(), "E500_201", "하위 요청 처리 중 오류가 발생했습니다.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return errorItem(id, HttpStatus.SERVICE_UNAVAILABLE.value(), "E503_201", "일괄 요청 처리 중 인터럽트되었습니다.");
+        }
+    }
+
+    // --- 하위 요청 디스패치 (가상 스레드에서 실행) ---
+
+    private BatchResponse.Item dispatch(String id, BatchSubRequest request, BatchSubResponse response) {
+        ServletRequestAttributes attributes = new ServletRequestAttributes(request, response);
+        RequestContextHolder.setRequestAttributes(attributes);
+        LocaleContextHolder.setLocale(request.getLocale());
+        try {
+            ServletRequestPathUtils.parseAndCache(request);
+            handle(request, response);
+        } catch (Exception e) {
+            log.warn("일괄 하위 요청 처리 실패: id={}, path={}", id, request.getRequestURI(), e);
+            if (!response.isCommitted()) {
+                response.reset();
+                response.sendError(HttpStatus.INTERNAL_SERVER_ERROR.value(), "하위 요청 처리 중 오류가 발생했습니다.");
+            }
+        } finally {
+            attributes.requestCompleted();
+            RequestContextHolder.resetRequestAttributes();
+            LocaleContextHolder.resetLocaleContext();
+        }
+        return toItem(id, response);
+    }
+
+    /**
+     * DispatcherServlet.doDispatch에서 뷰 렌더링을 뺀 흐름
+     * (핸들러 조회 → 인터셉터 preHandle → 핸들러 실행 → postHandle → 예외 변환 → afterCompletion)
+     */
+    private void handle(BatchSubRequest request, BatchSubResponse response) throws Exception {
+        HandlerExecutionChain chain = getHandler(request);
+        if (chain == null) {
+            response.sendError(HttpStatus.NOT_FOUND.value(), "하위 요청 경로를 찾을 수 없습니다.");
+            return;
+        }
+        Object handler = chain.getHandler();
+        List<HandlerInterceptor> interceptors = chain.getInterceptorList();
+        int preHandled = -1;
+        Exception failure = null;
+        try {
+            for (int i = 0; i < interceptors.size(); i++) {
+                if (!interceptors.get(i).preHandle(request, response, handler)) {
+                    return;
+                }
+                preHandled = i;
+            }
+            ModelAndView modelAndView = getHandlerAdapter(handler).handle(request, response, handler);
+            if (modelAndView != null && !modelAndView.wasCleared()) {
+                throw new IllegalStateException("뷰를 렌더링하는 핸들러는 일괄 요청에서 지원하지 않습니다.");
+            }
+            for (int i = interceptors.size() - 1; i >= 0; i--) {
+                interceptors.get(i).postHandle(request, response, handler, modelAndView);
+            }
+        } catch (Exception e) {
+            failure = e;
+            if (exceptionResolver.resolveException(request, response, handler, e) == null) {
+                throw e;
+            }
+        } finally {
+            for (int i = preHandled; i >= 0; i--) {
+                try {
+                    interceptors.get(i).afterCompletion(request, response, handler, failure);
+                } catch (Exception e) {
+                    log.warn("HandlerInterceptor.afterCompletion 실패", e);
+                }
+            }
+        }
+    }
+
+    private HandlerExecutionChain getHandler(BatchSubRequest request) throws Exception {
+        if (mappings == null) {
+            mappings = handlerMappings.orderedStream().toList();
+        }
+        for (HandlerMapping mapping : mappings) {
+            HandlerExecutionChain chain = mapping.getHandler(request);
+            if (chain != null) {
+                return chain;
+            }
+        }
+        return null;
+    }
+
+    private HandlerAdapter getHandlerAdapter(Object handler) {
+        if (adapters == null) {
+            adapters = handlerAdapters.orderedStream().toList();
+        }
+        for (HandlerAdapter adapter : adapters) {
+            if (adapter.supports(handler)) {
+                return adapter;
+            }
+        }
+        throw new IllegalStateException("핸들러를 실행할 HandlerAdapter가 없습니다: " + handler);
+    }
+
+    // --- 응답 변환 ---
+
+    private BatchResponse.Item toItem(String id, BatchSubResponse response) {
+        byte[] body = response.getBody();
+        if (body.length == 0 && response.getErrorMessage() != null) {
+            // sendError는 오류 페이지로 넘어가지 않으므로 일반 API 오류와 같은 형태로 채웁니다.
+            return errorItem(id, response.getStatusCode(), "E" + response.getStatusCode() + "_200", response.getErrorMessage());
+        }
+        String contentType = response.getContentType();
+        return BatchResponse.Item.builder()
+                .id(id)
+                .status(response.getStatusCode())
+                .contentType(contentType)
+                .body(rawBody(body, contentType, response))
+                .build();
+    }
+
+    private String rawBody(byte[] body, String contentType, BatchSubResponse response) {
+        if (body.length == 0 || contentType == null) {
+            return null;
+        }
+        MediaType mediaType = MediaType.parseMediaType(contentType);
+        String text = new String(body, response.getCharset());
+        if (MediaType.APPLICATION_JSON.isCompatibleWith(mediaType) || mediaType.getSubtype().endsWith("+json")) {
+            return text;
+        }
+        if ("text".equals(mediaType.getType())) {
+            return writeJson(text);
+        }
+        // 바이너리(첨부파일 등)는 담지 않습니다. 상태 코드와 Content-Type만 전달합니다.
+        return null;
+    }
+
+    private BatchResponse.Item errorItem(String id, int status, String code, String message) {
+        return BatchResponse.Item.builder()
+                .id(id)
+                .status(status)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(writeJson(ApiResponse.failure(code, message)))
+                .build();
+    }
+
+    private String writeJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("일괄 응답 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    private static Counter itemCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("batch.items")
+                .description("일괄 요청의 하위 요청 처리 결과")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,373 @@
+package com.standardboard.backend.service.batch;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletMapping;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 일괄 요청 안의 하위 GET 요청
+ *
+ * 헤더, 쿠키, 로케일, 연결 정보는 생성 시점(일괄 요청 스레드)에 복사해 두고 메서드, 경로, 쿼리, 추가 헤더만 바꿉니다.
+ * 컨테이너의 요청 객체는 스레드 안전하지 않고, 제한 시간이 지나 취소된 하위 요청이 일괄 요청보다 늦게 끝날 수 있으므로
+ * 가상 스레드에서는 원래 요청을 읽거나 쓰지 않습니다. 요청 속성도 하위 요청마다 따로 둡니다.
+ */
+class BatchSubRequest extends HttpServletRequestWrapper {
+
+    // 본문이 없는 GET이므로 본문 관련 헤더는 원래 요청의 것을 가립니다.
+    private static final Set<String> HIDDEN_HEADERS = Set.of("content-length", "content-type", "transfer-encoding");
+
+    private final String requestUri;
+    private final String servletPath;
+    private final String queryString;
+    private final Map<String, List<String>> headers = new LinkedCaseInsensitiveMap<>();
+    private final String contextPath;
+    private final String scheme;
+    private final String serverName;
+    private final int serverPort;
+    private final boolean secure;
+    private final String remoteAddr;
+    private final String protocol;
+    private final List<Locale> locales;
+    private final Cookie[] cookies;
+    private final HttpServletMapping mapping;
+    private final Map<String, String[]> parameters;
+    private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+
+    BatchSubRequest(HttpServletRequest original, String path, String queryString, Map<String, String> headers) {
+        super(original);
+        this.contextPath = original.getContextPath();
+        this.servletPath = UriUtils.decode(path, StandardCharsets.UTF_8);
+        this.requestUri = contextPath + path;
+        this.queryString = queryString;
+        this.parameters = parseParameters(queryString);
+
+        for (Enumeration<String> names = original.getHeaderNames(); names.hasMoreElements(); ) {
+            String name = names.nextElement();
+            if (!HIDDEN_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                this.headers.put(name, Collections.list(original.getHeaders(name)));
+            }
+        }
+        if (headers != null) {
+            headers.forEach((name, value) -> this.headers.put(name, List.of(value)));
+        }
+        this.scheme = original.getScheme();
+        this.serverName = original.getServerName();
+        this.serverPort = original.getServerPort();
+        this.secure = original.isSecure();
+        this.remoteAddr = original.getRemoteAddr();
+        this.protocol = original.getProtocol();
+        this.locales = Collections.list(original.getLocales());
+        this.cookies = original.getCookies();
+        this.mapping = original.getHttpServletMapping();
+    }
+
+    @Override
+    public String getMethod() {
+        return "GET";
+    }
+
+    @Override
+    public String getRequestURI() {
+        return requestUri;
+    }
+
+    @Override
+    public StringBuffer getRequestURL() {
+        StringBuffer url = new StringBuffer();
+        url.append(getScheme()).append("://").append(getServerName());
+        int port = getServerPort();
+        if (port > 0 && !(("http".equals(getScheme()) && port == 80) || ("https".equals(getScheme()) && port == 443))) {
+            url.append(':').append(port);
+        }
+        return url.append(requestUri);
+    }
+
+    @Override
+    public String getServletPath() {
+        return servletPath;
+    }
+
+    @Override
+    public HttpServletMapping getHttpServletMapping() {
+        // 하위 요청도 일괄 요청과 같은 DispatcherServlet("/") 매핑으로 처리합니다.
+        return mapping;
+    }
+
+    @Override
+    public String getPathInfo() {
+        return null;
+    }
+
+    @Override
+    public String getQueryString() {
+        return queryString;
+    }
+
+    // --- 쿼리 파라미터 ---
+
+    @Override
+    public String getParameter(String name) {
+        String[] values = parameters.get(name);
+        return (values != null && values.length > 0) ? values[0] : null;
+    }
+
+    @Override
+    public Map<String, String[]> getParameterMap() {
+        return Collections.unmodifiableMap(parameters);
+    }
+
+    @Override
+    public Enumeration<String> getParameterNames() {
+        return Collections.enumeration(parameters.keySet());
+    }
+
+    @Override
+    public String[] getParameterValues(String name) {
+        return parameters.get(name);
+    }
+
+    // --- 헤더: 원래 요청의 복사본 위에 하위 요청에 지정한 값을 덮어씀 ---
+
+    @Override
+    public String getHeader(String name) {
+        List<String> values = headers.get(name);
+        return (values != null && !values.isEmpty()) ? values.get(0) : null;
+    }
+
+    @Override
+    public Enumeration<String> getHeaders(String name) {
+        List<String> values = headers.get(name);
+        return (values != null) ? Collections.enumeration(values) : Collections.emptyEnumeration();
+    }
+
+    @Override
+    public Enumeration<String> getHeaderNames() {
+        return Collections.enumeration(headers.keySet());
+    }
+
+    @Override
+    public int getIntHeader(String name) {
+        String value = getHeader(name);
+        return (value != null) ? Integer.parseInt(value) : -1;
+    }
+
+    @Override
+    public long getDateHeader(String name) {
+        String value = getHeader(name);
+        if (value == null) {
+            return -1;
+        }
+        HttpHeaders parsed = new HttpHeaders();
+        parsed.set(name, value);
+        return parsed.getFirstDate(name);
+    }
+
+    // --- 연결 정보: 생성 시점의 값 ---
+
+    @Override
+    public String getContextPath() {
+        return contextPath;
+    }
+
+    @Override
+    public String getScheme() {
+        return scheme;
+    }
+
+    @Override
+    public String getServerName() {
+        return serverName;
+    }
+
+    @Override
+    public int getServerPort() {
+        return serverPort;
+    }
+
+    @Override
+    public boolean isSecure() {
+        return secure;
+    }
+
+    @Override
+    public String getRemoteAddr() {
+        return remoteAddr;
+    }
+
+    @Override
+    public String getRemoteHost() {
+        return remoteAddr;
+    }
+
+    @Override
+    public String getProtocol() {
+        return protocol;
+    }
+
+    @Override
+    public Locale getLocale() {
+        return locales.isEmpty() ? Locale.getDefault() : locales.get(0);
+    }
+
+    @Override
+    public Enumeration<Locale> getLocales() {
+        return Collections.enumeration(locales.isEmpty() ? List.of(Locale.getDefault()) : locales);
+    }
+
+    @Override
+    public Cookie[] getCookies() {
+        return (cookies != null) ? cookies.clone() : null;
+    }
+
+    @Override
+    public String getCharacterEncoding() {
+        return null;
+    }
+
+    // --- 본문: 없음 ---
+
+    @Override
+    public String getContentType() {
+        return null;
+    }
+
+    @Override
+    public int getContentLength() {
+        return 0;
+    }
+
+    @Override
+    public long getContentLengthLong() {
+        return 0;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+        return new ServletInputStream() {
+            @Override
+            public boolean isFinished() {
+                return true;
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setReadListener(ReadListener readListener) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public int read() {
+                return -1;
+            }
+        };
+    }
+
+    @Override
+    public BufferedReader getReader() {
+        return new BufferedReader(new StringReader(""));
+    }
+
+    // --- 요청 속성: 하위 요청마다 분리 ---
+
+    @Override
+    public Object getAttribute(String name) {
+        return attributes.get(name);
+    }
+
+    @Override
+    public Enumeration<String> getAttributeNames() {
+        return Collections.enumeration(attributes.keySet());
+    }
+
+    @Override
+    public void setAttribute(String name, Object value) {
+        if (value == null) {
+            attributes.remove(name);
+        } else {
+            attributes.put(name, value);
+        }
+    }
+
+    @Override
+    public void removeAttribute(String name) {
+        attributes.remove(name);
+    }
+
+    // --- 비동기 처리: 하위 요청은 동기 응답만 지원 ---
+
+    @Override
+    public DispatcherType getDispatcherType() {
+        return DispatcherType.REQUEST;
+    }
+
+    @Override
+    public boolean isAsyncSupported() {
+        return false;
+    }
+
+    @Override
+    public boolean isAsyncStarted() {
+        return false;
+    }
+
+    @Override
+    public AsyncContext startAsync() {
+        throw new IllegalStateException("일괄 요청의 하위 요청은 비동기 응답을 지원하지 않습니다.");
+    }
+
+    @Override
+    public AsyncContext startAsync(ServletRequest servletRequest, ServletResponse servletResponse) {
+        throw new IllegalStateException("일괄 요청의 하위 요청은 비동기 응답을 지원하지 않습니다.");
+    }
+
+    private static Map<String, String[]> parseParameters(String queryString) {
+        if (queryString == null || queryString.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        MultiValueMap<String, String> raw = UriComponentsBuilder.newInstance().query(queryString).build().getQueryParams();
+        MultiValueMap<String, String> decoded = new LinkedMultiValueMap<>();
+        raw.forEach((name, values) -> {
+            String key = decode(name);
+            for (String value : values) {
+                decoded.add(key, (value != null) ? decode(value) : "");
+            }
+        });
+        Map<String, String[]> parameters = new LinkedHashMap<>();
+        decoded.forEach((name, values) -> parameters.put(name, values.toArray(String[]::new)));
+        return parameters;
+    }
+
+    // 컨테이너와 같게 '+'는 공백으로 해석합니다.
+    private static String decode(String value) {
+        return UriUtils.decode(value.replace('+', ' '), StandardCharsets.UTF_8);
+    }
+}
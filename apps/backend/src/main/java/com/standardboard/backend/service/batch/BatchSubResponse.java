@@ -0,0 +1,317 @@
+package com.standardboard.backend.service.batch;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.http.MediaType;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 하위 요청의 응답을 메모리에 받아두는 응답 객체
+ *
+ * 상태 코드, 헤더, 본문을 모두 자체 필드에 기록하고 원래 응답에는 아무것도 쓰지 않습니다.
+ * (ContentCachingResponseWrapper는 헤더와 상태를 원래 응답에 그대로 전달하므로 쓰지 않습니다)
+ * sendError는 컨테이너 오류 페이지로 넘어가지 않으므로 상태와 메시지만 기록합니다.
+ */
+class BatchSubResponse extends HttpServletResponseWrapper {
+
+    private final Map<String, List<String>> headers = new LinkedCaseInsensitiveMap<>();
+    private final ByteArrayOutputStream body = new ByteArrayOutputStream(256);
+
+    private int status = SC_OK;
+    private String errorMessage;
+    private String contentType;
+    private Charset charset;
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+    private boolean committed;
+
+    BatchSubResponse(HttpServletResponse original) {
+        super(original);
+    }
+
+    int getStatusCode() {
+        return status;
+    }
+
+    String getErrorMessage() {
+        return errorMessage;
+    }
+
+    byte[] getBody() {
+        if (writer != null) {
+            writer.flush();
+        }
+        return body.toByteArray();
+    }
+
+    Charset getCharset() {
+        return (charset != null) ? charset : StandardCharsets.UTF_8;
+    }
+
+    // --- 상태 ---
+
+    @Override
+    public void setStatus(int sc) {
+        if (!committed) {
+            this.status = sc;
+        }
+    }
+
+    @Override
+    public int getStatus() {
+        return status;
+    }
+
+    @Override
+    public void sendError(int sc) {
+        sendError(sc, "");
+    }
+
+    @Override
+    public void sendError(int sc, String msg) {
+        if (committed) {
+            throw new IllegalStateException("이미 커밋된 응답입니다.");
+        }
+        this.status = sc;
+        this.errorMessage = (msg != null) ? msg : "";
+        resetBuffer();
+        this.committed = true;
+    }
+
+    @Override
+    public void sendRedirect(String location) {
+        setHeader("Location", location);
+        this.status = SC_FOUND;
+        this.committed = true;
+    }
+
+    // --- 헤더 ---
+
+    @Override
+    public void setHeader(String name, String value) {
+        if ("Content-Type".equalsIgnoreCase(name)) {
+            setContentType(value);
+            return;
+        }
+        if (!committed) {
+            List<String> values = new ArrayList<>(1);
+            values.add(value);
+            headers.put(name, values);
+        }
+    }
+
+    @Override
+    public void addHeader(String name, String value) {
+        if ("Content-Type".equalsIgnoreCase(name)) {
+            setContentType(value);
+            return;
+        }
+        if (!committed) {
+            headers.computeIfAbsent(name, key -> new ArrayList<>(1)).add(value);
+        }
+    }
+
+    @Override
+    public void setIntHeader(String name, int value) {
+        setHeader(name, Integer.toString(value));
+    }
+
+    @Override
+    public void addIntHeader(String name, int value) {
+        addHeader(name, Integer.toString(value));
+    }
+
+    @Override
+    public void setDateHeader(String name, long date) {
+        setHeader(name, DateTimeFormatter.RFC_1123_DATE_TIME.format(Instant.ofEpochMilli(date).atZone(ZoneOffset.UTC)));
+    }
+
+    @Override
+    public void addDateHeader(String name, long date) {
+        addHeader(name, DateTimeFormatter.RFC_1123_DATE_TIME.format(Instant.ofEpochMilli(date).atZone(ZoneOffset.UTC)));
+    }
+
+    @Override
+    public boolean containsHeader(String name) {
+        return headers.containsKey(name) || ("Content-Type".equalsIgnoreCase(name) && contentType != null);
+    }
+
+    @Override
+    public String getHeader(String name) {
+        if ("Content-Type".equalsIgnoreCase(name)) {
+            return getContentType();
+        }
+        List<String> values = headers.get(name);
+        return (values != null && !values.isEmpty()) ? values.get(0) : null;
+    }
+
+    @Override
+    public Collection<String> getHeaders(String name) {
+        List<String> values = headers.get(name);
+        return (values != null) ? List.copyOf(values) : List.of();
+    }
+
+    @Override
+    public Collection<String> getHeaderNames() {
+        return List.copyOf(headers.keySet());
+    }
+
+    @Override
+    public void addCookie(Cookie cookie) {
+        // 하위 요청은 조회만 하므로 쿠키를 클라이언트에 전달하지 않습니다.
+    }
+
+    // --- Content-Type / 인코딩 ---
+
+    @Override
+    public void setContentType(String type) {
+        if (committed || type == null) {
+            return;
+        }
+        MediaType mediaType = MediaType.parseMediaType(type);
+        if (mediaType.getCharset() != null) {
+            this.charset = mediaType.getCharset();
+        }
+        this.contentType = new MediaType(mediaType.getType(), mediaType.getSubtype(),
+                mediaType.getParameters().entrySet().stream()
+                        .filter(e -> !"charset".equalsIgnoreCase(e.getKey()))
+                        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)))
+                .toString();
+    }
+
+    @Override
+    public String getContentType() {
+        if (contentType == null) {
+            return null;
+        }
+        return (charset != null) ? contentType + ";charset=" + charset.name() : contentType;
+    }
+
+    @Override
+    public void setCharacterEncoding(String encoding) {
+        if (!committed && encoding != null && writer == null) {
+            this.charset = Charset.forName(encoding);
+        }
+    }
+
+    @Override
+    public String getCharacterEncoding() {
+        return getCharset().name();
+    }
+
+    @Override
+    public void setLocale(Locale locale) {
+    }
+
+    @Override
+    public void setContentLength(int len) {
+    }
+
+    @Override
+    public void setContentLengthLong(long len) {
+    }
+
+    // --- 본문 ---
+
+    @Override
+    public ServletOutputStream getOutputStream() {
+        if (writer != null) {
+            throw new IllegalStateException("getWriter()가 이미 호출되었습니다.");
+        }
+        if (outputStream == null) {
+            outputStream = new ServletOutputStream() {
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setWriteListener(WriteListener writeListener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public void write(int b) {
+                    body.write(b);
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) {
+                    body.write(b, off, len);
+                }
+            };
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() {
+        if (outputStream != null) {
+            throw new IllegalStateException("getOutputStream()이 이미 호출되었습니다.");
+        }
+        if (writer == null) {
+            writer = new PrintWriter(new OutputStreamWriter(body, getCharset()));
+        }
+        return writer;
+    }
+
+    @Override
+    public void setBufferSize(int size) {
+    }
+
+    @Override
+    public int getBufferSize() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public void flushBuffer() {
+        if (writer != null) {
+            writer.flush();
+        }
+        committed = true;
+    }
+
+    @Override
+    public boolean isCommitted() {
+        return committed;
+    }
+
+    @Override
+    public void resetBuffer() {
+        if (writer != null) {
+            writer.flush();
+        }
+        body.reset();
+    }
+
+    @Override
+    public void reset() {
+        if (committed) {
+            throw new IllegalStateException("이미 커밋된 응답입니다.");
+        }
+        resetBuffer();
+        headers.clear();
+        status = SC_OK;
+        contentType = null;
+        charset = null;
+    }
+}
@@ -0,0 +1,38 @@
+package com.standardboard.backend.service.export;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * 내보내기 출력 형식
+ */
+public enum ExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"), // 한 줄에 JSON 객체 하나
+    CSV("text/csv", "csv"); // RFC 4180 CSV (UTF-8)
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    // 요청 파라미터(ndjson/csv)를 enum으로 변환
+    public static Optional<ExportFormat> fromName(String name) {
+        for (ExportFormat format : values()) {
+            if (format.name().equals(name.toUpperCase(Locale.ROOT))) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,139 @@
+package com.standardboard.backend.service.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.standardboard.backend.dto.export.ExportRow;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 내보내기 행을 출력 스트림에 한 건씩 기록하는 Writer
+ *
+ * 행을 모아두지 않고 바로 직렬화하므로 메모리 사용량은 행 수와 무관합니다.
+ * gzip 옵션이면 응답 스트림 바로 앞에 GZIPOutputStream을 끼웁니다.
+ */
+abstract class ExportWriter implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    static ExportWriter open(ExportFormat format, OutputStream out, boolean gzip,
+                             ObjectMapper objectMapper, List<String> csvHeader) throws IOException {
+        OutputStream target = gzip ? new GZIPOutputStream(out, BUFFER_SIZE) : out;
+        return switch (format) {
+            case NDJSON -> new NdjsonWriter(target, objectMapper);
+            case CSV -> new CsvWriter(target, csvHeader);
+        };
+    }
+
+    abstract void write(ExportRow row) throws IOException;
+
+    // 청크 단위로 클라이언트에 밀어내기
+    abstract void flush() throws IOException;
+
+    /**
+     * NDJSON: 행마다 JSON 객체 하나 + 줄바꿈
+     *
+     * 구분자(withRootValueSeparator)는 값 사이에만 들어가 마지막 행에 줄바꿈이 없으므로, 행을 쓸 때마다 직접 붙입니다.
+     * 행마다 flush하지 않아 flush()로 내보내는 청크가 항상 줄 경계에서 끝납니다.
+     */
+    private static final class NdjsonWriter extends ExportWriter {
+        private final JsonGenerator generator;
+        private final SequenceWriter sequence;
+
+        NdjsonWriter(OutputStream out, ObjectMapper objectMapper) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(out);
+            this.sequence = objectMapper.writer()
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                    .withRootValueSeparator("")
+                    .writeValues(generator);
+        }
+
+        @Override
+        void write(ExportRow row) throws IOException {
+            sequence.write(row);
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        void flush() throws IOException {
+            sequence.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            // 직접 만든 JsonGenerator는 SequenceWriter가 닫지 않으므로 따로 닫아야
+            // (GZIP)OutputStream까지 닫히며 gzip trailer가 기록됩니다.
+            try {
+                sequence.close();
+            } finally {
+                generator.close();
+            }
+        }
+    }
+
+    /**
+     * CSV: RFC 4180 규칙으로 필드를 인용(quote)합니다.
+     */
+    private static final class CsvWriter extends ExportWriter {
+        private final Writer writer;
+
+        CsvWriter(OutputStream out, List<String> header) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+            writeLine(List.copyOf(header));
+        }
+
+        @Override
+        void write(ExportRow row) throws IOException {
+            writeLine(row.csvValues());
+        }
+
+        @Override
+        void flush() throws IOException {
+            writer.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+
+        private void writeLine(List<?> values) throws IOException {
+            for (int i = 0; i < values.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                Object value = values.get(i);
+                if (value != null) {
+                    writeField(value.toString());
+                }
+            }
+            writer.write("\r\n");
+        }
+
+        private void writeField(String value) throws IOException {
+            // 스프레드시트에서 수식으로 해석되지 않도록 작은따옴표를 앞에 붙입니다. (CSV Injection 방어)
+            if (!value.isEmpty() && "=+-@\t".indexOf(value.charAt(0)) >= 0) {
+                value = "'" + value;
+            }
+            boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+            if (!quote) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+    }
+}
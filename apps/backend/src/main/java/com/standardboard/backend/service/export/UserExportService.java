@@ -0,0 +1,63 @@
+package com.standardboard.backend.service.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.standardboard.backend.domain.user.User;
+import com.standardboard.backend.dto.export.UserExportRow;
+import com.standardboard.backend.repository.user.UserRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 사용자 전체 내보내기(Export) 서비스
+ *
+ * findAll()로 전체를 List에 올리지 않고, 읽기 전용 Stream 커서를 fetch size 단위로 전진시키며
+ * 한 행씩 직렬화해 바로 응답 스트림에 기록합니다.
+ * 청크(EXPORT_FETCH_SIZE 행)마다 영속성 컨텍스트를 비우고 출력을 flush 하므로
+ * 힙 사용량은 전체 행 수와 관계없이 청크 크기만큼으로 유지됩니다.
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class UserExportService {
+
+    private final UserRepository userRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 전체 사용자를 지정 형식으로 출력 스트림에 기록합니다.
+     * Stream 커서를 소비하는 동안 트랜잭션(커넥션)이 유지되어야 하므로 이 메서드 전체가 트랜잭션입니다.
+     * @param out 응답 출력 스트림
+     * @param format NDJSON 또는 CSV
+     * @param gzip gzip 압축 여부
+     * @return 기록한 행 수
+     */
+    @Transactional(readOnly = true)
+    public long exportUsers(OutputStream out, ExportFormat format, boolean gzip) throws IOException {
+        long count = 0;
+        try (Stream<User> users = userRepository.streamAllForExport();
+             ExportWriter writer = ExportWriter.open(format, out, gzip, objectMapper, UserExportRow.CSV_HEADER)) {
+
+            Iterator<User> iterator = users.iterator();
+            while (iterator.hasNext()) {
+                writer.write(UserExportRow.from(iterator.next()));
+
+                if (++count % UserRepository.EXPORT_FETCH_SIZE == 0) {
+                    // 이미 기록한 엔티티를 영속성 컨텍스트에서 떼어내 GC 대상이 되도록 함
+                    entityManager.clear();
+                    writer.flush();
+                }
+            }
+        }
+        log.info("사용자 내보내기 완료: {}건 ({}, gzip={})", count, format, gzip);
+        return count;
+    }
+}
@@ -0,0 +1,12 @@
+package com.standardboard.backend.service.trending;
+
+/**
+ * 인기글(Trending) 점수에 반영되는 사용자 반응 종류
+ *
+ * 반응별 가중치는 application.properties의 app.trending.weight.* 로 설정합니다.
+ */
+public enum EngagementType {
+    VIEW, // 조회
+    LIKE, // 좋아요
+    COMMENT // 댓글
+}
@@ -0,0 +1,397 @@
+package com.standardboard.backend.service.trending;
+
+import com.standardboard.backend.conditional.ResourceKey;
+import com.standardboard.backend.conditional.ResourceVersions;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+
+/**
+ * 시간 감쇠(Time-decayed) 인기글 순위 엔진
+ *
+ * 게시글 점수는 "반응 가중치 x e^(-경과시간/tau)" 의 합으로 정의합니다.
+ * 모든 게시글 점수를 매번 감쇠시키는 대신, 고정 기준 시각(EPOCH)으로부터의 시간 오프셋을 더한
+ * 로그 공간 값 ln(Σ w·e^((t - EPOCH)/tau)) 을 저장합니다.
+ * 현재 시각의 실제 점수는 이 값에서 동일한 오프셋을 빼기만 하면 되므로 순서는 변하지 않고,
+ * 기존 항목을 일괄 갱신할 필요가 없습니다.
+ *
+ * - 반응 반영: 게시글 점수 갱신 + 게시판별 Top-K 정렬 구조 재배치, O(log K)
+ * - 조회: 메모리의 ConcurrentSkipListSet을 역순으로 순회 (락 없음)
+ * - 게시판 Top-K의 구성이나 순서가 바뀌면 게시판 버전(ResourceVersions)을 올려 인기글 ETag를 무효화합니다.
+ *   순서가 그대로인 점수 변화(상위 글의 조회 등)는 버전을 올리지 않습니다.
+ * - 삭제/게시판 이동으로 Top-K에서 빠진 자리는 점수 테이블에 남은 그 게시판의 다음 순위 글로 채웁니다.
+ * - 점수 테이블 정리: Top-K에 들지 못한 게시글은 게시판마다 다음 순위 K개(빈자리 보충용)만 남기고 주기적으로 지웁니다.
+ * - 기동 시: 등록된 TrendingSeedSource(DB)에서 누적 반응으로 재구성
+ */
+@Log4j2
+@Component
+public class TrendingRankingEngine {
+
+    // 로그 공간 시간 오프셋의 기준 시각 (재기동 후에도 점수 스케일이 유지되도록 고정)
+    static final Instant EPOCH = Instant.parse("2025-01-01T00:00:00Z");
+
+    // 점수 오름차순, 동점이면 게시글 ID 오름차순 (Top-K에서 가장 낮은 항목이 first)
+    private static final Comparator<PostScore> ORDER = Comparator
+            .comparingDouble(PostScore::logScore)
+            .thenComparingLong(PostScore::postId);
+
+    private final double tauSeconds;
+    private final int topK;
+    private final Map<EngagementType, Double> logWeights = new EnumMap<>(EngagementType.class);
+    private final List<TrendingSeedSource> seedSources;
+    private final Clock clock;
+    // 게시판 순위가 바뀌었을 때 호출 (게시판 ID)
+    private final LongConsumer rankingChanged;
+
+    // 게시글 ID -> 현재 로그 점수 (Top-K 밖으로 밀려난 게시글도 prune() 전까지는 점수를 유지)
+    private final ConcurrentHashMap<Long, PostScore> scores = new ConcurrentHashMap<>();
+    // 게시판 ID -> Top-K 정렬 구조
+    private final ConcurrentHashMap<Long, BoardRanking> boards = new ConcurrentHashMap<>();
+
+    @Autowired
+    public TrendingRankingEngine(@Value("${app.trending.half-life-hours:12}") double halfLifeHours,
+                                 @Value("${app.trending.top-k:100}") int topK,
+                                 @Value("${app.trending.weight.view:1}") double viewWeight,
+                                 @Value("${app.trending.weight.like:4}") double likeWeight,
+                                 @Value("${app.trending.weight.comment:8}") double commentWeight,
+                                 List<TrendingSeedSource> seedSources,
+                                 ResourceVersions resourceVersions) {
+        this(halfLifeHours, topK, viewWeight, likeWeight, commentWeight, seedSources, Clock.systemUTC(),
+                boardId -> resourceVersions.bump(ResourceKey.board(boardId)));
+    }
+
+    TrendingRankingEngine(double halfLifeHours, int topK,
+                          double viewWeight, double likeWeight, double commentWeight,
+                          List<TrendingSeedSource> seedSources, Clock clock) {
+        this(halfLifeHours, topK, viewWeight, likeWeight, commentWeight, seedSources, clock, boardId -> {
+        });
+    }
+
+    TrendingRankingEngine(double halfLifeHours, int topK,
+                          double viewWeight, double likeWeight, double commentWeight,
+                          List<TrendingSeedSource> seedSources, Clock clock, LongConsumer rankingChanged) {
+        if (halfLifeHours <= 0 || topK <= 0 || viewWeight <= 0 || likeWeight <= 0 || commentWeight <= 0) {
+            throw new IllegalArgumentException("app.trending.* 설정값은 모두 양수여야 합니다.");
+        }
+        // 반감기 h 에 대해 e^(-h/tau) = 1/2 이 되도록 tau = h / ln2
+        this.tauSeconds = halfLifeHours * 3600 / Math.log(2);
+        this.topK = topK;
+        this.logWeights.put(EngagementType.VIEW, Math.log(viewWeight));
+        this.logWeights.put(EngagementType.LIKE, Math.log(likeWeight));
+        this.logWeights.put(EngagementType.COMMENT, Math.log(commentWeight));
+        this.seedSources = seedSources;
+        this.clock = clock;
+        this.rankingChanged = rankingChanged;
+    }
+
+    /**
+     * 현재 시각에 발생한 반응을 반영합니다.
+     */
+    public void record(long boardId, long postId, EngagementType type) {
+        record(boardId, postId, type, clock.instant());
+    }
+
+    /**
+     * 지정한 시각에 발생한 반응을 반영합니다.
+     * 같은 게시글에 대한 동시 갱신은 ConcurrentHashMap.compute 로 직렬화됩니다.
+     */
+    public void record(long boardId, long postId, EngagementType type, Instant occurredAt) {
+        apply(boardId, postId, logWeights.get(type) + timeOffset(occurredAt));
+    }
+
+    /**
+     * 게시판의 인기글을 점수 내림차순으로 반환합니다.
+     * @param boardId 게시판 ID
+     * @param limit 최대 개수 (top-k 설정값을 넘을 수 없음)
+     */
+    public List<TrendingPost> top(long boardId, int limit) {
+        BoardRanking ranking = boards.get(boardId);
+        if (ranking == null || limit <= 0) {
+            return List.of();
+        }
+
+        double nowOffset = timeOffset(clock.instant());
+        List<TrendingPost> result = new ArrayList<>(Math.min(limit, topK));
+        Iterator<PostScore> it = ranking.descendingIterator();
+        while (it.hasNext() && result.size() < limit) {
+            PostScore entry = it.next();
+            result.add(new TrendingPost(entry.postId(), Math.exp(entry.logScore() - nowOffset)));
+        }
+        return result;
+    }
+
+    /**
+     * 삭제된 게시글을 순위와 점수 테이블에서 제거하고, Top-K의 빈자리를 다음 순위 글로 채웁니다.
+     */
+    public void remove(long postId) {
+        PostScore removed = scores.remove(postId);
+        if (removed != null) {
+            depart(removed.boardId(), postId);
+        }
+    }
+
+    /**
+     * Top-K에 들지 못한 게시글의 점수를 정리합니다.
+     *
+     * Top-K가 가득 찬 게시판에서 밖에 있는 게시글은 K위보다 점수가 낮고, 시간이 지날수록 새 반응을 받는 글에 더 밀립니다.
+     * 게시판마다 그중 점수가 높은 K개만 빈자리 보충용으로 남기고 나머지는 지웁니다.
+     * 지운 게시글이 다시 반응을 받으면 그 반응부터 새로 점수를 쌓습니다. (이전 점수는 K위 아래로 감쇠된 몫이라 영향이 작음)
+     */
+    @Scheduled(fixedDelayString = "${app.trending.prune-interval-ms:60000}")
+    public void prune() {
+        Map<Long, PriorityQueue<PostScore>> reserves = new HashMap<>();
+        int pruned = 0;
+        for (PostScore entry : scores.values()) {
+            BoardRanking ranking = boards.get(entry.boardId());
+            if (ranking == null || ranking.vacancies() > 0 || ranking.contains(entry.postId())) {
+                continue;
+            }
+            PriorityQueue<PostScore> reserve = reserves.computeIfAbsent(entry.boardId(), key -> new PriorityQueue<>(ORDER));
+            reserve.add(entry);
+            if (reserve.size() > topK && ranking.discardOutside(reserve.poll(), scores)) {
+                pruned++;
+            }
+        }
+        if (pruned > 0) {
+            log.debug("인기글 점수 정리: {}건 제거, 남은 게시글 {}건", pruned, scores.size());
+        }
+    }
+
+    // 점수를 유지 중인 게시글 수 (테스트용)
+    int trackedPostCount() {
+        return scores.size();
+    }
+
+    /**
+     * 서버 기동 완료 시 DB 누적 반응으로 메모리 순위를 재구성합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<Long> previousBoards = List.copyOf(boards.keySet());
+        scores.clear();
+        boards.clear();
+
+        long count = 0;
+        for (TrendingSeedSource source : seedSources) {
+            long[] loaded = {0};
+            source.forEachSeed(seed -> {
+                double weighted = seed.views() * Math.exp(logWeights.get(EngagementType.VIEW))
+                        + seed.likes() * Math.exp(logWeights.get(EngagementType.LIKE))
+                        + seed.comments() * Math.exp(logWeights.get(EngagementType.COMMENT));
+                if (weighted > 0) {
+                    apply(seed.boardId(), seed.postId(), Math.log(weighted) + timeOffset(seed.lastActivityAt()));
+                    loaded[0]++;
+                }
+            });
+            count += loaded[0];
+        }
+        // 재구성 후 비어 버린 게시판도 이전 ETag가 맞지 않도록 알립니다.
+        previousBoards.forEach(rankingChanged::accept);
+        log.info("인기글 순위 재구성 완료: 게시글 {}건, 게시판 {}개", count, boards.size());
+    }
+
+    private void apply(long boardId, long postId, double contribution) {
+        // compute 안에서는 점수 계산만 합니다. (bin 모니터를 잡은 채 락을 기다리면 가상 스레드가 pinning 됨)
+        long[] previousBoardId = {boardId};
+        scores.compute(postId, (id, current) -> {
+            if (current == null) {
+                return new PostScore(boardId, id, contribution);
+            }
+            previousBoardId[0] = current.boardId();
+            return new PostScore(boardId, id, logAddExp(current.logScore(), contribution));
+        });
+
+        if (previousBoardId[0] != boardId) {
+            // 게시판 이동: 이전 게시판 순위에서 제거
+            depart(previousBoardId[0], postId);
+        }
+        refresh(boardId, postId);
+    }
+
+    private void refresh(long boardId, long postId) {
+        BoardRanking ranking = boards.computeIfAbsent(boardId, key -> new BoardRanking(key, topK));
+        if (ranking.refresh(postId, scores::get)) {
+            rankingChanged.accept(boardId);
+        }
+    }
+
+    // 게시판을 떠난 게시글의 자리를 채운 뒤 한 번만 알립니다. (빈자리가 보이는 중간 상태로 ETag가 만들어지지 않도록)
+    private void depart(long boardId, long postId) {
+        BoardRanking ranking = boards.computeIfAbsent(boardId, key -> new BoardRanking(key, topK));
+        boolean changed = ranking.refresh(postId, scores::get);
+        changed |= refill(boardId, ranking);
+        if (changed) {
+            rankingChanged.accept(boardId);
+        }
+    }
+
+    /**
+     * Top-K의 빈자리를 점수 테이블에 남은 그 게시판의 다음 순위 글로 채웁니다.
+     * 삭제와 게시판 이동에서만 호출되므로 점수 테이블 전체를 훑습니다. (prune()으로 게시판당 2K개 이내)
+     */
+    private boolean refill(long boardId, BoardRanking ranking) {
+        int vacancies = ranking.vacancies();
+        if (vacancies == 0) {
+            return false;
+        }
+        PriorityQueue<PostScore> best = new PriorityQueue<>(ORDER);
+        for (PostScore entry : scores.values()) {
+            if (entry.boardId() == boardId && !ranking.contains(entry.postId())) {
+                best.add(entry);
+                if (best.size() > vacancies) {
+                    best.poll();
+                }
+            }
+        }
+        boolean changed = false;
+        for (PostScore entry : best) {
+            changed |= ranking.refresh(entry.postId(), scores::get);
+        }
+        return changed;
+    }
+
+    private double timeOffset(Instant at) {
+        return (at.getEpochSecond() - EPOCH.getEpochSecond()) / tauSeconds;
+    }
+
+    // ln(e^a + e^b) 를 오버플로 없이 계산
+    private static double logAddExp(double a, double b) {
+        double max = Math.max(a, b);
+        double min = Math.min(a, b);
+        return max + Math.log1p(Math.exp(min - max));
+    }
+
+    /**
+     * 인기글 조회 결과
+     * @param postId 게시글 ID
+     * @param score 현재 시각 기준으로 감쇠된 가중 반응 점수
+     */
+    public record TrendingPost(long postId, double score) {
+    }
+
+    private record PostScore(long boardId, long postId, double logScore) {
+    }
+
+    /**
+     * 게시판별 Top-K 정렬 구조
+     *
+     * 로그 점수는 반응이 쌓일수록 증가만 하므로, Top-K 밖으로 밀려난 게시글은
+     * 다음 반응으로 점수가 오를 때 다시 들어올 수 있습니다. 따라서 K개만 유지해도 순위가 정확합니다.
+     * (게시글이 빠져 생긴 빈자리는 엔진이 refill로 채웁니다.)
+     * 읽기는 락 없이 ConcurrentSkipListSet을 순회하고, 쓰기(제거+삽입+초과분 정리)만 락으로 묶습니다.
+     * 쓰기는 항상 점수 테이블의 최신 값을 다시 읽어 반영하므로, 동시 갱신의 순서가 뒤바뀌어도 결과가 같습니다.
+     * refresh는 구성(들어오거나 빠진 글)이나 순서가 바뀌었는지를 돌려줍니다. 점수만 바뀐 경우는 false입니다.
+     */
+    private static final class BoardRanking {
+        private final long boardId;
+        private final ConcurrentSkipListSet<PostScore> entries = new ConcurrentSkipListSet<>(ORDER);
+        private final Map<Long, PostScore> members = new HashMap<>(); // lock 으로 보호
+        private final ReentrantLock lock = new ReentrantLock();
+        private final int capacity;
+
+        BoardRanking(long boardId, int capacity) {
+            this.boardId = boardId;
+            this.capacity = capacity;
+        }
+
+        boolean refresh(long postId, Function<Long, PostScore> latestScore) {
+            lock.lock();
+            try {
+                PostScore stale = members.remove(postId);
+                Long staleAbove = null;
+                Long staleBelow = null;
+                if (stale != null) {
+                    staleAbove = postIdOf(entries.higher(stale));
+                    staleBelow = postIdOf(entries.lower(stale));
+                    entries.remove(stale);
+                }
+
+                PostScore latest = latestScore.apply(postId);
+                if (latest == null || latest.boardId() != boardId) {
+                    return stale != null; // 삭제되었거나 다른 게시판으로 이동
+                }
+                if (members.size() < capacity) {
+                    add(latest);
+                } else if (ORDER.compare(latest, entries.first()) > 0) {
+                    members.remove(entries.pollFirst().postId());
+                    add(latest);
+                } else {
+                    return stale != null; // Top-K 밖에 그대로 있음
+                }
+                if (stale == null) {
+                    return true; // 새로 Top-K에 들어옴
+                }
+                // 위아래 이웃이 그대로면 순서가 바뀌지 않은 것 (점수만 변함)
+                return !Objects.equals(staleAbove, postIdOf(entries.higher(latest)))
+                        || !Objects.equals(staleBelow, postIdOf(entries.lower(latest)));
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private static Long postIdOf(PostScore entry) {
+            return (entry != null) ? entry.postId() : null;
+        }
+
+        int vacancies() {
+            lock.lock();
+            try {
+                return capacity - members.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        boolean contains(long postId) {
+            lock.lock();
+            try {
+                return members.containsKey(postId);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Top-K 밖의 게시글 점수를 지웁니다. 그사이 점수가 바뀌었거나(새 반응) Top-K에 들어왔으면 지우지 않습니다.
+         * refresh와 같은 락 안에서 확인하므로, 빈자리 보충으로 막 들어온 게시글의 점수를 지우는 일은 없습니다.
+         */
+        boolean discardOutside(PostScore entry, Map<Long, PostScore> scores) {
+            lock.lock();
+            try {
+                return !members.containsKey(entry.postId()) && scores.remove(entry.postId(), entry);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void add(PostScore entry) {
+            entries.add(entry);
+            members.put(entry.postId(), entry);
+        }
+
+        Iterator<PostScore> descendingIterator() {
+            return entries.descendingIterator();
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.standardboard.backend.service.trending;
+
+import java.time.Instant;
+
+/**
+ * 서버 기동 시 인기글 순위를 재구성하기 위한 게시글별 누적 반응 스냅샷
+ *
+ * @param boardId        게시판 ID
+ * @param postId         게시글 ID
+ * @param views          누적 조회 수
+ * @param likes          누적 좋아요 수
+ * @param comments       누적 댓글 수
+ * @param lastActivityAt 마지막 반응 시각 (누적 반응 전체를 이 시각에 발생한 것으로 간주)
+ */
+public record TrendingSeed(long boardId, long postId, long views, long likes, long comments, Instant lastActivityAt) {
+}
@@ -0,0 +1,19 @@
+package com.standardboard.backend.service.trending;
+
+import java.util.function.Consumer;
+
+/**
+ * 인기글 순위 재구성용 데이터 공급자
+ *
+ * 게시글/댓글 저장소가 이 인터페이스를 구현한 Bean을 등록하면,
+ * TrendingRankingEngine이 서버 기동 시점에 DB의 누적 반응으로 메모리 순위를 다시 채웁니다.
+ * 전체 게시글을 List로 올리지 않도록 한 건씩 Consumer로 흘려보냅니다.
+ */
+public interface TrendingSeedSource {
+
+    /**
+     * 누적 반응 스냅샷을 한 건씩 전달합니다.
+     * @param sink 스냅샷을 받을 Consumer
+     */
+    void forEachSeed(Consumer<TrendingSeed> sink);
+}
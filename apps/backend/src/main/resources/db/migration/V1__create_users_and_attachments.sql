@@ -0,0 +1,27 @@
+-- 초기 스키마 (기존 ddl-auto=update 가 만들던 테이블과 동일)
+-- H2(MODE=MySQL)와 MySQL에서 모두 실행되는 문법만 사용합니다.
+
+create table users (
+    id         bigint       not null auto_increment,
+    email      varchar(100) not null,
+    password   varchar(255) not null,
+    nickname   varchar(50)  not null,
+    role       varchar(20)  not null,
+    created_at timestamp(6),
+    primary key (id),
+    constraint uk_users_email unique (email),
+    constraint uk_users_nickname unique (nickname)
+);
+
+create table attachments (
+    id            bigint       not null auto_increment,
+    content_hash  varchar(64)  not null,
+    size          bigint       not null,
+    content_type  varchar(100) not null,
+    original_name varchar(255),
+    uploader_id   bigint,
+    created_at    timestamp(6),
+    primary key (id)
+);
+
+create index idx_attachments_content_hash on attachments (content_hash);
@@ -0,0 +1,120 @@
+package com.standardboard.backend;
+
+import com.standardboard.backend.domain.user.Role;
+import com.standardboard.backend.domain.user.User;
+import com.standardboard.backend.repository.user.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.flywaydb.core.Flyway;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.jdbc.dialect.internal.StandardDialectResolver;
+import org.hibernate.engine.jdbc.dialect.spi.DatabaseMetaDataDialectResolutionInfoAdapter;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.nio.file.Path;
+import java.sql.DatabaseMetaData;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * prod 프로필 기동 테스트 (파일 기반 H2 + Flyway)
+ *
+ * 임시 디렉터리의 파일 DB로 애플리케이션을 두 번 띄워, 재시작 후 데이터가 남는지와
+ * 두 번째 기동이 마이그레이션을 다시 적용하지 않고 제한 시간 안에 끝나는지 확인합니다.
+ * MySQL은 띄우지 않고, DB_URL만 바꿨을 때 드라이버와 Dialect가 MySQL로 정해지는지 설정 수준에서 확인합니다.
+ */
+class ProdProfilePersistenceTest {
+
+    // 빌드 서버 편차를 감안한 상한 (1 vCPU 개발 환경에서 테스트 JVM 안 재기동은 약 4~5초)
+    private static final Duration STARTUP_LIMIT = Duration.ofSeconds(20);
+
+    @TempDir
+    Path dataDir;
+
+    @Test
+    @DisplayName("성공: 파일 저장소에 저장한 사용자는 재시작 후에도 남고, 마이그레이션은 한 번만 적용된다")
+    void survivesRestart() {
+        // Given: 첫 기동에서 사용자 저장
+        try (ConfigurableApplicationContext first = start()) {
+            first.getBean(UserRepository.class).save(User.builder()
+                    .email("persist@test.com")
+                    .password("encoded")
+                    .nickname("persist")
+                    .role(Role.USER)
+                    .build());
+        }
+
+        // When: 재시작
+        long start = System.nanoTime();
+        try (ConfigurableApplicationContext second = start()) {
+            Duration startup = Duration.ofNanos(System.nanoTime() - start);
+
+            // Then
+            assertThat(second.getBean(UserRepository.class).findByEmail("persist@test.com")).isPresent();
+            Flyway flyway = second.getBean(Flyway.class);
+            assertThat(flyway.info().applied()).hasSize(1);
+            assertThat(flyway.info().pending()).isEmpty();
+            assertThat(startup).isLessThan(STARTUP_LIMIT);
+            // database-platform을 비워 두었으므로 접속한 DB에서 Dialect를 정함
+            Dialect dialect = second.getBean(EntityManagerFactory.class).unwrap(SessionFactoryImplementor.class)
+                    .getJdbcServices().getDialect();
+            assertThat(dialect).isInstanceOf(H2Dialect.class);
+        }
+    }
+
+    @Test
+    @DisplayName("성공: prod 프로필에서 DB_URL만 MySQL로 바꾸면 MySQL 드라이버와 Dialect를 사용한다")
+    void mysqlUrl_resolvesMysqlDriverAndDialect() throws Exception {
+        // Given: 설정 파일만 읽는 빈 컨텍스트 (DB 연결 없음)
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(PropertiesOnly.class)
+                .web(WebApplicationType.NONE)
+                .profiles("prod")
+                .run("--DB_URL=jdbc:mysql://db:3306/standardboard?useCursorFetch=true")) {
+            Environment environment = context.getEnvironment();
+
+            // When
+            DataSourceProperties dataSource = Binder.get(environment)
+                    .bind("spring.datasource", DataSourceProperties.class).get();
+            // MySQLDialect는 접속 후 서버 설정을 조회하므로, 조회 결과가 비어 있는 연결을 흉내 냅니다.
+            DatabaseMetaData metaData = mock(DatabaseMetaData.class, RETURNS_DEEP_STUBS);
+            when(metaData.getDatabaseProductName()).thenReturn("MySQL");
+            when(metaData.getDatabaseMajorVersion()).thenReturn(8);
+            Dialect dialect = new StandardDialectResolver()
+                    .resolveDialect(new DatabaseMetaDataDialectResolutionInfoAdapter(metaData));
+
+            // Then: 기본 설정의 H2 고정값이 남아 있지 않음
+            assertThat(dataSource.determineDriverClassName()).isEqualTo("com.mysql.cj.jdbc.Driver");
+            assertThat(environment.getProperty("spring.jpa.database-platform")).isEmpty();
+            assertThat(dialect).isInstanceOf(MySQLDialect.class);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class PropertiesOnly {
+    }
+
+    private ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(BackendApplication.class)
+                .profiles("prod")
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:file:" + dataDir.resolve("db/standardboard") + ";MODE=MySQL",
+                        "--app.attachment.root-dir=" + dataDir.resolve("attachments"),
+                        // 2차 캐시 매니저는 JVM 안에서 공유되므로, 다른 테스트 컨텍스트의 캐시를 닫지 않도록 끕니다.
+                        "--spring.jpa.properties.hibernate.cache.use_second_level_cache=false");
+    }
+}
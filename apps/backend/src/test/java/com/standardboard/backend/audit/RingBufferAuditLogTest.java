@@ -0,0 +1,143 @@
+package com.standardboard.backend.audit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RingBufferAuditLog / AuditLogReader 단위 테스트 (Unit Test)
+ */
+class RingBufferAuditLogTest {
+
+    @TempDir
+    Path dir;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RingBufferAuditLog auditLog;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        RequestContextHolder.resetRequestAttributes();
+        if (auditLog != null) {
+            auditLog.close();
+        }
+    }
+
+    @Test
+    @DisplayName("성공: 여러 스레드가 기록한 이벤트를 모두 세그먼트에 쓰고, 사용자와 시간 범위로 조회한다")
+    void recordAndQuery() throws Exception {
+        // Given: 4개 스레드 x 500건 (버퍼가 넘치지 않는 크기)
+        auditLog = auditLog(4096, "block", 16 * 1024 * 1024);
+        auditLog.start();
+        Instant before = Instant.now();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CountDownLatch done = new CountDownLatch(4);
+        for (int t = 0; t < 4; t++) {
+            long userId = t + 1;
+            executor.execute(() -> {
+                for (int i = 0; i < 500; i++) {
+                    auditLog.record(AuditEventType.LOGIN_SUCCESS, AuditReason.NONE, userId, "user" + userId + "@test.com");
+                }
+                done.countDown();
+            });
+        }
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        // When
+        assertThat(auditLog.awaitWritten(Duration.ofSeconds(5))).isTrue();
+
+        // Then
+        assertThat(AuditLogReader.query(dir, AuditQuery.all())).hasSize(2000);
+        List<AuditRecord> user2 = AuditLogReader.query(dir, new AuditQuery("user2@test.com", null, null, null));
+        assertThat(user2).hasSize(500).allMatch(record -> record.userId() == 2);
+        assertThat(AuditLogReader.query(dir, new AuditQuery(null, 3L, before, Instant.now().plusSeconds(1)))).hasSize(500);
+        assertThat(AuditLogReader.query(dir, new AuditQuery(null, null, Instant.now().plusSeconds(120), null))).isEmpty();
+        assertThat(meterRegistry.get("audit.events.written").counter().count()).isEqualTo(2000);
+    }
+
+    @Test
+    @DisplayName("성공: 요청 중 기록한 이벤트는 클라이언트 IP를 포함하고, 긴 이메일은 잘린 값으로도 조회된다")
+    void addressAndLongSubject() throws Exception {
+        // Given
+        auditLog = auditLog(16, "block", 16 * 1024 * 1024);
+        auditLog.start();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("203.0.113.7");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        String longEmail = "가".repeat(40) + "@test.com"; // UTF-8 129바이트
+
+        // When
+        auditLog.record(AuditEventType.LOGIN_FAILURE, AuditReason.BAD_PASSWORD, 9L, longEmail);
+        auditLog.record(AuditEventType.TOKEN_REJECTED, AuditReason.TOKEN_EXPIRED, null, null);
+        assertThat(auditLog.awaitWritten(Duration.ofSeconds(5))).isTrue();
+
+        // Then
+        List<AuditRecord> records = AuditLogReader.query(dir, new AuditQuery(longEmail, null, null, null));
+        assertThat(records).hasSize(1);
+        AuditRecord record = records.get(0);
+        assertThat(record.type()).isEqualTo(AuditEventType.LOGIN_FAILURE);
+        assertThat(record.reason()).isEqualTo(AuditReason.BAD_PASSWORD);
+        assertThat(record.address()).isEqualTo("203.0.113.7");
+        assertThat(record.subject()).isEqualTo("가".repeat(30)); // 92바이트 안의 문자 경계(90바이트)
+        assertThat(AuditLogReader.query(dir, AuditQuery.all()).get(1).subject()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("성공: 세그먼트가 가득 차면 다음 세그먼트로 넘어가고, 조회는 세그먼트를 이어서 읽는다")
+    void rollSegments() throws Exception {
+        // Given: 헤더 + 레코드 3건짜리 세그먼트
+        auditLog = auditLog(16, "block", AuditRecord.SIZE * 4L);
+        auditLog.start();
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            auditLog.record(AuditEventType.SIGNUP, AuditReason.NONE, (long) i, "user" + i + "@test.com");
+        }
+        assertThat(auditLog.awaitWritten(Duration.ofSeconds(5))).isTrue();
+
+        // Then
+        assertThat(AuditLogReader.listSegments(dir)).hasSize(4);
+        assertThat(AuditLogReader.query(dir, AuditQuery.all()))
+                .extracting(AuditRecord::userId)
+                .containsExactly(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L);
+    }
+
+    @Test
+    @DisplayName("실패: 버퍼가 가득 차면 drop 정책은 바로, block 정책은 제한 시간 뒤에 버리고 dropped로 센다")
+    void fullPolicy() throws Exception {
+        // Given: 소비자를 시작하지 않아 버퍼(2칸)가 비워지지 않는 상태
+        RingBufferAuditLog drop = auditLog(2, "drop", 16 * 1024 * 1024);
+        RingBufferAuditLog block = auditLog(2, "block", 16 * 1024 * 1024);
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            drop.record(AuditEventType.LOGIN_SUCCESS, AuditReason.NONE, 1L, "a@test.com");
+            block.record(AuditEventType.LOGIN_SUCCESS, AuditReason.NONE, 1L, "a@test.com");
+        }
+
+        // Then: 각 인스턴스 2건 기록, 1건씩 버림 (같은 레지스트리라 합산)
+        assertThat(meterRegistry.get("audit.events").tag("outcome", "published").counter().count()).isEqualTo(4);
+        assertThat(meterRegistry.get("audit.events").tag("outcome", "dropped").counter().count()).isEqualTo(2);
+    }
+
+    private RingBufferAuditLog auditLog(int bufferSize, String fullPolicy, long segmentBytes) throws Exception {
+        return new RingBufferAuditLog(dir.toString(), bufferSize, fullPolicy, 5, 512, segmentBytes, 0, 1000, meterRegistry);
+    }
+}
@@ -0,0 +1,110 @@
+package com.standardboard.backend.auth.jwt;
+
+import com.standardboard.backend.audit.AuditLog;
+import com.standardboard.backend.domain.user.Role;
+import com.standardboard.backend.domain.user.User;
+import com.standardboard.backend.service.auth.CustomUserDetailsService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * JwtAuthenticationFilter 단위 테스트 (Unit Test)
+ */
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET_KEY = "asdfasdfasdfasdfqwwe12312f1312easdfafasdfasdfasrfasdf123123adsfasdf123";
+
+    @Mock
+    private CustomUserDetailsService userDetailsService;
+    @Mock
+    private AuditLog auditLog;
+
+    private JwtTokenProvider tokenProvider;
+    private JwtAuthenticationFilter filter;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        tokenProvider = new JwtTokenProvider(SECRET_KEY, 3_600_000L, auditLog, new SimpleMeterRegistry());
+        filter = new JwtAuthenticationFilter(tokenProvider, userDetailsService, auditLog);
+        user = User.builder()
+                .email("test@example.com")
+                .password("encoded")
+                .nickname("tester")
+                .role(Role.USER)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("성공: Authorization 헤더의 Bearer 토큰으로 인증한다")
+    void doFilter_bearerHeader() throws Exception {
+        // Given
+        when(userDetailsService.loadUserByUsername("test@example.com")).thenReturn(user);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users/me");
+        request.addHeader("Authorization", "Bearer " + tokenProvider.generateToken("test@example.com", Role.USER));
+
+        // When
+        Authentication authentication = filter(request);
+
+        // Then
+        assertThat(authentication).isNotNull();
+        assertThat(authentication.getPrincipal()).isSameAs(user);
+    }
+
+    @Test
+    @DisplayName("성공: 헤더가 없으면 로그인 시 발급한 accessToken 쿠키로 인증한다")
+    void doFilter_accessTokenCookie() throws Exception {
+        // Given
+        when(userDetailsService.loadUserByUsername("test@example.com")).thenReturn(user);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users/me");
+        request.setCookies(new Cookie("accessToken", tokenProvider.generateToken("test@example.com", Role.USER)));
+
+        // When
+        Authentication authentication = filter(request);
+
+        // Then
+        assertThat(authentication).isNotNull();
+        assertThat(authentication.getPrincipal()).isSameAs(user);
+    }
+
+    @Test
+    @DisplayName("실패: 토큰이 없으면 인증 정보를 설정하지 않고 다음 필터로 넘긴다")
+    void doFilter_noToken() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users/me");
+
+        // When
+        Authentication authentication = filter(request);
+
+        // Then
+        assertThat(authentication).isNull();
+    }
+
+    private Authentication filter(MockHttpServletRequest request) throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        assertThat(chain.getRequest()).isSameAs(request);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
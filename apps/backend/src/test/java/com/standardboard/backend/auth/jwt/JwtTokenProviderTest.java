@@ -0,0 +1,85 @@
+package com.standardboard.backend.auth.jwt;
+
+import com.standardboard.backend.audit.AuditEventType;
+import com.standardboard.backend.audit.AuditLog;
+import com.standardboard.backend.audit.AuditReason;
+import com.standardboard.backend.domain.user.Role;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * JwtTokenProvider 단위 테스트 (Unit Test)
+ */
+class JwtTokenProviderTest {
+
+    private static final String SECRET_KEY = "asdfasdfasdfasdfqwwe12312f1312easdfafasdfasdfasrfasdf123123adsfasdf123";
+
+    private SimpleMeterRegistry meterRegistry;
+    private AuditLog auditLog;
+    private JwtTokenProvider tokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        auditLog = mock(AuditLog.class);
+        tokenProvider = new JwtTokenProvider(SECRET_KEY, 3_600_000L, auditLog, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("성공: 유효한 토큰은 true를 반환하고 valid 결과로 기록된다")
+    void validateToken_valid() {
+        // Given
+        String token = tokenProvider.generateToken("test@example.com", Role.USER);
+
+        // When
+        boolean valid = tokenProvider.validateToken(token);
+
+        // Then
+        assertThat(valid).isTrue();
+        assertThat(validationCount("valid")).isEqualTo(1);
+        verifyNoInteractions(auditLog);
+    }
+
+    @Test
+    @DisplayName("실패: 검증 실패는 서명/만료/형식 오류 종류별로 기록된다")
+    void validateToken_failuresTaggedByType() {
+        // Given
+        String token = tokenProvider.generateToken("test@example.com", Role.USER);
+        String forged = token.substring(0, token.length() - 1) + (token.endsWith("A") ? "B" : "A");
+        JwtTokenProvider expiredProvider = new JwtTokenProvider(SECRET_KEY, -1_000L, auditLog, meterRegistry);
+        String expired = expiredProvider.generateToken("test@example.com", Role.USER);
+
+        // When
+        boolean signature = tokenProvider.validateToken(forged);
+        boolean expiredResult = tokenProvider.validateToken(expired);
+        boolean malformed = tokenProvider.validateToken("not-a-jwt");
+        boolean empty = tokenProvider.validateToken("");
+
+        // Then
+        assertThat(signature).isFalse();
+        assertThat(expiredResult).isFalse();
+        assertThat(malformed).isFalse();
+        assertThat(empty).isFalse();
+        assertThat(validationCount("signature")).isEqualTo(1);
+        assertThat(validationCount("expired")).isEqualTo(1);
+        assertThat(validationCount("malformed")).isEqualTo(1);
+        assertThat(validationCount("empty")).isEqualTo(1);
+        assertThat(validationCount("valid")).isZero();
+        // 감사 로그: 만료 토큰은 subject까지 기록
+        verify(auditLog).record(AuditEventType.TOKEN_REJECTED, AuditReason.TOKEN_SIGNATURE, null, null);
+        verify(auditLog).record(AuditEventType.TOKEN_REJECTED, AuditReason.TOKEN_EXPIRED, null, "test@example.com");
+        verify(auditLog).record(AuditEventType.TOKEN_REJECTED, AuditReason.TOKEN_MALFORMED, null, null);
+        verify(auditLog).record(AuditEventType.TOKEN_REJECTED, AuditReason.TOKEN_EMPTY, null, null);
+    }
+
+    private long validationCount(String outcome) {
+        return meterRegistry.get("auth.jwt.validation").tag("outcome", outcome).timer().count();
+    }
+}
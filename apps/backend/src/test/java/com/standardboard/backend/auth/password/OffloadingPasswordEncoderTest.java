@@ -0,0 +1,78 @@
+package com.standardboard.backend.auth.password;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * OffloadingPasswordEncoder 단위 테스트 (Unit Test)
+ */
+class OffloadingPasswordEncoderTest {
+
+    private final PasswordHashExecutor executor = new PasswordHashExecutor(1, 10);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("성공: 해싱과 비교는 요청 스레드가 아닌 전용 풀 스레드에서 수행된다")
+    void encodeAndMatches_runOnHashPool() {
+        // Given
+        AtomicReference<String> hashThread = new AtomicReference<>();
+        PasswordEncoder delegate = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                hashThread.set(Thread.currentThread().getName());
+                return "hashed:" + rawPassword;
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                hashThread.set(Thread.currentThread().getName());
+                return encodedPassword.equals("hashed:" + rawPassword);
+            }
+        };
+        OffloadingPasswordEncoder encoder = new OffloadingPasswordEncoder(delegate, executor, new SimpleMeterRegistry());
+
+        // When
+        String encoded = encoder.encode("password123");
+
+        // Then
+        assertThat(encoded).isEqualTo("hashed:password123");
+        assertThat(hashThread.get()).startsWith("password-hash-");
+        assertThat(encoder.matches("password123", encoded)).isTrue();
+        assertThat(encoder.matches("wrong", encoded)).isFalse();
+    }
+
+    @Test
+    @DisplayName("실패: 위임 Encoder의 예외는 감싸지 않고 그대로 전달된다")
+    void matches_propagatesDelegateException() {
+        // Given
+        PasswordEncoder delegate = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                throw new IllegalArgumentException("bad");
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                throw new IllegalArgumentException("bad");
+            }
+        };
+        OffloadingPasswordEncoder encoder = new OffloadingPasswordEncoder(delegate, executor, new SimpleMeterRegistry());
+
+        // When & Then
+        assertThatThrownBy(() -> encoder.matches("password123", "x"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("bad");
+    }
+}
@@ -0,0 +1,186 @@
+package com.standardboard.backend.conditional;
+
+import com.standardboard.backend.repository.user.UserRepository;
+import com.standardboard.backend.service.trending.EngagementType;
+import com.standardboard.backend.service.trending.TrendingRankingEngine;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 조건부 GET(ETag / If-None-Match) 테스트
+ *
+ * 인기글 ETag의 시간 구간이 테스트 도중 바뀌지 않도록 구간을 길게 둡니다.
+ * 다른 인스턴스의 변경 알림을 흉내 내려고 알림 구현을 Bean으로 등록합니다.
+ */
+@SpringBootTest(properties = "app.conditional.trending-max-staleness-seconds=31536000")
+@AutoConfigureMockMvc
+class ConditionalRequestFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TrendingRankingEngine trendingRankingEngine;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ResourceVersionNotifier notifier;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @TestConfiguration
+    static class NotifierConfig {
+
+        @Bean
+        ResourceVersionNotifier resourceVersionNotifier() {
+            return new InJvmResourceVersionNotifier();
+        }
+    }
+
+    private static final AtomicInteger USERS = new AtomicInteger();
+
+    private String email;
+    private Cookie accessToken;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        int n = USERS.incrementAndGet();
+        email = "etag" + n + "@test.com";
+        mockMvc.perform(post("/api/v1/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + email + "\",\"password\":\"password123\",\"nickname\":\"etaguser" + n + "\"}"))
+                .andExpect(status().isCreated());
+        accessToken = mockMvc.perform(post("/api/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + email + "\",\"password\":\"password123\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getCookie("accessToken");
+    }
+
+    @Test
+    @DisplayName("성공: 내 정보의 ETag가 같으면 사용자 조회 없이 본문 없는 304를 반환한다")
+    void me_notModified() throws Exception {
+        // Given
+        String etag = mockMvc.perform(get("/api/v1/users/me").cookie(accessToken))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "private, no-cache"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).startsWith("W/\"");
+        long userLoads = userLoadCount();
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/users/me").cookie(accessToken).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().bytes(new byte[0]));
+        assertThat(userLoadCount()).isEqualTo(userLoads);
+
+        // 응답 형식이 다르면 다른 ETag
+        mockMvc.perform(get("/api/v1/users/me").cookie(accessToken)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("실패: 토큰이 없거나 사용자가 삭제되면 이전 ETag로도 304를 받지 못한다")
+    void me_invalidated() throws Exception {
+        // Given
+        String etag = mockMvc.perform(get("/api/v1/users/me").cookie(accessToken))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When & Then: 토큰 없음
+        mockMvc.perform(get("/api/v1/users/me").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isForbidden());
+
+        // When & Then: 삭제(UserVersionListener가 버전을 올림) 후 같은 토큰
+        userRepository.delete(userRepository.findByEmail(email).orElseThrow());
+        mockMvc.perform(get("/api/v1/users/me").cookie(accessToken).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isForbidden())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+    }
+
+    @Test
+    @DisplayName("성공: 다른 인스턴스의 변경 알림을 받으면 2차 캐시를 비우고 새 데이터와 새 ETag로 응답한다")
+    void me_remoteChange() throws Exception {
+        // Given: 내 정보가 2차 캐시에 올라간 상태
+        String etag = mockMvc.perform(get("/api/v1/users/me").cookie(accessToken))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String nickname = "remote" + USERS.get();
+
+        // When: 다른 인스턴스가 DB를 직접 수정하고 알림만 보냄 (이 인스턴스의 Hibernate는 모름)
+        jdbcTemplate.update("update users set nickname = ? where email = ?", nickname, email);
+        notifier.publish(ResourceKey.user(email));
+
+        // Then
+        String changed = mockMvc.perform(get("/api/v1/users/me").cookie(accessToken).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.nickname").value(nickname))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(changed).isNotEqualTo(etag);
+    }
+
+    @Test
+    @DisplayName("성공: 인기글은 순위가 그대로면 304, 순서가 바뀌면 새 ETag로 200을 반환한다")
+    void trending_versionedByRanking() throws Exception {
+        // Given
+        long boardId = 9_000L + USERS.get();
+        trendingRankingEngine.record(boardId, 1L, EngagementType.COMMENT);
+        trendingRankingEngine.record(boardId, 2L, EngagementType.LIKE);
+        String etag = trendingEtag(boardId, null);
+
+        // When & Then: 1위의 점수만 오름 -> 304
+        trendingRankingEngine.record(boardId, 1L, EngagementType.VIEW);
+        mockMvc.perform(get("/api/v1/boards/{boardId}/trending", boardId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        // When & Then: 2위가 1위를 넘어섬 -> 200, 새 ETag
+        trendingRankingEngine.record(boardId, 2L, EngagementType.COMMENT);
+        String changed = trendingEtag(boardId, etag);
+        assertThat(changed).isNotEqualTo(etag);
+    }
+
+    private String trendingEtag(long boardId, String ifNoneMatch) throws Exception {
+        var request = get("/api/v1/boards/{boardId}/trending", boardId);
+        if (ifNoneMatch != null) {
+            request.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    private long userLoadCount() {
+        return meterRegistry.find("auth.user.load").timers().stream().mapToLong(timer -> timer.count()).sum();
+    }
+}
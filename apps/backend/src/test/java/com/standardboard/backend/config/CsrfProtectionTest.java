@@ -0,0 +1,101 @@
+package com.standardboard.backend.config;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 쿠키 인증 요청의 CSRF 방어 테스트
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class CsrfProtectionTest {
+
+    private static final String BATCH_BODY = "{\"requests\":[{\"path\":\"/api/v1/users/me\"}]}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private static final AtomicInteger USERS = new AtomicInteger();
+
+    private MockHttpServletResponse login;
+    private Cookie accessToken;
+    private Cookie xsrfToken;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        int n = USERS.incrementAndGet();
+        String email = "csrf" + n + "@test.com";
+        mockMvc.perform(post("/api/v1/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + email + "\",\"password\":\"password123\",\"nickname\":\"csrfuser" + n + "\"}"))
+                .andExpect(status().isCreated());
+        login = mockMvc.perform(post("/api/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + email + "\",\"password\":\"password123\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+        accessToken = login.getCookie("accessToken");
+        xsrfToken = login.getCookie("XSRF-TOKEN");
+    }
+
+    @Test
+    @DisplayName("성공: 로그인 시 SameSite=Strict 인증 쿠키와 CSRF 토큰 쿠키를 발급한다")
+    void login_issuesCookies() {
+        // Then
+        assertThat(login.getHeaders(HttpHeaders.SET_COOKIE))
+                .anySatisfy(header -> assertThat(header)
+                        .startsWith("accessToken=").contains("HttpOnly").contains("SameSite=Strict"));
+        // 클라이언트 스크립트가 읽어 헤더로 보내야 하므로 HttpOnly가 아닙니다.
+        assertThat(xsrfToken.getValue()).isNotBlank();
+        assertThat(xsrfToken.isHttpOnly()).isFalse();
+        assertThat(xsrfToken.getAttribute("SameSite")).isEqualTo("Strict");
+    }
+
+    @Test
+    @DisplayName("실패: 쿠키로 인증한 쓰기 요청에 CSRF 토큰이 없거나 다르면 403을 반환한다")
+    void cookieWrite_withoutToken_forbidden() throws Exception {
+        // When & Then: 다른 사이트가 만든 요청처럼 인증 쿠키만 있는 경우
+        mockMvc.perform(post("/api/v1/batch").cookie(accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(BATCH_BODY))
+                .andExpect(status().isForbidden());
+        // When & Then: 헤더 값이 쿠키 값과 다른 경우
+        mockMvc.perform(post("/api/v1/batch").cookie(accessToken, xsrfToken)
+                        .header("X-XSRF-TOKEN", "forged")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(BATCH_BODY))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("성공: CSRF 토큰을 헤더로 보낸 쿠키 요청과 Bearer 헤더 요청은 허용한다")
+    void write_withTokenOrBearer_allowed() throws Exception {
+        // When & Then: 쿠키 + X-XSRF-TOKEN 헤더
+        mockMvc.perform(post("/api/v1/batch").cookie(accessToken, xsrfToken)
+                        .header("X-XSRF-TOKEN", xsrfToken.getValue())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(BATCH_BODY))
+                .andExpect(status().isOk());
+        // When & Then: Authorization 헤더는 브라우저가 자동으로 붙이지 않으므로 CSRF 토큰이 필요 없습니다.
+        mockMvc.perform(post("/api/v1/batch")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken.getValue())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(BATCH_BODY))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,110 @@
+package com.standardboard.backend.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 응답 형식(JSON/CBOR/Smile) 협상 테스트
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class HttpMessageConverterConfigTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private static final AtomicInteger USERS = new AtomicInteger();
+
+    private String email;
+    private Cookie accessToken;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        int n = USERS.incrementAndGet();
+        email = "format" + n + "@test.com";
+        mockMvc.perform(post("/api/v1/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + email + "\",\"password\":\"password123\",\"nickname\":\"formatuser" + n + "\"}"))
+                .andExpect(status().isCreated());
+        accessToken = mockMvc.perform(post("/api/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + email + "\",\"password\":\"password123\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getCookie("accessToken");
+    }
+
+    @Test
+    @DisplayName("성공: Accept가 없거나 모든 형식을 허용하면 JSON으로 응답한다")
+    void json_byDefault() throws Exception {
+        // When
+        MockHttpServletResponse noAccept = me(null);
+        MockHttpServletResponse anyAccept = me(MediaType.ALL);
+
+        // Then
+        for (MockHttpServletResponse response : new MockHttpServletResponse[]{noAccept, anyAccept}) {
+            assertThat(response.getContentType()).isEqualTo(MediaType.APPLICATION_JSON_VALUE);
+            assertThat(objectMapper.readTree(response.getContentAsByteArray()).at("/data/email").asText()).isEqualTo(email);
+        }
+    }
+
+    @Test
+    @DisplayName("성공: application/cbor, application/x-jackson-smile 요청에는 같은 ApiResponse를 바이너리로 응답한다")
+    void binary_byAccept() throws Exception {
+        // When
+        MockHttpServletResponse json = me(MediaType.APPLICATION_JSON);
+        MockHttpServletResponse cbor = me(MediaType.APPLICATION_CBOR);
+        MockHttpServletResponse smile = me(MediaType.parseMediaType("application/x-jackson-smile"));
+
+        // Then
+        JsonNode expected = objectMapper.readTree(json.getContentAsByteArray());
+        assertThat(cbor.getContentType()).isEqualTo(MediaType.APPLICATION_CBOR_VALUE);
+        assertThat(new ObjectMapper(new CBORFactory()).readTree(cbor.getContentAsByteArray())).isEqualTo(expected);
+        assertThat(smile.getContentType()).isEqualTo("application/x-jackson-smile");
+        assertThat(new ObjectMapper(new SmileFactory()).readTree(smile.getContentAsByteArray())).isEqualTo(expected);
+        assertThat(cbor.getContentAsByteArray().length).isLessThan(json.getContentAsByteArray().length);
+    }
+
+    @Test
+    @DisplayName("성공: 압축 기준 크기를 적용할 수 있도록 Content-Length를 함께 보낸다")
+    void contentLength() throws Exception {
+        // When
+        MockHttpServletResponse response = me(MediaType.APPLICATION_JSON);
+
+        // Then
+        assertThat(response.getHeader(HttpHeaders.CONTENT_LENGTH))
+                .isEqualTo(String.valueOf(response.getContentAsByteArray().length));
+    }
+
+    private MockHttpServletResponse me(MediaType accept) throws Exception {
+        var request = get("/api/v1/users/me").cookie(accessToken);
+        if (accept != null) {
+            request.accept(accept);
+        }
+        return mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+    }
+}
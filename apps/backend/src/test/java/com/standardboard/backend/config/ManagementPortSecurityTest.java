@@ -0,0 +1,69 @@
+package com.standardboard.backend.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 관리 포트를 분리했을 때 Actuator 접근 제어 테스트
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureObservability(tracing = false) // 테스트는 기본으로 Prometheus 내보내기를 끄므로 켭니다.
+class ManagementPortSecurityTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @LocalServerPort
+    private int serverPort;
+    @LocalManagementPort
+    private int managementPort;
+
+    // 관리 포트 번호로 요청 포트를 비교하므로 0(랜덤) 대신 비어 있는 고정 포트를 지정합니다.
+    @DynamicPropertySource
+    static void managementPort(DynamicPropertyRegistry registry) throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            int port = socket.getLocalPort();
+            registry.add("management.server.port", () -> port);
+            registry.add("management.server.address", () -> "127.0.0.1");
+        }
+    }
+
+    @Test
+    @DisplayName("성공: 관리 포트에서는 인증 없이 Prometheus 지표를 수집할 수 있다")
+    void prometheus_onManagementPort() {
+        // When
+        ResponseEntity<String> response = restTemplate.getForEntity(
+                "http://127.0.0.1:" + managementPort + "/actuator/prometheus", String.class);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).contains("jvm_memory_used_bytes");
+    }
+
+    @Test
+    @DisplayName("실패: 공개 포트에서는 Actuator 지표를 제공하지 않는다")
+    void prometheus_notOnPublicPort() {
+        // When
+        ResponseEntity<String> response = restTemplate.getForEntity(
+                "http://127.0.0.1:" + serverPort + "/actuator/prometheus", String.class);
+
+        // Then
+        assertThat(response.getStatusCode().is2xxSuccessful()).isFalse();
+        assertThat(response.getBody()).doesNotContain("jvm_memory_used_bytes");
+    }
+}
@@ -0,0 +1,192 @@
+package com.standardboard.backend.controller.attachment;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 첨부파일 업로드/다운로드 API 테스트
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class AttachmentControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private static final AtomicInteger USERS = new AtomicInteger();
+
+    private String bearer;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        int n = USERS.incrementAndGet();
+        String email = "attach" + n + "@test.com";
+        mockMvc.perform(post("/api/v1/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + email + "\",\"password\":\"password123\",\"nickname\":\"attachuser" + n + "\"}"))
+                .andExpect(status().isCreated());
+        String token = mockMvc.perform(post("/api/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + email + "\",\"password\":\"password123\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getCookie("accessToken").getValue();
+        bearer = "Bearer " + token;
+    }
+
+    @Test
+    @DisplayName("성공: 래스터 이미지는 inline, SVG 등 그 외 타입은 attachment로 내려준다")
+    void download_inlineOnlyForRasterImages() throws Exception {
+        // Given
+        long png = upload("image/png", "png " + UUID.randomUUID());
+        long svg = upload("image/svg+xml", "<svg xmlns=\"http://www.w3.org/2000/svg\"><script>alert(1)</script></svg>" + UUID.randomUUID());
+        long html = upload("text/html", "<script>alert(1)</script>" + UUID.randomUUID());
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/attachments/" + png))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "inline"));
+        mockMvc.perform(get("/api/v1/attachments/" + svg))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment"))
+                .andExpect(header().string("Content-Security-Policy", startsWith("sandbox")));
+        mockMvc.perform(get("/api/v1/attachments/" + html))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment"));
+    }
+
+    @Test
+    @DisplayName("성공: Range 요청에는 206과 Content-Range로 해당 구간만 보낸다")
+    void download_partialContent() throws Exception {
+        // Given
+        byte[] content = content(1000);
+        long id = upload("application/octet-stream", content);
+
+        // When & Then
+        byte[] body = mockMvc.perform(get("/api/v1/attachments/" + id).header(HttpHeaders.RANGE, "bytes=100-199"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 100-199/1000"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 100))
+                .andReturn().getResponse().getContentAsByteArray();
+        assertThat(body).isEqualTo(Arrays.copyOfRange(content, 100, 200));
+    }
+
+    @Test
+    @DisplayName("실패: 파일 범위를 벗어난 Range 요청에는 416과 전체 크기를 알려준다")
+    void download_rangeNotSatisfiable() throws Exception {
+        // Given
+        long id = upload("application/octet-stream", content(1000));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/attachments/" + id).header(HttpHeaders.RANGE, "bytes=1000-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */1000"));
+    }
+
+    @Test
+    @DisplayName("성공: If-None-Match가 ETag와 같으면 본문 없이 304를 반환한다")
+    void download_notModified() throws Exception {
+        // Given
+        long id = upload("application/octet-stream", content(1000));
+        String etag = mockMvc.perform(get("/api/v1/attachments/" + id))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When & Then
+        byte[] body = mockMvc.perform(get("/api/v1/attachments/" + id).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andReturn().getResponse().getContentAsByteArray();
+        assertThat(body).isEmpty();
+    }
+
+    @Test
+    @DisplayName("성공: If-Range가 현재 ETag와 다르면 Range를 무시하고 전체를 200으로 보낸다")
+    void download_ifRangeMismatch() throws Exception {
+        // Given
+        byte[] content = content(1000);
+        long id = upload("application/octet-stream", content);
+
+        // When & Then
+        byte[] body = mockMvc.perform(get("/api/v1/attachments/" + id)
+                        .header(HttpHeaders.RANGE, "bytes=100-199")
+                        .header(HttpHeaders.IF_RANGE, "\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_RANGE))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 1000))
+                .andReturn().getResponse().getContentAsByteArray();
+        assertThat(body).isEqualTo(content);
+    }
+
+    @Test
+    @DisplayName("실패: 컬럼 길이를 넘는 Content-Type, 파일명과 잘못된 URL 인코딩의 파일명은 저장 전에 거절한다")
+    void upload_invalidMetadata() throws Exception {
+        // When & Then: Content-Type 100자 초과 -> 415
+        mockMvc.perform(post("/api/v1/attachments")
+                        .header(HttpHeaders.AUTHORIZATION, bearer)
+                        .contentType("application/x-" + "a".repeat(100))
+                        .content(content(10)))
+                .andExpect(status().isUnsupportedMediaType());
+
+        // When & Then: 파일명 255자 초과 -> 400
+        mockMvc.perform(post("/api/v1/attachments")
+                        .header(HttpHeaders.AUTHORIZATION, bearer)
+                        .header(AttachmentController.FILE_NAME_HEADER, "a".repeat(252) + ".txt")
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content(content(10)))
+                .andExpect(status().isBadRequest());
+
+        // When & Then: 잘못된 퍼센트 인코딩 -> 400
+        mockMvc.perform(post("/api/v1/attachments")
+                        .header(HttpHeaders.AUTHORIZATION, bearer)
+                        .header(AttachmentController.FILE_NAME_HEADER, "report%ZZ.pdf")
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content(content(10)))
+                .andExpect(status().isBadRequest());
+    }
+
+    private long upload(String contentType, String content) throws Exception {
+        return upload(contentType, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 테스트마다 내용이 달라야 중복 제거로 다른 테스트의 파일과 합쳐지지 않습니다.
+    private static byte[] content(int size) {
+        byte[] content = new byte[size];
+        ThreadLocalRandom.current().nextBytes(content);
+        return content;
+    }
+
+    private long upload(String contentType, byte[] content) throws Exception {
+        String body = mockMvc.perform(post("/api/v1/attachments")
+                        .header(HttpHeaders.AUTHORIZATION, bearer)
+                        .contentType(contentType)
+                        .content(content))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode data = objectMapper.readTree(body).path("data");
+        return data.path("id").asLong();
+    }
+}
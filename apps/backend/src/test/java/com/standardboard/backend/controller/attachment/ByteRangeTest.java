@@ -0,0 +1,71 @@
+package com.standardboard.backend.controller.attachment;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ByteRange 단위 테스트 (Unit Test)
+ */
+class ByteRangeTest {
+
+    private static final long SIZE = 1000;
+
+    @Test
+    @DisplayName("성공: 시작-끝 구간은 그대로, 파일 끝을 넘는 끝 위치는 마지막 byte로 줄인다")
+    void parse_closedRange() {
+        // When & Then
+        assertThat(ByteRange.parse("bytes=0-99", SIZE)).isEqualTo(new ByteRange(0, 99));
+        assertThat(ByteRange.parse("bytes=0-0", SIZE).length()).isEqualTo(1);
+        assertThat(ByteRange.parse("bytes=990-5000", SIZE)).isEqualTo(new ByteRange(990, 999));
+    }
+
+    @Test
+    @DisplayName("성공: 끝 위치를 생략하면 파일 끝까지 반환한다")
+    void parse_openEndedRange() {
+        // When & Then
+        assertThat(ByteRange.parse("bytes=500-", SIZE)).isEqualTo(new ByteRange(500, 999));
+        assertThat(ByteRange.parse("bytes=999-", SIZE)).isEqualTo(new ByteRange(999, 999));
+    }
+
+    @Test
+    @DisplayName("성공: 접미 구간(bytes=-N)은 마지막 N byte, 파일보다 길면 전체를 반환한다")
+    void parse_suffixRange() {
+        // When & Then
+        assertThat(ByteRange.parse("bytes=-100", SIZE)).isEqualTo(new ByteRange(900, 999));
+        assertThat(ByteRange.parse("bytes=-5000", SIZE)).isEqualTo(new ByteRange(0, 999));
+    }
+
+    @Test
+    @DisplayName("실패: 파일 범위를 벗어난 요청은 416 대상(UNSATISFIABLE)이다")
+    void parse_unsatisfiable() {
+        // When & Then
+        assertThat(ByteRange.parse("bytes=1000-", SIZE).satisfiable()).isFalse();
+        assertThat(ByteRange.parse("bytes=1000-1100", SIZE).satisfiable()).isFalse();
+        assertThat(ByteRange.parse("bytes=-0", SIZE).satisfiable()).isFalse();
+    }
+
+    @Test
+    @DisplayName("실패: 빈 파일에는 어떤 구간도 만족할 수 없다")
+    void parse_zeroLengthFile() {
+        // When & Then
+        assertThat(ByteRange.parse("bytes=0-", 0)).isEqualTo(ByteRange.UNSATISFIABLE);
+        assertThat(ByteRange.parse("bytes=0-0", 0)).isEqualTo(ByteRange.UNSATISFIABLE);
+        assertThat(ByteRange.parse("bytes=-10", 0)).isEqualTo(ByteRange.UNSATISFIABLE);
+    }
+
+    @Test
+    @DisplayName("성공: 다중 구간, 다른 단위, 잘못된 형식은 무시하고(null) 전체를 전송한다")
+    void parse_ignored() {
+        // When & Then
+        assertThat(ByteRange.parse(null, SIZE)).isNull();
+        assertThat(ByteRange.parse("bytes=0-9,20-29", SIZE)).isNull();
+        assertThat(ByteRange.parse("items=0-9", SIZE)).isNull();
+        assertThat(ByteRange.parse("bytes=abc", SIZE)).isNull();
+        assertThat(ByteRange.parse("bytes=-", SIZE)).isNull();
+        assertThat(ByteRange.parse("bytes=--5", SIZE)).isNull();
+        assertThat(ByteRange.parse("bytes=9-5", SIZE)).isNull();
+        assertThat(ByteRange.parse("bytes=0-99999999999999999999", SIZE)).isNull();
+    }
+}
@@ -1,13 +1,18 @@
 package com.standardboard.backend.controller.auth;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.standardboard.backend.audit.AuditLog;
 import com.standardboard.backend.auth.jwt.JwtTokenProvider;
+import com.standardboard.backend.conditional.ResourceVersions;
 import com.standardboard.backend.config.SecurityConfig;
 import com.standardboard.backend.domain.user.Role;
 import com.standardboard.backend.domain.user.User;
 import com.standardboard.backend.dto.auth.LoginRequest;
 import com.standardboard.backend.dto.auth.SignUpRequest;
+import com.standardboard.backend.idempotency.IdempotencyStore;
 import com.standardboard.backend.service.auth.AuthService;
+import com.standardboard.backend.service.auth.CustomUserDetailsService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -23,6 +28,7 @@ import org.springframework.test.web.servlet.ResultActions;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.cookie;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -31,7 +37,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  */
 @WebMvcTest(AuthController.class)
 // SecurityConfig 로드 (JWT 필터 정상 작동을 위해)
-@Import({SecurityConfig.class})
+// SimpleMeterRegistry: 슬라이스에는 지표 자동 설정이 없으므로 SecurityConfig와 필터의 지표 등록용으로 추가
+@Import({SecurityConfig.class, SimpleMeterRegistry.class})
 @AutoConfigureMockMvc
 class AuthControllerTest {
 
@@ -46,6 +53,16 @@ class AuthControllerTest {
     @MockitoBean
     private JwtTokenProvider jwtTokenProvider; // 마찬가지로 MockBean 대체
 
+    // SecurityConfig와 슬라이스에 함께 등록되는 필터(@Component)가 필요로 하는 협력 객체
+    @MockitoBean
+    private CustomUserDetailsService userDetailsService;
+    @MockitoBean
+    private AuditLog auditLog;
+    @MockitoBean
+    private ResourceVersions resourceVersions;
+    @MockitoBean
+    private IdempotencyStore idempotencyStore;
+
     private SignUpRequest validSignUpRequest;
     private LoginRequest validLoginRequest;
     private User savedUser;
@@ -93,7 +110,7 @@ class AuthControllerTest {
     }
 
     @Test
-    @DisplayName("성공: 유효한 로그인 요청 시 200 OK와 AccessToken 반환")
+    @DisplayName("성공: 유효한 로그인 요청 시 200 OK와 AccessToken 쿠키 반환")
     void login_success() throws Exception {
         // Given
         when(authService.login(any(LoginRequest.class))).thenReturn(savedUser);
@@ -106,7 +123,10 @@ class AuthControllerTest {
                         .content(objectMapper.writeValueAsString(validLoginRequest)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
-                .andExpect(jsonPath("$.data.accessToken").value(testToken))
+                // 토큰은 본문이 아닌 HttpOnly 쿠키로만 전달
+                .andExpect(cookie().value("accessToken", testToken))
+                .andExpect(cookie().httpOnly("accessToken", true))
+                .andExpect(jsonPath("$.data.accessToken").doesNotExist())
                 .andExpect(jsonPath("$.data.email").value(savedUser.getEmail()));
     }
 
@@ -124,6 +144,7 @@ class AuthControllerTest {
 
         // Then
         result.andExpect(status().isBadRequest())
-                .andExpect(jsonPath("$.success").value(false));
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.error.message").value("이메일 또는 비밀번호가 일치하지 않습니다."));
     }
 }
\ No newline at end of file
@@ -0,0 +1,129 @@
+package com.standardboard.backend.controller.batch;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 일괄 요청 API 테스트
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class BatchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private static final AtomicInteger USERS = new AtomicInteger();
+
+    private String email;
+    private Cookie accessToken;
+    private Cookie xsrfToken;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        int n = USERS.incrementAndGet();
+        email = "batch" + n + "@test.com";
+        mockMvc.perform(post("/api/v1/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + email + "\",\"password\":\"password123\",\"nickname\":\"batchuser" + n + "\"}"))
+                .andExpect(status().isCreated());
+        MockHttpServletResponse login = mockMvc.perform(post("/api/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + email + "\",\"password\":\"password123\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+        accessToken = login.getCookie("accessToken");
+        xsrfToken = login.getCookie("XSRF-TOKEN");
+    }
+
+    @Test
+    @DisplayName("성공: 하위 요청을 병렬 실행하고 요청 순서대로 상태 코드와 본문을 반환한다")
+    void batch() throws Exception {
+        // Given
+        String body = """
+                {"requests":[
+                  {"id":"me","path":"/api/v1/users/me"},
+                  {"id":"hot","path":"/api/v1/boards/1/trending?size=5"},
+                  {"id":"missing","path":"/api/v1/unknown"}
+                ]}""";
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/batch").cookie(accessToken, xsrfToken)
+                        .header("X-XSRF-TOKEN", xsrfToken.getValue())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.responses[0].id").value("me"))
+                .andExpect(jsonPath("$.data.responses[0].status").value(200))
+                .andExpect(jsonPath("$.data.responses[0].body.data.email").value(email))
+                .andExpect(jsonPath("$.data.responses[1].id").value("hot"))
+                .andExpect(jsonPath("$.data.responses[1].status").value(200))
+                .andExpect(jsonPath("$.data.responses[1].body.success").value(true))
+                .andExpect(jsonPath("$.data.responses[2].status").value(404));
+    }
+
+    @Test
+    @DisplayName("실패: 권한이 없는 경로, 잘못된 경로, GET이 아닌 하위 요청은 해당 항목만 거부한다")
+    void batch_rejectedItems() throws Exception {
+        // Given
+        String body = """
+                {"requests":[
+                  {"path":"/api/v1/admin/exports/users"},
+                  {"path":"/api/v1/boards/../../actuator/env"},
+                  {"path":"/api/v1/batch"},
+                  {"method":"DELETE","path":"/api/v1/users/me"},
+                  {"path":"/api/v1/users/me"}
+                ]}""";
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/batch").cookie(accessToken, xsrfToken)
+                        .header("X-XSRF-TOKEN", xsrfToken.getValue())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.responses[0].id").value("0"))
+                .andExpect(jsonPath("$.data.responses[0].status").value(403))
+                .andExpect(jsonPath("$.data.responses[0].body.error.code").value("E403_201"))
+                .andExpect(jsonPath("$.data.responses[1].status").value(400))
+                .andExpect(jsonPath("$.data.responses[2].status").value(400))
+                .andExpect(jsonPath("$.data.responses[3].status").value(405))
+                .andExpect(jsonPath("$.data.responses[4].status").value(200));
+    }
+
+    @Test
+    @DisplayName("실패: 하위 요청 수가 상한을 넘거나 인증 없이 요청하면 전체를 거부한다")
+    void batch_limits() throws Exception {
+        // Given: 상한(20) + 1개
+        String items = IntStream.range(0, 21)
+                .mapToObj(i -> "{\"path\":\"/api/v1/users/me\"}")
+                .collect(Collectors.joining(",", "{\"requests\":[", "]}"));
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/batch").cookie(accessToken, xsrfToken)
+                        .header("X-XSRF-TOKEN", xsrfToken.getValue())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(items))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/v1/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"requests\":[{\"path\":\"/api/v1/users/me\"}]}"))
+                .andExpect(status().isForbidden());
+    }
+}
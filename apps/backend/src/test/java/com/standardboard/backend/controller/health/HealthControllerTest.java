@@ -0,0 +1,54 @@
+package com.standardboard.backend.controller.health;
+
+import com.standardboard.backend.monitoring.health.ReadinessMonitor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static com.standardboard.backend.monitoring.sql.SqlStatementMatchers.statements;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 생존/준비 상태 API 테스트
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class HealthControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ReadinessMonitor readinessMonitor;
+
+    @Test
+    @DisplayName("성공: 생존 확인은 인증 없이 고정된 JSON을 반환한다")
+    void liveness() throws Exception {
+        mockMvc.perform(get("/api/v1/health/live"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().json("{\"status\":\"OK\",\"application\":\"standard-board-rts-backend\",\"version\":\"1.0.0\"}"))
+                .andExpect(statements(0));
+    }
+
+    @Test
+    @DisplayName("성공: 준비 상태는 백그라운드 점검 결과를 반환하고, 요청 중에는 DB에 접근하지 않는다")
+    void readiness() throws Exception {
+        // Given: 백그라운드 점검 1회
+        readinessMonitor.refresh();
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/health/ready"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("UP"))
+                .andExpect(jsonPath("$.checks.db.status").value("UP"))
+                .andExpect(jsonPath("$.checks.passwordHash.status").value("UP"))
+                .andExpect(statements(0));
+    }
+}
@@ -0,0 +1,93 @@
+package com.standardboard.backend.datasource;
+
+import com.standardboard.backend.domain.user.User;
+import com.standardboard.backend.dto.auth.LoginRequest;
+import com.standardboard.backend.dto.auth.SignUpRequest;
+import com.standardboard.backend.service.auth.AuthService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 읽기/쓰기 분리 통합 테스트
+ *
+ * 서로 다른 H2 인메모리 DB 두 개를 주 DB와 복제본으로 두고, H2의 DATABASE() 함수로 실제 접속 대상을 확인합니다.
+ * 복제본에는 스키마가 없으므로(복제를 흉내 내지 않음), 복제본으로 간 엔티티 조회는 실패합니다.
+ * 2차 캐시는 같은 JVM의 다른 테스트 컨텍스트와 공유되므로 끄고, 조회가 항상 DB로 가게 합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;MODE=MySQL",
+        "app.datasource.routing.enabled=true",
+        "app.datasource.routing.replicas[0].name=replica",
+        "app.datasource.routing.replicas[0].url=jdbc:h2:mem:routing-replica;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "app.datasource.routing.replicas[0].username=sa"
+})
+class ReadWriteRoutingDataSourceTest {
+
+    private static final String CURRENT_DATABASE = "select database()";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private AuthService authService;
+
+    @Test
+    @DisplayName("성공: 읽기 전용 트랜잭션은 복제본, 쓰기 트랜잭션과 트랜잭션 밖 조회는 주 DB를 사용한다")
+    void routeByReadOnly() {
+        // When
+        String readOnly = inTransaction(true);
+        String readWrite = inTransaction(false);
+        String autoCommit = jdbcTemplate.queryForObject(CURRENT_DATABASE, String.class);
+
+        // Then
+        assertThat(readOnly).isEqualToIgnoringCase("routing-replica");
+        assertThat(readWrite).isEqualToIgnoringCase("routing-primary");
+        assertThat(autoCommit).isEqualToIgnoringCase("routing-primary");
+    }
+
+    @Test
+    @DisplayName("성공: 주 DB 강제 구간의 읽기 전용 트랜잭션은 주 DB를 사용한다")
+    void forcePrimary() {
+        // When
+        String database = ReadRouting.onPrimary(() -> inTransaction(true));
+
+        // Then
+        assertThat(database).isEqualToIgnoringCase("routing-primary");
+    }
+
+    @Test
+    @DisplayName("성공: @PrimaryRead인 로그인은 아직 복제되지 않은 신규 사용자도 주 DB에서 찾는다")
+    void loginReadsPrimary() {
+        // Given: 주 DB에만 있는 사용자
+        SignUpRequest signUp = new SignUpRequest();
+        signUp.setEmail("routing@test.com");
+        signUp.setPassword("password123");
+        signUp.setNickname("routing");
+        authService.signUp(signUp);
+
+        LoginRequest login = new LoginRequest();
+        login.setEmail("routing@test.com");
+        login.setPassword("password123");
+
+        // When
+        User user = authService.login(login);
+
+        // Then
+        assertThat(user.getNickname()).isEqualTo("routing");
+    }
+
+    private String inTransaction(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject(CURRENT_DATABASE, String.class));
+    }
+}
@@ -0,0 +1,141 @@
+package com.standardboard.backend.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * ReplicaPool / ReplicaHealthChecker 단위 테스트 (Unit Test)
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ReplicaPoolTest {
+
+    @Mock
+    private DataSource primary;
+    @Mock
+    private DataSource replicaA;
+    @Mock
+    private DataSource replicaB;
+
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaAConnection = mock(Connection.class);
+    private final Connection replicaBConnection = mock(Connection.class);
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReplicaPool replicaPool;
+    private ReplicaHealthChecker healthChecker;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replicaA.getConnection()).thenReturn(replicaAConnection);
+        when(replicaB.getConnection()).thenReturn(replicaBConnection);
+        when(replicaAConnection.isValid(anyInt())).thenReturn(true);
+        when(replicaBConnection.isValid(anyInt())).thenReturn(true);
+
+        meterRegistry = new SimpleMeterRegistry();
+        replicaPool = new ReplicaPool(primary,
+                List.of(new Replica("a", replicaA), new Replica("b", replicaB)),
+                ReplicaSelectionStrategy.ROUND_ROBIN, meterRegistry);
+        healthChecker = new ReplicaHealthChecker(replicaPool, 2);
+    }
+
+    @Test
+    @DisplayName("성공: 정상 복제본을 라운드 로빈으로 번갈아 사용한다")
+    void roundRobin() throws SQLException {
+        // When
+        Connection first = replicaPool.getConnection();
+        Connection second = replicaPool.getConnection();
+        Connection third = replicaPool.getConnection();
+
+        // Then
+        assertThat(List.of(first, second)).containsExactlyInAnyOrder(replicaAConnection, replicaBConnection);
+        assertThat(third).isSameAs(first);
+        assertThat(meterRegistry.counter("db.routing.reads", "target", "replica").count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("성공: 주 DB 강제 구간에서는 복제본 대신 주 DB 커넥션을 반환한다")
+    void forcedPrimary() throws SQLException {
+        // When
+        Connection connection = ReadRouting.onPrimary(() -> {
+            try {
+                return replicaPool.getConnection();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        // Then
+        assertThat(connection).isSameAs(primaryConnection);
+        assertThat(ReadRouting.isPrimaryForced()).isFalse();
+        assertThat(meterRegistry.counter("db.routing.reads", "target", "primary_forced").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공: 헬스 체크가 연속 실패한 복제본은 제외하고, 모두 제외되면 주 DB로, 회복하면 다시 포함한다")
+    void healthCheck() throws SQLException {
+        // Given: a는 계속 실패, b는 정상
+        when(replicaAConnection.isValid(anyInt())).thenReturn(false);
+
+        // When: 1회 실패로는 제외되지 않고, 2회 연속 실패하면 제외
+        healthChecker.checkReplicas();
+        assertThat(replicaPool.getReplicas().get(0).isHealthy()).isTrue();
+        healthChecker.checkReplicas();
+
+        // Then
+        assertThat(replicaPool.getReplicas().get(0).isHealthy()).isFalse();
+        assertThat(replicaPool.getConnection()).isSameAs(replicaBConnection);
+        assertThat(replicaPool.getConnection()).isSameAs(replicaBConnection);
+
+        // When: b도 장애 → 주 DB로 대체
+        when(replicaB.getConnection()).thenThrow(new SQLException("connection refused"));
+        healthChecker.checkReplicas();
+        healthChecker.checkReplicas();
+
+        // Then
+        assertThat(replicaPool.getConnection()).isSameAs(primaryConnection);
+        assertThat(meterRegistry.counter("db.routing.reads", "target", "primary_fallback").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("db.replica.healthy").tag("replica", "b").gauge().value()).isZero();
+
+        // When: a 회복
+        when(replicaAConnection.isValid(anyInt())).thenReturn(true);
+        healthChecker.checkReplicas();
+
+        // Then
+        assertThat(replicaPool.getConnection()).isSameAs(replicaAConnection);
+    }
+
+    @Test
+    @DisplayName("성공: 요청 중 복제본 커넥션 획득에 실패하면 즉시 제외하고 다른 복제본을 사용한다")
+    void connectionFailure() throws SQLException {
+        // Given
+        when(replicaA.getConnection()).thenThrow(new SQLException("connection refused"));
+
+        // When
+        Connection first = replicaPool.getConnection();
+        Connection second = replicaPool.getConnection();
+
+        // Then
+        assertThat(first).isSameAs(replicaBConnection);
+        assertThat(second).isSameAs(replicaBConnection);
+        assertThat(replicaPool.getReplicas().get(0).isHealthy()).isFalse();
+    }
+}
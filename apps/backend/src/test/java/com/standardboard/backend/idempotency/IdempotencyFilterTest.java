@@ -0,0 +1,253 @@
+package com.standardboard.backend.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * IdempotencyFilter 단위 테스트 (Unit Test)
+ */
+class IdempotencyFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger executions = new AtomicInteger();
+
+    private IdempotencyFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        IdempotencyStore store = new IdempotencyStore(3600, 1024 * 1024, meterRegistry);
+        filter = new IdempotencyFilter(store, new ObjectMapper(), 5_000, 65_536, 65_536, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("성공: 같은 키의 재시도는 서비스를 다시 실행하지 않고 첫 응답을 그대로 반환한다")
+    void replay() throws Exception {
+        // Given
+        FilterChain chain = created("{\"id\":1}");
+        perform(request("key-1", "{\"email\":\"a@test.com\"}"), chain);
+
+        // When
+        MockHttpServletResponse replayed = perform(request("key-1", "{\"email\":\"a@test.com\"}"), chain);
+
+        // Then
+        assertThat(executions).hasValue(1);
+        assertThat(replayed.getStatus()).isEqualTo(201);
+        assertThat(replayed.getContentAsString()).isEqualTo("{\"id\":1}");
+        assertThat(replayed.getContentType()).isEqualTo("application/json");
+        assertThat(replayed.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(outcome("replayed")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공: 재전송은 앞선 필터가 이미 쓴 헤더를 중복으로 더하지 않고, CORS 헤더는 저장하지 않는다")
+    void replay_doesNotDuplicateHeaders() throws Exception {
+        // Given: CorsFilter처럼 체인 앞에서 Vary, Access-Control-*를 쓰는 첫 요청
+        FilterChain chain = (req, res) -> {
+            HttpServletResponse response = (HttpServletResponse) res;
+            response.addHeader("Set-Cookie", "accessToken=abc");
+            writeCreated(response, "{\"id\":1}");
+        };
+        perform(request("key-5", "{}"), corsHeaders(new MockHttpServletResponse(), "https://a.example"), chain);
+
+        // When: 다른 Origin에서 같은 키로 재시도
+        MockHttpServletResponse replayed = perform(request("key-5", "{}"),
+                corsHeaders(new MockHttpServletResponse(), "https://b.example"), chain);
+
+        // Then
+        assertThat(replayed.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(replayed.getHeaders("Vary")).containsExactly("Origin");
+        assertThat(replayed.getHeaders("Access-Control-Allow-Origin")).containsExactly("https://b.example");
+        assertThat(replayed.getHeaders("Set-Cookie")).containsExactly("accessToken=abc");
+    }
+
+    @Test
+    @DisplayName("성공: 비로그인 요청은 클라이언트 IP별로 키를 구분해 다른 클라이언트의 응답을 받지 않는다")
+    void anonymousScopedByClient() throws Exception {
+        // Given
+        MockHttpServletRequest first = request("key-6", "{}");
+        first.setRemoteAddr("10.0.0.1");
+        perform(first, created("{\"id\":1}"));
+
+        // When: 다른 클라이언트가 같은 키로 같은 요청
+        MockHttpServletRequest other = request("key-6", "{}");
+        other.setRemoteAddr("10.0.0.2");
+        MockHttpServletResponse response = perform(other, created("{\"id\":2}"));
+
+        // Then
+        assertThat(executions).hasValue(2);
+        assertThat(response.getContentAsString()).isEqualTo("{\"id\":2}");
+        assertThat(response.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+    }
+
+    @Test
+    @DisplayName("성공: 처리 중인 요청과 같은 키로 동시에 들어온 요청은 기다렸다가 같은 응답을 받는다")
+    void concurrentDuplicatesJoin() throws Exception {
+        // Given: 첫 요청이 latch에서 멈춰 있는 동안 중복 요청 4건
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain chain = (req, res) -> {
+            executions.incrementAndGet();
+            entered.countDown();
+            await(release);
+            writeCreated((HttpServletResponse) res, "{\"id\":7}");
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(5);
+        try {
+            Future<MockHttpServletResponse> first = executor.submit(() -> perform(request("key-2", "{}"), chain));
+            assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+            @SuppressWarnings("unchecked")
+            Future<MockHttpServletResponse>[] duplicates = new Future[4];
+            for (int i = 0; i < duplicates.length; i++) {
+                duplicates[i] = executor.submit(() -> perform(request("key-2", "{}"), chain));
+            }
+
+            // When
+            release.countDown();
+
+            // Then
+            assertThat(first.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(201);
+            for (Future<MockHttpServletResponse> duplicate : duplicates) {
+                MockHttpServletResponse response = duplicate.get(5, TimeUnit.SECONDS);
+                assertThat(response.getStatus()).isEqualTo(201);
+                assertThat(response.getContentAsString()).isEqualTo("{\"id\":7}");
+            }
+            assertThat(executions).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("실패: 같은 키를 다른 본문에 사용하면 422를 반환하고 서비스를 실행하지 않는다")
+    void mismatch() throws Exception {
+        // Given
+        FilterChain chain = created("{\"id\":1}");
+        perform(request("key-3", "{\"email\":\"a@test.com\"}"), chain);
+
+        // When
+        MockHttpServletResponse response = perform(request("key-3", "{\"email\":\"b@test.com\"}"), chain);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(422);
+        assertThat(response.getContentAsString()).contains("E422_101");
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("성공: 5xx 응답은 저장하지 않아 재시도가 다시 실행된다")
+    void serverErrorNotStored() throws Exception {
+        // Given
+        FilterChain failing = (req, res) -> {
+            executions.incrementAndGet();
+            ((HttpServletResponse) res).setStatus(503);
+        };
+        perform(request("key-4", "{}"), failing);
+
+        // When
+        MockHttpServletResponse retried = perform(request("key-4", "{}"), created("{\"id\":2}"));
+
+        // Then
+        assertThat(executions).hasValue(2);
+        assertThat(retried.getStatus()).isEqualTo(201);
+        assertThat(retried.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+        assertThat(outcome("not_stored")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공: 로그인 요청은 Idempotency-Key를 무시하고 매번 실행한다")
+    void loginIgnoresKey() throws Exception {
+        // Given
+        MockHttpServletRequest first = request("key-7", "{}");
+        first.setRequestURI("/api/v1/auth/login");
+        perform(first, created("{\"token\":1}"));
+
+        // When
+        MockHttpServletRequest retried = request("key-7", "{}");
+        retried.setRequestURI("/api/v1/auth/login");
+        MockHttpServletResponse response = perform(retried, created("{\"token\":2}"));
+
+        // Then
+        assertThat(executions).hasValue(2);
+        assertThat(response.getContentAsString()).isEqualTo("{\"token\":2}");
+        assertThat(response.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+    }
+
+    @Test
+    @DisplayName("실패: 형식이 잘못된 키는 400을 반환한다")
+    void invalidKey() throws Exception {
+        MockHttpServletResponse response = perform(request("잘못된 키", "{}"), created("{}"));
+
+        assertThat(response.getStatus()).isEqualTo(400);
+        assertThat(executions).hasValue(0);
+    }
+
+    private FilterChain created(String body) {
+        return (req, res) -> {
+            executions.incrementAndGet();
+            // 컨트롤러처럼 본문을 끝까지 읽어 본다
+            assertThat(req.getInputStream().readAllBytes()).isNotNull();
+            writeCreated((HttpServletResponse) res, body);
+        };
+    }
+
+    private static void writeCreated(HttpServletResponse response, String body) throws java.io.IOException {
+        response.setStatus(201);
+        response.setContentType("application/json");
+        response.getOutputStream().write(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequest request, FilterChain chain) throws Exception {
+        return perform(request, new MockHttpServletResponse(), chain);
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequest request, MockHttpServletResponse response,
+                                            FilterChain chain) throws Exception {
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    // 보안 필터 체인의 CorsFilter가 이 필터보다 먼저 쓰는 헤더
+    private static MockHttpServletResponse corsHeaders(MockHttpServletResponse response, String origin) {
+        response.addHeader("Vary", "Origin");
+        response.addHeader("Access-Control-Allow-Origin", origin);
+        response.addHeader("Access-Control-Allow-Credentials", "true");
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String key, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/auth/signup");
+        request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private double outcome(String outcome) {
+        return meterRegistry.get("idempotency.requests").tag("outcome", outcome).counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.standardboard.backend.monitoring.health;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ReadinessMonitor 단위 테스트 (Unit Test)
+ */
+class ReadinessMonitorTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("성공: 첫 점검 전에는 DOWN(starting), 모든 점검이 UP이면 UP과 점검별 수치를 반환한다")
+    void refresh_allUp() throws Exception {
+        // Given
+        ReadinessMonitor monitor = monitor(60_000,
+                check("db", () -> ReadinessCheck.Result.up(Map.of("active", 1))),
+                check("passwordHash", () -> ReadinessCheck.Result.up(Map.of("queued", 0))));
+        assertThat(monitor.current().ready()).isFalse();
+        assertThat(json(monitor).path("reason").asText()).isEqualTo("starting");
+
+        // When
+        monitor.refresh();
+
+        // Then
+        JsonNode body = json(monitor);
+        assertThat(monitor.current().ready()).isTrue();
+        assertThat(body.path("status").asText()).isEqualTo("UP");
+        assertThat(body.path("checks").path("db").path("active").asInt()).isEqualTo(1);
+        assertThat(meterRegistry.get("health.readiness").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실패: 점검 하나가 DOWN이거나 예외를 던지면 전체가 DOWN이다")
+    void refresh_down() throws Exception {
+        // Given
+        ReadinessMonitor monitor = monitor(60_000,
+                check("db", () -> ReadinessCheck.Result.up(Map.of())),
+                check("passwordHash", () -> {
+                    throw new IllegalStateException("boom");
+                }));
+
+        // When
+        monitor.refresh();
+
+        // Then
+        JsonNode body = json(monitor);
+        assertThat(monitor.current().ready()).isFalse();
+        assertThat(body.path("checks").path("passwordHash").path("status").asText()).isEqualTo("DOWN");
+        assertThat(body.path("checks").path("passwordHash").path("error").asText()).isEqualTo("boom");
+        assertThat(meterRegistry.get("health.readiness.check").tag("check", "db").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("health.readiness.check").tag("check", "passwordHash").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("실패: 점검 갱신이 간격의 3배 넘게 멈추면 마지막 결과 대신 DOWN(stale)을 반환한다")
+    void current_stale() throws Exception {
+        // Given: 간격 1ms → 3ms 뒤 stale
+        ReadinessMonitor monitor = monitor(1, check("db", () -> ReadinessCheck.Result.up(Map.of())));
+        monitor.refresh();
+
+        // When
+        Thread.sleep(20);
+
+        // Then
+        assertThat(monitor.current().ready()).isFalse();
+        assertThat(json(monitor).path("reason").asText()).isEqualTo("stale");
+    }
+
+    private ReadinessMonitor monitor(long intervalMs, ReadinessCheck... checks) {
+        return new ReadinessMonitor(List.of(checks), objectMapper, intervalMs, meterRegistry);
+    }
+
+    private JsonNode json(ReadinessMonitor monitor) throws Exception {
+        return objectMapper.readTree(monitor.current().body());
+    }
+
+    private static ReadinessCheck check(String name, Supplier<ReadinessCheck.Result> result) {
+        return new ReadinessCheck() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public Result check() {
+                return result.get();
+            }
+        };
+    }
+}
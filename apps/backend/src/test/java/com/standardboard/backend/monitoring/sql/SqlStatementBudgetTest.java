@@ -0,0 +1,101 @@
+package com.standardboard.backend.monitoring.sql;
+
+import com.standardboard.backend.idempotency.IdempotencyFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import jakarta.servlet.http.Cookie;
+
+import static com.standardboard.backend.monitoring.sql.SqlStatementMatchers.maxStatements;
+import static com.standardboard.backend.monitoring.sql.SqlStatementMatchers.statements;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * API별 SQL 실행 횟수 상한 테스트 (N+1 회귀 방지)
+ *
+ * 인증 필터의 사용자 조회까지 포함한 요청 전체의 SQL 수를 검증합니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class SqlStatementBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("회원가입은 중복 확인 2건 + 저장 1건 이내로 실행된다")
+    void signUp() throws Exception {
+        mockMvc.perform(post("/api/v1/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(signUpJson("budget-signup@test.com", "budgetsignup")))
+                .andExpect(status().isCreated())
+                .andExpect(maxStatements(3));
+    }
+
+    @Test
+    @DisplayName("같은 Idempotency-Key로 재시도한 회원가입은 SQL 없이 첫 응답을 반환한다")
+    void signUpRetryWithIdempotencyKey() throws Exception {
+        // Given
+        String body = signUpJson("budget-retry@test.com", "budgetretry");
+        mockMvc.perform(post("/api/v1/auth/signup")
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "budget-retry-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated());
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/auth/signup")
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "budget-retry-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"))
+                .andExpect(statements(0));
+    }
+
+    @Test
+    @DisplayName("로그인은 사용자 조회 1건 이내로 실행하고, 이후 인증된 내 정보 조회는 2차 캐시로 SQL 없이 처리한다")
+    void loginAndMe() throws Exception {
+        // Given
+        mockMvc.perform(post("/api/v1/auth/signup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(signUpJson("budget-login@test.com", "budgetlogin")));
+
+        // When & Then: 로그인 (가입 시 캐시에 올라간 경우 SQL 없이 처리)
+        Cookie accessToken = mockMvc.perform(post("/api/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"budget-login@test.com\",\"password\":\"password123\"}"))
+                .andExpect(status().isOk())
+                .andExpect(maxStatements(1))
+                .andReturn().getResponse().getCookie("accessToken");
+
+        // When & Then: 인증 GET (JWT 필터의 사용자 조회는 자연 키/엔티티 캐시에서 처리)
+        mockMvc.perform(get("/api/v1/users/me").cookie(accessToken))
+                .andExpect(status().isOk())
+                .andExpect(statements(0))
+                .andExpect(header().exists(SqlStatementFilter.TIME_HEADER));
+    }
+
+    @Test
+    @DisplayName("헬스 체크와 인기글 조회(비로그인)는 DB를 조회하지 않는다")
+    void noDatabaseAccess() throws Exception {
+        mockMvc.perform(get("/api/v1/health"))
+                .andExpect(status().isOk())
+                .andExpect(statements(0));
+        mockMvc.perform(get("/api/v1/boards/1/trending"))
+                .andExpect(status().isOk())
+                .andExpect(statements(0));
+    }
+
+    private static String signUpJson(String email, String nickname) {
+        return "{\"email\":\"" + email + "\",\"password\":\"password123\",\"nickname\":\"" + nickname + "\"}";
+    }
+}
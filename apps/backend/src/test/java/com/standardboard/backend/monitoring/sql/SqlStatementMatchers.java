@@ -0,0 +1,35 @@
+package com.standardboard.backend.monitoring.sql;
+
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요청당 SQL 실행 횟수를 검증하는 MockMvc ResultMatcher 모음
+ *
+ * SqlStatementFilter가 붙이는 X-Sql-Statements 헤더를 읽으므로 @AutoConfigureMockMvc(필터 포함)에서 사용합니다.
+ * 예) mockMvc.perform(get("/api/v1/users/me")).andExpect(SqlStatementMatchers.maxStatements(1));
+ * N+1 문제로 쿼리 수가 늘어나면 테스트가 실패합니다.
+ */
+public final class SqlStatementMatchers {
+
+    private SqlStatementMatchers() {
+    }
+
+    public static ResultMatcher maxStatements(int max) {
+        return result -> assertThat(statements(result.getResponse().getHeader(SqlStatementFilter.STATEMENTS_HEADER)))
+                .as("%s %s 요청의 SQL 실행 횟수", result.getRequest().getMethod(), result.getRequest().getRequestURI())
+                .isLessThanOrEqualTo(max);
+    }
+
+    public static ResultMatcher statements(int expected) {
+        return result -> assertThat(statements(result.getResponse().getHeader(SqlStatementFilter.STATEMENTS_HEADER)))
+                .as("%s %s 요청의 SQL 실행 횟수", result.getRequest().getMethod(), result.getRequest().getRequestURI())
+                .isEqualTo(expected);
+    }
+
+    private static int statements(String header) {
+        assertThat(header).as(SqlStatementFilter.STATEMENTS_HEADER + " 헤더 (app.sql-stats.header-enabled=true 필요)").isNotNull();
+        return Integer.parseInt(header);
+    }
+}
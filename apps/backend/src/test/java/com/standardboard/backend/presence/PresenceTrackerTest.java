@@ -0,0 +1,144 @@
+package com.standardboard.backend.presence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PresenceTracker / LongTimestampMap 단위 테스트 (Unit Test)
+ */
+class PresenceTrackerTest {
+
+    private static final int TTL = 45;
+
+    @Test
+    @DisplayName("성공: 하트비트가 끊긴 접속자와 열람자는 만료 시간이 지나면 스스로 빠진다")
+    void expire() {
+        // Given: 사용자 1, 2가 게시글 7을 보는 중
+        PresenceTracker tracker = new PresenceTracker(TTL, 1000, 1000);
+        tracker.heartbeat(1, 7, 0);
+        tracker.heartbeat(2, 7, 0);
+
+        // When: 사용자 1만 계속 하트비트
+        tracker.heartbeat(1, 7, 30);
+        tracker.tick(TTL + 1);
+
+        // Then
+        assertThat(tracker.onlineCount()).isEqualTo(1);
+        assertThat(tracker.isOnline(1)).isTrue();
+        assertThat(tracker.isOnline(2)).isFalse();
+        assertThat(tracker.viewerCount(7)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공: 주기마다 바뀐 숫자만 모아 반환하고, 바뀐 것이 없으면 빈 결과를 반환한다")
+    void tick_aggregatesChanges() {
+        // Given: 첫 발행
+        PresenceTracker tracker = new PresenceTracker(TTL, 1000, 1000);
+        for (long userId = 1; userId <= 50; userId++) {
+            tracker.heartbeat(userId, 7, 0);
+        }
+        tracker.heartbeat(100, 8, 0);
+        PresenceChanges first = tracker.tick(1);
+
+        // When: 게시글 8의 열람자만 떠남
+        tracker.leave(100, 8);
+        PresenceChanges second = tracker.tick(2);
+        PresenceChanges third = tracker.tick(3);
+
+        // Then: 사용자 51명의 입장은 게시글별 숫자 2개 + 접속자 수 1개로 묶인다
+        assertThat(first.onlineChanged()).isTrue();
+        assertThat(first.onlineUsers()).isEqualTo(51);
+        assertThat(first.viewers()).containsExactlyInAnyOrder(
+                new PresenceChanges.ViewerCount(7, 50), new PresenceChanges.ViewerCount(8, 1));
+        assertThat(second.onlineChanged()).isFalse();
+        assertThat(second.viewers()).containsExactly(new PresenceChanges.ViewerCount(8, 0));
+        assertThat(third.isEmpty()).isTrue();
+        assertThat(tracker.viewedPostCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공: 상한을 넘는 새 접속자는 받지 않고, 이미 추적 중인 사용자의 하트비트는 반영한다")
+    void maxUsers() {
+        // Given: 상한 160명 (스트라이프당 10명)
+        PresenceTracker tracker = new PresenceTracker(TTL, 160, 1000);
+        int accepted = 0;
+        for (long userId = 1; userId <= 1000; userId++) {
+            if (tracker.heartbeat(userId, 0, 0)) {
+                accepted++;
+            }
+        }
+
+        // When & Then
+        assertThat(accepted).isEqualTo(160);
+        assertThat(tracker.onlineCount()).isEqualTo(160);
+        long tracked = 0;
+        for (long userId = 1; userId <= 1000 && tracked == 0; userId++) {
+            if (tracker.isOnline(userId)) {
+                tracked = userId;
+            }
+        }
+        assertThat(tracker.heartbeat(tracked, 0, 1)).isTrue();
+    }
+
+    @Test
+    @DisplayName("성공: 추적 중인 사용자 1명당 메모리는 하트비트 1건(접속) + 열람 1건 기준 120바이트 이하이다")
+    void memoryPerUser() {
+        // Given: 10만 명 접속, 모두 게시글 하나씩 열람 (게시글 2만 개, 평균 5명)
+        int users = 100_000;
+        PresenceTracker tracker = new PresenceTracker(TTL, users, users);
+        long empty = tracker.memoryBytes();
+        for (long userId = 1; userId <= users; userId++) {
+            tracker.heartbeat(userId, 1 + userId % 20_000, 0);
+        }
+
+        // When
+        double perUser = (double) (tracker.memoryBytes() - empty) / users;
+
+        // Then
+        assertThat(tracker.onlineCount()).isEqualTo(users);
+        assertThat(perUser).isLessThan(120);
+
+        // 모두 만료되면 배열도 줄어든다
+        tracker.tick(TTL + 1);
+        assertThat(tracker.onlineCount()).isZero();
+        assertThat(tracker.memoryBytes()).isLessThanOrEqualTo(empty);
+    }
+
+    @Test
+    @DisplayName("성공: 추가, 삭제, 만료를 무작위로 반복해도 LongTimestampMap은 HashMap과 같은 결과를 유지한다")
+    void longTimestampMap_matchesHashMap() {
+        // Given
+        Random random = new Random(42);
+        LongTimestampMap map = new LongTimestampMap();
+        Map<Long, Integer> expected = new HashMap<>();
+
+        // When
+        for (int tick = 0; tick < 20_000; tick++) {
+            long key = 1 + random.nextInt(2_000);
+            int op = random.nextInt(10);
+            if (op < 6) {
+                assertThat(map.touch(key, tick)).isEqualTo(expected.put(key, tick) == null);
+            } else if (op < 9) {
+                assertThat(map.remove(key)).isEqualTo(expected.remove(key) != null);
+            } else {
+                int cutoff = tick - 500;
+                int removed = map.expireBefore(cutoff);
+                int before = expected.size();
+                expected.values().removeIf(t -> t < cutoff);
+                assertThat(removed).isEqualTo(before - expected.size());
+            }
+        }
+
+        // Then
+        assertThat(map.size()).isEqualTo(expected.size());
+        for (long key = 1; key <= 2_000; key++) {
+            assertThat(map.contains(key)).isEqualTo(expected.containsKey(key));
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.standardboard.backend.presence;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.standardboard.backend.domain.user.Role;
+import com.standardboard.backend.domain.user.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.time.Clock;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * PresenceWebSocketHandler 단위 테스트 (Unit Test)
+ */
+class PresenceWebSocketHandlerTest {
+
+    private static final long POST_ID = 7;
+
+    private PresenceService presenceService;
+    private PresenceWebSocketHandler handler;
+    private int sessions;
+
+    @BeforeEach
+    void setUp() {
+        presenceService = new PresenceService(new PresenceTracker(45, 1000, 1000),
+                event -> { }, new SimpleMeterRegistry(), Clock.systemUTC());
+        handler = new PresenceWebSocketHandler(presenceService, new ObjectMapper(),
+                new Jackson2ObjectMapperBuilder(), 5000, 16384);
+    }
+
+    @Test
+    @DisplayName("성공: 같은 게시글을 연 탭 하나를 닫아도 다른 탭이 남아 있으면 열람자로 유지한다")
+    void close_keepsViewerWhileAnotherTabIsOpen() throws Exception {
+        // Given: 사용자 1이 두 탭에서 같은 게시글을 봄
+        WebSocketSession first = open(1);
+        WebSocketSession second = open(1);
+        view(first, POST_ID);
+        view(second, POST_ID);
+
+        // When & Then: 첫 탭 종료
+        handler.afterConnectionClosed(first, CloseStatus.NORMAL);
+        assertThat(presenceService.viewerCount(POST_ID)).isEqualTo(1);
+
+        // When & Then: 마지막 탭 종료
+        handler.afterConnectionClosed(second, CloseStatus.NORMAL);
+        assertThat(presenceService.viewerCount(POST_ID)).isZero();
+    }
+
+    @Test
+    @DisplayName("성공: 다른 탭이 같은 게시글을 보고 있으면 leave나 다른 게시글 이동으로 열람자에서 빠지지 않는다")
+    void view_keepsViewerWhileAnotherTabIsOpen() throws Exception {
+        // Given: 사용자 1은 두 탭, 사용자 2는 한 탭
+        WebSocketSession first = open(1);
+        WebSocketSession second = open(1);
+        WebSocketSession other = open(2);
+        view(first, POST_ID);
+        view(second, POST_ID);
+        view(other, POST_ID);
+
+        // When: 첫 탭은 다른 게시글로, 사용자 2는 화면 이탈
+        view(first, POST_ID + 1);
+        handler.handleMessage(other, new TextMessage("{\"type\":\"leave\"}"));
+
+        // Then
+        assertThat(presenceService.viewerCount(POST_ID)).isEqualTo(1);
+        assertThat(presenceService.viewerCount(POST_ID + 1)).isEqualTo(1);
+
+        // When & Then: 남은 탭도 이탈
+        handler.handleMessage(second, new TextMessage("{\"type\":\"leave\"}"));
+        assertThat(presenceService.viewerCount(POST_ID)).isZero();
+    }
+
+    private WebSocketSession open(long userId) throws Exception {
+        User user = User.builder()
+                .email("presence" + userId + "@test.com")
+                .password("encoded")
+                .nickname("presence" + userId)
+                .role(Role.USER)
+                .build();
+        ReflectionTestUtils.setField(user, "id", userId);
+
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn("session-" + ++sessions);
+        when(session.getPrincipal()).thenReturn(new UsernamePasswordAuthenticationToken(user, null, List.of()));
+        when(session.getAcceptedProtocol()).thenReturn(PresenceWebSocketHandler.JSON_SUBPROTOCOL);
+        handler.afterConnectionEstablished(session);
+        return session;
+    }
+
+    private void view(WebSocketSession session, long postId) throws Exception {
+        handler.handleMessage(session, new TextMessage("{\"type\":\"view\",\"postId\":" + postId + "}"));
+    }
+}
@@ -0,0 +1,92 @@
+package com.standardboard.backend.repository.user;
+
+import com.standardboard.backend.domain.user.Role;
+import com.standardboard.backend.domain.user.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * User 2차 캐시 / 자연 키 조회 테스트
+ *
+ * Hibernate 통계(Statistics)로 실행된 SQL 수와 캐시 적중을 확인합니다.
+ */
+@SpringBootTest
+class UserRepositoryCacheTest {
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("성공: 같은 이메일을 반복 조회하면 두 번째부터 SQL 없이 캐시에서 반환한다")
+    void findByEmail_servedFromCache() {
+        // Given
+        saveUser("cache-hit@test.com", "cachehit");
+        userRepository.findByEmail("cache-hit@test.com");
+        long statements = statistics.getPrepareStatementCount();
+        long naturalIdHits = statistics.getNaturalIdCacheHitCount();
+        long entityHits = statistics.getSecondLevelCacheHitCount();
+
+        // When
+        User user = userRepository.findByEmail("cache-hit@test.com").orElseThrow();
+        userRepository.findByEmail("cache-hit@test.com").orElseThrow();
+
+        // Then
+        assertThat(user.getNickname()).isEqualTo("cachehit");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements);
+        assertThat(statistics.getNaturalIdCacheHitCount() - naturalIdHits).isEqualTo(2);
+        assertThat(statistics.getSecondLevelCacheHitCount() - entityHits).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("성공: 엔티티를 수정하면 커밋 후 캐시 조회에도 변경된 값이 보인다")
+    void findByEmail_afterUpdate() {
+        // Given: 캐시에 올라간 사용자
+        Long id = saveUser("cache-update@test.com", "before").getId();
+        userRepository.findByEmail("cache-update@test.com");
+
+        // When: 변경 감지로 수정
+        transactionTemplate.executeWithoutResult(status ->
+                userRepository.findById(id).orElseThrow().changeNickname("after"));
+        long statements = statistics.getPrepareStatementCount();
+        User user = userRepository.findByEmail("cache-update@test.com").orElseThrow();
+
+        // Then: 캐시가 갱신되어 SQL 없이 새 값을 반환
+        assertThat(user.getNickname()).isEqualTo("after");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements);
+    }
+
+    @Test
+    @DisplayName("성공: 없는 이메일은 빈 결과를 반환한다")
+    void findByEmail_notFound() {
+        assertThat(userRepository.findByEmail("cache-missing@test.com")).isEmpty();
+    }
+
+    private User saveUser(String email, String nickname) {
+        return userRepository.save(User.builder()
+                .email(email)
+                .password("encoded")
+                .nickname(nickname)
+                .role(Role.USER)
+                .build());
+    }
+}
@@ -0,0 +1,69 @@
+package com.standardboard.backend.service.attachment;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * AttachmentService 통합 테스트 (메타데이터 저장 실패 시 파일 정리)
+ */
+@SpringBootTest
+class AttachmentServiceTest {
+
+    // Attachment.contentType 컬럼 길이(100)를 넘어 INSERT가 실패하는 타입
+    private static final String TOO_LONG_CONTENT_TYPE = "application/x-" + "a".repeat(100);
+
+    @Autowired
+    private AttachmentService attachmentService;
+    @Autowired
+    private AttachmentStorage attachmentStorage;
+
+    @Test
+    @DisplayName("성공: 메타데이터 저장이 실패하면 이번 업로드로 새로 만든 파일을 지운다")
+    void upload_metadataFailure_removesNewBlob() throws Exception {
+        // Given
+        byte[] content = randomContent();
+        String hash = sha256(content);
+
+        // When
+        assertThrows(RuntimeException.class,
+                () -> attachmentService.upload(new ByteArrayInputStream(content), TOO_LONG_CONTENT_TYPE, null, null));
+
+        // Then
+        assertThat(attachmentStorage.exists(hash)).isFalse();
+    }
+
+    @Test
+    @DisplayName("성공: 기존 파일을 재사용한(중복 제거) 업로드가 실패하면 파일을 지우지 않는다")
+    void upload_metadataFailure_keepsDeduplicatedBlob() throws Exception {
+        // Given
+        byte[] content = randomContent();
+        attachmentService.upload(new ByteArrayInputStream(content), "application/octet-stream", null, null);
+
+        // When
+        assertThrows(RuntimeException.class,
+                () -> attachmentService.upload(new ByteArrayInputStream(content), TOO_LONG_CONTENT_TYPE, null, null));
+
+        // Then
+        assertThat(attachmentStorage.exists(sha256(content))).isTrue();
+    }
+
+    private static byte[] randomContent() {
+        byte[] content = new byte[256];
+        ThreadLocalRandom.current().nextBytes(content);
+        return content;
+    }
+
+    private static String sha256(byte[] content) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+    }
+}
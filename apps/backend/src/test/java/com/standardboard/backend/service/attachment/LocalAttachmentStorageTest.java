@@ -0,0 +1,98 @@
+package com.standardboard.backend.service.attachment;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * LocalAttachmentStorage 단위 테스트 (Unit Test)
+ */
+class LocalAttachmentStorageTest {
+
+    @TempDir
+    Path root;
+
+    private LocalAttachmentStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        storage = new LocalAttachmentStorage(root.toString());
+    }
+
+    @Test
+    @DisplayName("성공: 저장하면서 계산한 해시가 파일 내용의 SHA-256과 같다")
+    void store_computesSha256InSinglePass() throws Exception {
+        // Given: 버퍼 크기(64KB)보다 큰 본문
+        byte[] content = new byte[200_000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+
+        // When
+        StoredBlob blob = storage.store(channel(content), Long.MAX_VALUE);
+
+        // Then
+        String expected = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        assertThat(blob.contentHash()).isEqualTo(expected);
+        assertThat(blob.size()).isEqualTo(content.length);
+        assertThat(blob.created()).isTrue();
+        assertThat(Files.readAllBytes(storage.resolve(expected))).isEqualTo(content);
+    }
+
+    @Test
+    @DisplayName("성공: 같은 내용을 다시 올리면 기존 파일을 재사용한다 (중복 제거)")
+    void store_deduplicatesByContentHash() throws Exception {
+        // Given
+        byte[] content = "hello attachment".getBytes(StandardCharsets.UTF_8);
+        StoredBlob first = storage.store(channel(content), Long.MAX_VALUE);
+
+        // When
+        StoredBlob second = storage.store(channel(content), Long.MAX_VALUE);
+
+        // Then
+        assertThat(second.contentHash()).isEqualTo(first.contentHash());
+        assertThat(second.created()).isFalse();
+        assertThat(tmpFiles()).isZero();
+    }
+
+    @Test
+    @DisplayName("실패: 최대 크기를 넘으면 예외가 발생하고 임시 파일이 남지 않는다")
+    void store_fail_tooLarge() throws Exception {
+        // Given
+        byte[] content = new byte[1024];
+
+        // When & Then
+        assertThrows(AttachmentTooLargeException.class, () -> storage.store(channel(content), 100));
+        assertThat(tmpFiles()).isZero();
+    }
+
+    @Test
+    @DisplayName("실패: 해시 형식이 아닌 키로 경로를 만들 수 없다")
+    void resolve_fail_invalidHash() {
+        assertThrows(IllegalArgumentException.class, () -> storage.resolve("../../etc/passwd"));
+    }
+
+    private static ReadableByteChannel channel(byte[] content) {
+        return Channels.newChannel(new ByteArrayInputStream(content));
+    }
+
+    private long tmpFiles() throws Exception {
+        try (Stream<Path> files = Files.list(root.resolve("tmp"))) {
+            return files.count();
+        }
+    }
+}
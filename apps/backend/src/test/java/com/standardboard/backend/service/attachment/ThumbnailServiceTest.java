@@ -0,0 +1,96 @@
+package com.standardboard.backend.service.attachment;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ThumbnailService 단위 테스트 (Unit Test)
+ */
+class ThumbnailServiceTest {
+
+    @TempDir
+    Path root;
+
+    private LocalAttachmentStorage storage;
+    private SimpleMeterRegistry meterRegistry;
+    private ThumbnailService thumbnailService;
+
+    @BeforeEach
+    void setUp() {
+        storage = new LocalAttachmentStorage(root.toString());
+        meterRegistry = new SimpleMeterRegistry();
+        thumbnailService = new ThumbnailService(storage, meterRegistry, 1, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        thumbnailService.shutdown();
+    }
+
+    @Test
+    @DisplayName("성공: 원본 비율을 유지한 모든 크기의 썸네일이 원본 옆에 생성된다")
+    void generate_allSizes() throws Exception {
+        // Given: 2000x1000 PNG 원본
+        String hash = storePng(2000, 1000);
+        assertThat(thumbnailService.find(hash, ThumbnailSize.SMALL)).isEmpty();
+
+        // When
+        thumbnailService.generate(hash);
+
+        // Then
+        for (ThumbnailSize size : ThumbnailSize.values()) {
+            Path path = thumbnailService.find(hash, size).orElseThrow();
+            assertThat(path.getParent()).isEqualTo(storage.resolve(hash).getParent());
+
+            BufferedImage thumbnail = ImageIO.read(path.toFile());
+            assertThat(thumbnail.getWidth()).isEqualTo(size.getMaxEdge());
+            assertThat(thumbnail.getHeight()).isEqualTo(size.getMaxEdge() / 2);
+        }
+        assertThat(meterRegistry.get("attachment.thumbnail.processing").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실패: 이미지가 아닌 파일은 썸네일을 만들지 않고 실패 지표를 남긴다")
+    void generate_fail_notImage() throws Exception {
+        // Given
+        String hash = storage.store(Channels.newChannel(new ByteArrayInputStream("not an image".getBytes())), Long.MAX_VALUE)
+                .contentHash();
+
+        // When
+        thumbnailService.generate(hash);
+
+        // Then
+        assertThat(thumbnailService.find(hash, ThumbnailSize.SMALL)).isEmpty();
+        assertThat(meterRegistry.get("attachment.thumbnail.failed").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("성공: 이미지 MIME 타입만 썸네일 대상으로 판단한다")
+    void isSupported() {
+        assertThat(thumbnailService.isSupported("image/png")).isTrue();
+        assertThat(thumbnailService.isSupported("image/jpeg; charset=binary")).isTrue();
+        assertThat(thumbnailService.isSupported("application/pdf")).isFalse();
+        assertThat(thumbnailService.isSupported(null)).isFalse();
+    }
+
+    private String storePng(int width, int height) throws Exception {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return storage.store(Channels.newChannel(new ByteArrayInputStream(out.toByteArray())), Long.MAX_VALUE)
+                .contentHash();
+    }
+}
@@ -1,15 +1,18 @@
 package com.standardboard.backend.service.auth;
 
+import com.standardboard.backend.audit.AuditEventType;
+import com.standardboard.backend.audit.AuditLog;
+import com.standardboard.backend.audit.AuditReason;
 import com.standardboard.backend.domain.user.Role;
 import com.standardboard.backend.domain.user.User;
 import com.standardboard.backend.dto.auth.LoginRequest;
 import com.standardboard.backend.dto.auth.SignUpRequest;
 import com.standardboard.backend.repository.user.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -29,15 +32,17 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class) // Mockito 사용을 위한 확장
 class AuthServiceTest {
 
-    // 테스트 대상 객체에 Mock 객체를 주입 (실제 인스턴스)
-    @InjectMocks
+    // 테스트 대상 객체 (Mock 의존성과 메모리 지표 레지스트리로 직접 생성)
     private AuthService authService;
+    private SimpleMeterRegistry meterRegistry;
 
     // 의존성 객체를 Mock으로 생성
     @Mock
     private UserRepository userRepository;
     @Mock
     private PasswordEncoder passwordEncoder;
+    @Mock
+    private AuditLog auditLog;
 
     // 테스트용 사용자 정보
     private SignUpRequest signUpRequest;
@@ -47,6 +52,9 @@ class AuthServiceTest {
 
     @BeforeEach
     void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        authService = new AuthService(userRepository, passwordEncoder, auditLog, meterRegistry);
+
         // 회원가입 요청 데이터
         signUpRequest = new SignUpRequest();
         signUpRequest.setEmail("test@example.com");
@@ -91,6 +99,8 @@ class AuthServiceTest {
         assertThat(savedUser.getEmail()).isEqualTo(signUpRequest.getEmail());
         assertThat(savedUser.getPassword()).isEqualTo(encodedPassword);
         assertThat(savedUser.getRole()).isEqualTo(Role.USER);
+        // 3. 감사 로그에 가입이 기록되었는지 확인
+        verify(auditLog).record(AuditEventType.SIGNUP, AuditReason.NONE, null, "test@example.com");
     }
 
     @Test
@@ -131,6 +141,8 @@ class AuthServiceTest {
 
         // Then
         assertThat(authenticatedUser.getEmail()).isEqualTo(testUser.getEmail());
+        assertThat(loginCount("success")).isEqualTo(1.0);
+        verify(auditLog).record(AuditEventType.LOGIN_SUCCESS, AuditReason.NONE, null, "test@example.com");
     }
 
     @Test
@@ -141,6 +153,8 @@ class AuthServiceTest {
 
         // When & Then
         assertThrows(IllegalArgumentException.class, () -> authService.login(loginRequest));
+        assertThat(loginCount("user_not_found")).isEqualTo(1.0);
+        verify(auditLog).record(AuditEventType.LOGIN_FAILURE, AuditReason.USER_NOT_FOUND, null, "test@example.com");
     }
 
     @Test
@@ -153,5 +167,11 @@ class AuthServiceTest {
 
         // When & Then
         assertThrows(IllegalArgumentException.class, () -> authService.login(loginRequest));
+        assertThat(loginCount("bad_password")).isEqualTo(1.0);
+        verify(auditLog).record(AuditEventType.LOGIN_FAILURE, AuditReason.BAD_PASSWORD, null, "test@example.com");
+    }
+
+    private double loginCount(String outcome) {
+        return meterRegistry.get("auth.login").tag("outcome", outcome).counter().count();
     }
 }
\ No newline at end of file
@@ -0,0 +1,119 @@
+package com.standardboard.backend.service.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.standardboard.backend.domain.user.Role;
+import com.standardboard.backend.domain.user.User;
+import com.standardboard.backend.repository.user.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * UserExportService 단위 테스트 (Unit Test)
+ */
+@ExtendWith(MockitoExtension.class)
+class UserExportServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private EntityManager entityManager;
+
+    private UserExportService userExportService;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        userExportService = new UserExportService(userRepository, entityManager, objectMapper);
+    }
+
+    @Test
+    @DisplayName("성공: NDJSON으로 한 줄에 한 명씩 기록하고, 청크마다 영속성 컨텍스트를 비운다")
+    void exportUsers_ndjson() throws Exception {
+        // Given: 청크 크기(500)의 2배 + 1명
+        int total = UserRepository.EXPORT_FETCH_SIZE * 2 + 1;
+        when(userRepository.streamAllForExport()).thenReturn(users(total));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long count = userExportService.exportUsers(out, ExportFormat.NDJSON, false);
+
+        // Then
+        String content = out.toString(StandardCharsets.UTF_8);
+        String[] lines = content.split("\n");
+        assertThat(content).endsWith("}\n"); // 마지막 행도 줄바꿈으로 끝남
+        assertThat(count).isEqualTo(total);
+        assertThat(lines).hasSize(total);
+        assertThat(lines[0]).contains("\"email\":\"user0@test.com\"").doesNotContain("password");
+        assertThat(lines[total - 1]).startsWith("{\"");
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    @DisplayName("성공: CSV는 헤더를 쓰고, 특수문자와 수식으로 시작하는 값을 안전하게 인용한다")
+    void exportUsers_csvEscaping() throws Exception {
+        // Given
+        User user = User.builder()
+                .email("a@test.com")
+                .password("secret")
+                .nickname("=HYPERLINK(\"x\"),1")
+                .role(Role.USER)
+                .build();
+        when(userRepository.streamAllForExport()).thenReturn(Stream.of(user));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        userExportService.exportUsers(out, ExportFormat.CSV, false);
+
+        // Then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertThat(lines[0]).isEqualTo("id,email,nickname,role,createdAt");
+        assertThat(lines[1]).isEqualTo(",a@test.com,\"'=HYPERLINK(\"\"x\"\"),1\",USER,");
+    }
+
+    @Test
+    @DisplayName("성공: gzip 옵션이면 압축된 스트림을 기록한다")
+    void exportUsers_gzip() throws Exception {
+        // Given
+        when(userRepository.streamAllForExport()).thenReturn(users(3));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        userExportService.exportUsers(out, ExportFormat.NDJSON, true);
+
+        // Then
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            String content = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            assertThat(content.split("\n")).hasSize(3);
+            assertThat(content).endsWith("}\n");
+        }
+    }
+
+    private static Stream<User> users(int count) {
+        return IntStream.range(0, count).mapToObj(i -> User.builder()
+                .email("user" + i + "@test.com")
+                .password("encoded")
+                .nickname("user" + i)
+                .role(Role.USER)
+                .build());
+    }
+}
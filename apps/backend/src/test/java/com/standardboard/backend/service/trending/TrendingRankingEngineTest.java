@@ -0,0 +1,206 @@
+package com.standardboard.backend.service.trending;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * TrendingRankingEngine 단위 테스트 (Unit Test)
+ */
+class TrendingRankingEngineTest {
+
+    private static final long BOARD_ID = 1L;
+
+    // 테스트 기준 시각 (고정 Clock)
+    private final Instant now = Instant.parse("2026-01-01T12:00:00Z");
+    private TrendingRankingEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        // 반감기 12시간, Top-3, 가중치(조회 1, 좋아요 4, 댓글 8)
+        engine = new TrendingRankingEngine(12, 3, 1, 4, 8, List.of(), Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("성공: 가중치가 큰 반응을 받은 게시글이 상위에 노출된다")
+    void top_orderedByWeightedEngagement() {
+        // Given
+        engine.record(BOARD_ID, 10L, EngagementType.VIEW, now);
+        engine.record(BOARD_ID, 20L, EngagementType.COMMENT, now);
+        engine.record(BOARD_ID, 30L, EngagementType.LIKE, now);
+
+        // When
+        List<TrendingRankingEngine.TrendingPost> top = engine.top(BOARD_ID, 10);
+
+        // Then
+        assertThat(top).extracting(TrendingRankingEngine.TrendingPost::postId).containsExactly(20L, 30L, 10L);
+        assertThat(top.get(0).score()).isCloseTo(8.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("성공: 반감기만큼 지난 반응은 점수가 절반으로 감쇠된다")
+    void top_decaysByHalfLife() {
+        // Given: 12시간 전에 좋아요 1개(4점) vs 방금 조회 3개(3점)
+        engine.record(BOARD_ID, 10L, EngagementType.LIKE, now.minus(Duration.ofHours(12)));
+        for (int i = 0; i < 3; i++) {
+            engine.record(BOARD_ID, 20L, EngagementType.VIEW, now);
+        }
+
+        // When
+        List<TrendingRankingEngine.TrendingPost> top = engine.top(BOARD_ID, 10);
+
+        // Then: 4 * 1/2 = 2 < 3
+        assertThat(top).extracting(TrendingRankingEngine.TrendingPost::postId).containsExactly(20L, 10L);
+        assertThat(top.get(1).score()).isCloseTo(2.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("성공: Top-K를 넘는 게시글은 밀려나고, 점수가 오르면 다시 진입한다")
+    void top_keepsOnlyTopK() {
+        // Given
+        for (long postId = 1; postId <= 4; postId++) {
+            for (int i = 0; i < postId; i++) {
+                engine.record(BOARD_ID, postId, EngagementType.VIEW, now);
+            }
+        }
+        assertThat(engine.top(BOARD_ID, 10)).extracting(TrendingRankingEngine.TrendingPost::postId)
+                .containsExactly(4L, 3L, 2L);
+
+        // When: 밀려난 1번 게시글에 댓글이 달림 (1 + 8 = 9점)
+        engine.record(BOARD_ID, 1L, EngagementType.COMMENT, now);
+
+        // Then
+        assertThat(engine.top(BOARD_ID, 10)).extracting(TrendingRankingEngine.TrendingPost::postId)
+                .containsExactly(1L, 4L, 3L);
+    }
+
+    @Test
+    @DisplayName("성공: 삭제된 게시글은 순위에서 제외되고, 다른 게시판과 섞이지 않는다")
+    void remove_andBoardIsolation() {
+        // Given
+        engine.record(BOARD_ID, 10L, EngagementType.LIKE, now);
+        engine.record(BOARD_ID, 20L, EngagementType.VIEW, now);
+        engine.record(2L, 30L, EngagementType.COMMENT, now);
+
+        // When
+        engine.remove(10L);
+
+        // Then
+        assertThat(engine.top(BOARD_ID, 10)).extracting(TrendingRankingEngine.TrendingPost::postId).containsExactly(20L);
+        assertThat(engine.top(2L, 10)).extracting(TrendingRankingEngine.TrendingPost::postId).containsExactly(30L);
+    }
+
+    @Test
+    @DisplayName("성공: Top-K에서 게시글이 삭제되거나 다른 게시판으로 옮겨지면 빈자리를 다음 순위 글로 채운다")
+    void remove_refillsTopK() {
+        // Given: Top-3에 4, 3, 2번, 밖에 1번
+        recordViews(BOARD_ID, 4);
+
+        // When: 1위 삭제
+        engine.remove(4L);
+
+        // Then
+        assertThat(engine.top(BOARD_ID, 10)).extracting(TrendingRankingEngine.TrendingPost::postId)
+                .containsExactly(3L, 2L, 1L);
+
+        // When & Then: 새 글이 들어와 1번이 밀려난 뒤, 2위가 다른 게시판으로 이동
+        engine.record(BOARD_ID, 5L, EngagementType.LIKE, now);
+        engine.record(2L, 3L, EngagementType.VIEW, now);
+        assertThat(engine.top(BOARD_ID, 10)).extracting(TrendingRankingEngine.TrendingPost::postId)
+                .containsExactly(5L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("성공: 점수 정리는 Top-K 밖 게시글을 게시판마다 다음 순위 K개만 남기고, 순위는 그대로 유지한다")
+    void prune_keepsTopKAndReserve() {
+        // Given: Top-3 게시판에 10개, 다른 게시판에 2개
+        recordViews(BOARD_ID, 10);
+        engine.record(2L, 100L, EngagementType.VIEW, now);
+        engine.record(2L, 200L, EngagementType.VIEW, now);
+
+        // When
+        engine.prune();
+
+        // Then: 1번 게시판 3 + 3개, 2번 게시판(가득 차지 않음) 2개
+        assertThat(engine.trackedPostCount()).isEqualTo(8);
+        assertThat(engine.top(BOARD_ID, 10)).extracting(TrendingRankingEngine.TrendingPost::postId)
+                .containsExactly(10L, 9L, 8L);
+
+        // When & Then: 남겨 둔 다음 순위로 빈자리를 채움
+        engine.remove(10L);
+        engine.remove(9L);
+        assertThat(engine.top(BOARD_ID, 10)).extracting(TrendingRankingEngine.TrendingPost::postId)
+                .containsExactly(8L, 7L, 6L);
+    }
+
+    @Test
+    @DisplayName("성공: 기동 시 TrendingSeedSource의 누적 반응으로 순위를 재구성한다")
+    void rebuild_fromSeedSource() {
+        // Given
+        TrendingSeedSource source = sink -> {
+            sink.accept(new TrendingSeed(BOARD_ID, 10L, 10, 0, 0, now));
+            sink.accept(new TrendingSeed(BOARD_ID, 20L, 0, 1, 1, now));
+            sink.accept(new TrendingSeed(BOARD_ID, 30L, 0, 0, 0, now)); // 반응 없음 -> 제외
+        };
+        engine = new TrendingRankingEngine(12, 3, 1, 4, 8, List.of(source), Clock.fixed(now, ZoneOffset.UTC));
+
+        // When
+        engine.rebuild();
+
+        // Then: 20번 = 4 + 8 = 12점, 10번 = 10점
+        List<TrendingRankingEngine.TrendingPost> top = engine.top(BOARD_ID, 10);
+        assertThat(top).extracting(TrendingRankingEngine.TrendingPost::postId).containsExactly(20L, 10L);
+        assertThat(top.get(0).score()).isCloseTo(12.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("성공: Top-K의 구성이나 순서가 바뀔 때만 게시판 순위 변경을 알린다")
+    void rankingChanged_onlyWhenOrderChanges() {
+        // Given: Top-3, 변경 알림을 기록
+        List<Long> changed = new ArrayList<>();
+        engine = new TrendingRankingEngine(12, 3, 1, 4, 8, List.of(), Clock.fixed(now, ZoneOffset.UTC), changed::add);
+        engine.record(BOARD_ID, 10L, EngagementType.COMMENT, now); // 10: 8점
+        engine.record(BOARD_ID, 20L, EngagementType.LIKE, now); // 20: 4점
+        assertThat(changed).containsExactly(BOARD_ID, BOARD_ID); // 새로 진입
+        changed.clear();
+
+        // When & Then: 1위의 점수만 오름 -> 순서 그대로
+        engine.record(BOARD_ID, 10L, EngagementType.VIEW, now);
+        assertThat(changed).isEmpty();
+
+        // When & Then: 2위가 1위를 넘어섬 -> 순서 변경
+        engine.record(BOARD_ID, 20L, EngagementType.COMMENT, now); // 20: 12점
+        assertThat(changed).containsExactly(BOARD_ID);
+        changed.clear();
+
+        // When & Then: 다른 게시판의 반응, Top-K 밖에 머무는 반응은 알리지 않음
+        engine.record(BOARD_ID, 30L, EngagementType.VIEW, now); // 3위로 진입
+        engine.record(BOARD_ID, 40L, EngagementType.VIEW, now.minus(Duration.ofHours(48))); // 30보다 낮아 진입 못함
+        engine.record(2L, 50L, EngagementType.VIEW, now);
+        assertThat(changed).containsExactly(BOARD_ID, 2L);
+        changed.clear();
+
+        // When & Then: 삭제
+        engine.remove(30L);
+        assertThat(changed).containsExactly(BOARD_ID);
+    }
+
+    // 게시글 1..count번에 각각 ID만큼 조회를 기록합니다. (ID가 클수록 점수가 높음)
+    private void recordViews(long boardId, int count) {
+        for (long postId = 1; postId <= count; postId++) {
+            for (int i = 0; i < postId; i++) {
+                engine.record(boardId, postId, EngagementType.VIEW, now);
+            }
+        }
+    }
+}